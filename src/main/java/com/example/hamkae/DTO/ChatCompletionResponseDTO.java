@@ -0,0 +1,69 @@
+package com.example.hamkae.DTO;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * OpenAI Chat Completions API 응답을 위한 DTO
+ * 응답 본문을 문자열로 모으지 않고 Jackson 디코더가 토큰 단위로 바로 매핑합니다.
+ * 검증에 필요한 필드만 선언하며, 나머지 필드는 무시합니다.
+ *
+ * @param id 응답 ID
+ * @param model 응답을 생성한 모델명
+ * @param choices 생성된 응답 목록
+ * @param usage 토큰 사용량
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChatCompletionResponseDTO(
+        String id,
+        String model,
+        List<Choice> choices,
+        Usage usage) {
+
+    /**
+     * 생성된 응답
+     *
+     * @param index 응답 순번
+     * @param message 응답 메시지
+     * @param finishReason 생성 종료 사유 (stop, length, content_filter 등)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(
+            int index,
+            Message message,
+            @JsonProperty("finish_reason") String finishReason) {
+    }
+
+    /**
+     * 응답 메시지
+     *
+     * @param role 메시지 역할
+     * @param content 응답 본문 (JSON 스키마 모드에서는 스키마를 따르는 JSON 문자열)
+     * @param refusal 모델이 응답을 거절한 경우 그 사유
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Message(
+            String role,
+            String content,
+            String refusal) {
+    }
+
+    /**
+     * 토큰 사용량
+     *
+     * @param promptTokens 입력 토큰 수
+     * @param completionTokens 출력 토큰 수
+     * @param totalTokens 전체 토큰 수
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Usage(
+            @JsonProperty("prompt_tokens") int promptTokens,
+            @JsonProperty("completion_tokens") int completionTokens,
+            @JsonProperty("total_tokens") int totalTokens) {
+    }
+}
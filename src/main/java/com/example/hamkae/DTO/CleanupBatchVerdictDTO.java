@@ -0,0 +1,42 @@
+package com.example.hamkae.DTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 여러 이미지 쌍을 한 번에 검증한 GPT 판정 목록을 위한 DTO
+ * 배치 모드 요청의 message.content(JSON 스키마 모드)를 매핑합니다.
+ *
+ * @param results 쌍 순번(index)별 판정 목록
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record CleanupBatchVerdictDTO(
+        @JsonProperty(value = "results", required = true) List<Item> results) {
+
+    /**
+     * 이미지 쌍 하나에 대한 판정
+     *
+     * @param index 요청에 포함된 쌍의 순번 (0부터)
+     * @param verificationResult 검증 결과
+     * @param confidence 검증 신뢰도
+     * @param reason 판단 근거
+     */
+    public record Item(
+            @JsonProperty(value = "index", required = true) Integer index,
+            @JsonProperty(value = "verification_result", required = true) CleanupVerdictDTO.Result verificationResult,
+            @JsonProperty(value = "confidence", required = true) Double confidence,
+            @JsonProperty(value = "reason", required = true) String reason) {
+
+        /**
+         * 단건 판정으로 변환합니다. 값이 스키마를 벗어나면 예외가 발생합니다.
+         *
+         * @return 단건 판정
+         */
+        public CleanupVerdictDTO toVerdict() {
+            return new CleanupVerdictDTO(verificationResult, confidence, reason);
+        }
+    }
+}
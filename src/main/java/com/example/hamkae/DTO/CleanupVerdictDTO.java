@@ -0,0 +1,41 @@
+package com.example.hamkae.DTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * GPT가 반환하는 청소 검증 판정을 위한 DTO
+ * Chat Completions 응답의 message.content(JSON 스키마 모드)를 매핑하며,
+ * 스키마를 벗어난 출력은 생성 시점에 예외를 던져 일관되게 거부합니다.
+ *
+ * @param verificationResult 검증 결과 (APPROVED/REJECTED)
+ * @param confidence 검증 신뢰도 (0.0 ~ 1.0)
+ * @param reason 판단 근거
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record CleanupVerdictDTO(
+        @JsonProperty(value = "verification_result", required = true) Result verificationResult,
+        @JsonProperty(value = "confidence", required = true) Double confidence,
+        @JsonProperty(value = "reason", required = true) String reason) {
+
+    /**
+     * 검증 결과 값
+     */
+    public enum Result {
+        APPROVED,
+        REJECTED
+    }
+
+    public CleanupVerdictDTO {
+        if (verificationResult == null) {
+            throw new IllegalArgumentException("verification_result 값이 없습니다.");
+        }
+        if (confidence == null || confidence.isNaN() || confidence < 0.0 || confidence > 1.0) {
+            throw new IllegalArgumentException("confidence 값이 0.0 ~ 1.0 범위를 벗어났습니다: " + confidence);
+        }
+        if (reason == null) {
+            throw new IllegalArgumentException("reason 값이 없습니다.");
+        }
+    }
+}
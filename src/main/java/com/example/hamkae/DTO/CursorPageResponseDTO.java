@@ -0,0 +1,128 @@
+package com.example.hamkae.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 DTO 클래스
+ * (생성일시, ID) 내림차순 목록의 한 페이지와 다음 페이지를 요청할 커서를 담습니다.
+ * 커서는 마지막 항목의 (생성일시, ID)를 인코딩한 불투명 문자열이며, 다음 요청의 cursor 파라미터로 그대로 전달합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ * @param <T> 항목 타입
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+
+    /**
+     * 페이지 크기 기본값
+     */
+    public static final int DEFAULT_SIZE = 20;
+
+    /**
+     * 페이지 크기 최댓값
+     */
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 페이지 항목 (최신순)
+     */
+    private List<T> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 한 페이지 크기만큼 더 읽은 목록(size + 1건)으로 페이지를 만듭니다.
+     *
+     * @param rows size + 1건까지 조회한 엔티티 목록
+     * @param size 페이지 크기
+     * @param mapper 응답 항목 변환 함수
+     * @param createdAt 커서용 생성일시 추출 함수
+     * @param id 커서용 ID 추출 함수
+     * @return 커서 페이지 응답
+     */
+    public static <E, T> CursorPageResponseDTO<T> of(List<E> rows, int size, Function<E, T> mapper,
+                                                     Function<E, LocalDateTime> createdAt, Function<E, Long> id) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        E last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageResponseDTO.<T>builder()
+                .items(page.stream().map(mapper).toList())
+                .nextCursor(hasNext && last != null ? Cursor.encode(createdAt.apply(last), id.apply(last)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 요청한 페이지 크기를 허용 범위로 맞춥니다.
+     *
+     * @param size 요청한 페이지 크기 (null이면 기본값)
+     * @return 1 ~ {@value #MAX_SIZE} 사이의 페이지 크기
+     */
+    public static int normalizeSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 목록 위치를 나타내는 (생성일시, ID) 커서
+     *
+     * @param createdAt 마지막 항목의 생성일시
+     * @param id 마지막 항목의 ID (생성일시가 같은 항목 사이의 순서)
+     */
+    public record Cursor(LocalDateTime createdAt, Long id) {
+
+        /**
+         * 커서를 URL에 그대로 쓸 수 있는 문자열로 인코딩합니다.
+         */
+        public static String encode(LocalDateTime createdAt, Long id) {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 커서 문자열을 해석합니다.
+         *
+         * @param cursor 인코딩된 커서 (비어 있으면 첫 페이지)
+         * @return 해석한 커서 (첫 페이지면 null)
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        public static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
+}
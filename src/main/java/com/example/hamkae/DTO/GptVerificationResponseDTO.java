@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
  * @since 2025-08-15
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class GptVerificationResponseDTO {
@@ -46,8 +46,58 @@ public class GptVerificationResponseDTO {
      */
     private String errorMessage;
 
+    /**
+     * 판단 근거 요약
+     */
+    private String reason;
+
     /**
      * 검증 완료 시점의 타임스탬프
      */
     private String verifiedAt;
+
+    /**
+     * 검증에 사용된 모델명
+     */
+    private String model;
+
+    /**
+     * 검증에 사용된 프롬프트 버전
+     */
+    private String promptVersion;
+
+    /**
+     * 검증 1건의 전체 소요 시간 (밀리초)
+     */
+    private Long latencyMs;
+
+    /**
+     * 입력 토큰 수 (배치 요청이면 쌍 수로 나눈 값)
+     */
+    private Integer promptTokens;
+
+    /**
+     * 출력 토큰 수 (배치 요청이면 쌍 수로 나눈 값)
+     */
+    private Integer completionTokens;
+
+    /**
+     * 결과 캐시 적중 여부
+     */
+    private boolean cached;
+
+    /**
+     * 전송 이미지 인코딩 프로필
+     */
+    private String imageProfile;
+
+    /**
+     * high detail 재확인 여부
+     */
+    private boolean escalated;
+
+    /**
+     * 실패 시 예외 클래스명
+     */
+    private String errorClass;
 }
@@ -0,0 +1,50 @@
+package com.example.hamkae.DTO;
+
+import com.example.hamkae.service.LeaderboardService;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리더보드 순위 항목 응답 DTO
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryResponseDTO {
+
+    /**
+     * 순위 (동점은 같은 순위, 순위가 없으면 null)
+     */
+    private Integer rank;
+
+    /**
+     * 사용자 이름
+     */
+    private String name;
+
+    /**
+     * 점수 (전체 기간: 보유 포인트, 주간: 이번 주 적립 포인트)
+     */
+    private Long score;
+
+    /**
+     * LeaderboardEntry를 LeaderboardEntryResponseDTO로 변환하는 정적 팩토리 메서드
+     * 
+     * @param entry 변환할 순위 항목
+     * @return LeaderboardEntryResponseDTO 객체
+     */
+    public static LeaderboardEntryResponseDTO from(LeaderboardService.LeaderboardEntry entry) {
+        return LeaderboardEntryResponseDTO.builder()
+                .rank(entry.rank())
+                .name(entry.name())
+                .score(entry.score())
+                .build();
+    }
+}
@@ -83,10 +83,6 @@ public class MarkerResponseDTO {
      * @return MarkerResponseDTO 객체
      */
     public static MarkerResponseDTO from(Marker marker) {
-        // 디버깅: 주소 정보 확인
-        String markerAddress = marker.getAddress();
-        System.out.println("[DEBUG] MarkerResponseDTO.from - 마커 ID: " + marker.getId() + ", 주소: " + markerAddress);
-        
         return MarkerResponseDTO.builder()
                 .id(marker.getId())
                 .lat(marker.getLat())
@@ -105,6 +101,8 @@ public class MarkerResponseDTO {
 
     /**
      * 사진 간단 정보를 담는 내부 DTO
+     * 목록 응답 크기를 줄이기 위해 AI 검증 결과는 요약 필드만 담으며,
+     * 모델 원문 응답은 verificationAttemptId로 GET /ai-verification/attempts/{attemptId}/raw 에서 조회합니다.
      */
     @Data
     @Builder
@@ -116,30 +114,26 @@ public class MarkerResponseDTO {
         private Long id;
         private String type;
         private String imagePath;
-        private String gptResponse; // GPT API 응답 결과 추가
+        private String verificationStatus; // AI 검증 상태
+        private Double verificationConfidence; // AI 검증 신뢰도
+        private String verificationReason; // AI 검증 판단 근거 요약
+        private Long verificationAttemptId; // 원문 응답 조회용 검증 시도 ID
         private LocalDateTime verifiedAt; // AI 검증 완료 시점 추가
 
         public static PhotoSimpleDTO from(com.example.hamkae.domain.Photo photo) {
-            // 디버깅: GPT 응답과 검증 시점 확인
-            System.out.println("[DEBUG] PhotoSimpleDTO.from - 사진 ID: " + photo.getId() + 
-                             ", 타입: " + photo.getType() + 
-                             ", GPT 응답: " + (photo.getGptResponse() != null ? "있음" : "없음") + 
-                             ", 검증시점: " + photo.getVerifiedAt());
-            
             return PhotoSimpleDTO.builder()
                     .id(photo.getId())
                     .type(photo.getType().name())
                     .imagePath(photo.getImagePath())
-                    .gptResponse(photo.getGptResponse()) // GPT 응답 포함
+                    .verificationStatus(photo.getVerificationStatus().name())
+                    .verificationConfidence(photo.getVerificationConfidence())
+                    .verificationReason(photo.getVerificationReason())
+                    .verificationAttemptId(photo.getVerificationAttemptId())
                     .verifiedAt(photo.getVerifiedAt()) // AI 검증 완료 시점 포함
                     .build();
         }
 
         // Lombok @Data가 제대로 작동하지 않을 경우를 대비한 수동 getter 메서드
-        public String getGptResponse() {
-            return this.gptResponse;
-        }
-
         public LocalDateTime getVerifiedAt() {
             return this.verifiedAt;
         }
@@ -52,9 +52,19 @@ public class PhotoResponseDTO {
     private String verificationStatus;
 
     /**
-     * GPT API 응답 결과
+     * AI 검증 신뢰도
      */
-    private String gptResponse;
+    private Double verificationConfidence;
+
+    /**
+     * AI 검증 판단 근거 요약
+     */
+    private String verificationReason;
+
+    /**
+     * 원문 응답 조회용 검증 시도 ID
+     */
+    private Long verificationAttemptId;
 
     /**
      * 사진 업로드일시
@@ -75,7 +85,9 @@ public class PhotoResponseDTO {
                 .imagePath(photo.getImagePath())
                 .type(photo.getType().name())
                 .verificationStatus(photo.getVerificationStatus().name())
-                .gptResponse(photo.getGptResponse())
+                .verificationConfidence(photo.getVerificationConfidence())
+                .verificationReason(photo.getVerificationReason())
+                .verificationAttemptId(photo.getVerificationAttemptId())
                 .createdAt(photo.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,52 @@
+package com.example.hamkae.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 포인트 대량 적립 요청을 위한 DTO
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointBatchAwardRequestDTO {
+
+    /**
+     * 적립 사유
+     * 예: "지구의 날 보너스"
+     */
+    private String description;
+
+    /**
+     * 사용자별 적립 목록
+     */
+    private List<Award> awards;
+
+    /**
+     * 한 사용자에게 적립할 포인트
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Award {
+
+        /**
+         * 적립받을 사용자 ID
+         */
+        private Long userId;
+
+        /**
+         * 적립할 포인트 (양수)
+         */
+        private Integer points;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.hamkae.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 지급 캠페인 생성 요청을 위한 DTO
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointCampaignRequestDTO {
+
+    /**
+     * 캠페인 이름 (포인트 이력의 적립 사유로도 사용)
+     * 예: "지구의 날 두 배 포인트"
+     */
+    private String name;
+
+    /**
+     * 대상 청소 인증 기간 시작 (포함)
+     */
+    private LocalDateTime periodStart;
+
+    /**
+     * 대상 청소 인증 기간 종료 (미포함)
+     */
+    private LocalDateTime periodEnd;
+
+    /**
+     * 대상 지역 위도/경도 범위 (선택, 네 값을 모두 입력)
+     */
+    private BigDecimal minLat;
+    private BigDecimal maxLat;
+    private BigDecimal minLng;
+    private BigDecimal maxLng;
+
+    /**
+     * 대상 지역 주소 키워드 (선택)
+     * 예: "성북구"
+     */
+    private String addressKeyword;
+
+    /**
+     * 대상 사용자 1명당 지급 포인트 (기본값 0)
+     */
+    private Integer pointsPerUser;
+
+    /**
+     * 청소 인증 1건당 추가 지급 포인트 (기본값 0)
+     */
+    private Integer pointsPerCleanup;
+
+    /**
+     * 인증으로 적립한 포인트에 대한 추가 지급 비율 (%, 기본값 0, 100이면 두 배 포인트)
+     */
+    private Integer bonusPercentOfEarned;
+}
@@ -0,0 +1,102 @@
+package com.example.hamkae.DTO;
+
+import com.example.hamkae.domain.PointCampaign;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 지급 캠페인 조회를 위한 응답 DTO
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointCampaignResponseDTO {
+
+    /**
+     * 캠페인 ID
+     */
+    private Long id;
+
+    /**
+     * 캠페인 이름
+     */
+    private String name;
+
+    /**
+     * 대상 청소 인증 기간
+     */
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+
+    /**
+     * 캠페인 상태 (PENDING/RUNNING/COMPLETED/FAILED)
+     */
+    private String status;
+
+    /**
+     * 선정된 대상 사용자 수와 지급 예정 포인트 (선정 전에는 null)
+     */
+    private Integer selectedUsers;
+    private Long selectedPoints;
+
+    /**
+     * 지금까지 지급한 사용자 수와 포인트
+     */
+    private Integer grantedUsers;
+    private Long grantedPoints;
+
+    /**
+     * 진행률 (%, 선정 전에는 0)
+     */
+    private Integer progressPercent;
+
+    /**
+     * 마지막 실패 사유
+     */
+    private String lastError;
+
+    /**
+     * 생성일시와 완료일시
+     */
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * PointCampaign 엔티티를 PointCampaignResponseDTO로 변환하는 정적 팩토리 메서드
+     * 
+     * @param campaign 변환할 PointCampaign 엔티티
+     * @return 변환된 PointCampaignResponseDTO
+     */
+    public static PointCampaignResponseDTO from(PointCampaign campaign) {
+        int progress = 0;
+        if (campaign.getStatus() == PointCampaign.CampaignStatus.COMPLETED) {
+            progress = 100;
+        } else if (campaign.getSelectedUsers() != null && campaign.getSelectedUsers() > 0) {
+            progress = (int) (campaign.getGrantedUsers() * 100L / campaign.getSelectedUsers());
+        }
+        return PointCampaignResponseDTO.builder()
+                .id(campaign.getId())
+                .name(campaign.getName())
+                .periodStart(campaign.getPeriodStart())
+                .periodEnd(campaign.getPeriodEnd())
+                .status(campaign.getStatus().name())
+                .selectedUsers(campaign.getSelectedUsers())
+                .selectedPoints(campaign.getSelectedPoints())
+                .grantedUsers(campaign.getGrantedUsers())
+                .grantedPoints(campaign.getGrantedPoints())
+                .progressPercent(progress)
+                .lastError(campaign.getLastError())
+                .createdAt(campaign.getCreatedAt())
+                .completedAt(campaign.getCompletedAt())
+                .build();
+    }
+}
@@ -46,6 +46,16 @@ public class PointHistoryResponseDTO {
      */
     private Long relatedPhotoId;
 
+    /**
+     * 사용자별 원장 순번
+     */
+    private Long sequence;
+
+    /**
+     * 변동 직후 잔액
+     */
+    private Integer balanceAfter;
+
     /**
      * 포인트 변동일시
      */
@@ -65,6 +75,8 @@ public class PointHistoryResponseDTO {
                 .description(pointHistory.getDescription())
                 .relatedPhotoId(pointHistory.getRelatedPhoto() != null ? 
                         pointHistory.getRelatedPhoto().getId() : null)
+                .sequence(pointHistory.getSequence())
+                .balanceAfter(pointHistory.getBalanceAfter())
                 .createdAt(pointHistory.getCreatedAt())
                 .build();
     }
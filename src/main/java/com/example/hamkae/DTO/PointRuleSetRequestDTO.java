@@ -0,0 +1,55 @@
+package com.example.hamkae.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 청소 인증 포인트 규칙 등록 요청을 위한 DTO
+ * 구간 규칙은 "기준=값" 쌍을 쉼표로 구분해 입력하며, 비워 두면 해당 규칙을 사용하지 않습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointRuleSetRequestDTO {
+
+    /**
+     * 기본 포인트 (비우면 ai.verification.points.reward 설정값)
+     */
+    private Integer basePoints;
+
+    /**
+     * 신뢰도 구간 보너스 (신뢰도 이상=보너스)
+     * 예: "0.8=1000,0.95=2000"
+     */
+    private String confidenceBands;
+
+    /**
+     * 오늘 첫 청소 인증 보너스
+     */
+    private Integer firstOfDayBonus;
+
+    /**
+     * 연속 청소 보너스 (오늘 포함 연속 일수 이상=보너스, 최대 60일)
+     * 예: "3=500,7=1500"
+     */
+    private String streakBonuses;
+
+    /**
+     * 지역 배율 (마커 주소 키워드=배율 %)
+     * 예: "성북구=150"
+     */
+    private String districtMultipliers;
+
+    /**
+     * 마커 경과 시간 보너스 (신고 후 경과 시간 이상=보너스)
+     * 예: "72=500"
+     */
+    private String markerAgeBonuses;
+}
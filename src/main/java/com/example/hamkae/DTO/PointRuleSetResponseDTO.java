@@ -0,0 +1,75 @@
+package com.example.hamkae.DTO;
+
+import com.example.hamkae.service.PointRules;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 적용 중인 청소 인증 포인트 규칙 조회를 위한 응답 DTO
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointRuleSetResponseDTO {
+
+    /**
+     * 규칙 버전 (0이면 설정 파일 규칙, 그 외에는 규칙 세트 ID)
+     */
+    private Long version;
+
+    /**
+     * 기본 포인트
+     */
+    private Integer basePoints;
+
+    /**
+     * 신뢰도 구간 보너스
+     */
+    private String confidenceBands;
+
+    /**
+     * 오늘 첫 청소 인증 보너스
+     */
+    private Integer firstOfDayBonus;
+
+    /**
+     * 연속 청소 보너스
+     */
+    private String streakBonuses;
+
+    /**
+     * 지역 배율
+     */
+    private String districtMultipliers;
+
+    /**
+     * 마커 경과 시간 보너스
+     */
+    private String markerAgeBonuses;
+
+    /**
+     * 컴파일된 규칙을 응답 DTO로 변환합니다.
+     *
+     * @param rules 컴파일된 규칙
+     * @return 규칙 응답 DTO
+     */
+    public static PointRuleSetResponseDTO from(PointRules rules) {
+        PointRules.Definition definition = rules.definition();
+        return PointRuleSetResponseDTO.builder()
+                .version(rules.version())
+                .basePoints(rules.basePoints())
+                .confidenceBands(definition.confidenceBands())
+                .firstOfDayBonus(definition.firstOfDayBonus())
+                .streakBonuses(definition.streakBonuses())
+                .districtMultipliers(definition.districtMultipliers())
+                .markerAgeBonuses(definition.markerAgeBonuses())
+                .build();
+    }
+}
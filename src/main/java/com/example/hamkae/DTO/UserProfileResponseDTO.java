@@ -1,6 +1,7 @@
 package com.example.hamkae.DTO;
 
 import com.example.hamkae.domain.User;
+import com.example.hamkae.service.UserActivityStatsService;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -118,4 +119,29 @@ public class UserProfileResponseDTO {
         dto.setIssuedPinsCount(issuedPinsCount);
         return dto;
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시된 활동 통계로 UserProfileResponseDTO를 생성하는 정적 팩토리 메서드
+     * 연관 컬렉션(제보 마커, 업로드 사진, 교환 내역)을 초기화하지 않습니다.
+     * 
+     * @param user 변환할 User 엔티티
+     * @param stats 사용자 활동 통계
+     * @return 포인트 통계를 포함한 UserProfileResponseDTO 객체
+     */
+    public static UserProfileResponseDTO withActivityStats(User user, UserActivityStatsService.ActivityStats stats) {
+        return UserProfileResponseDTO.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .username(user.getUsername())
+                .points(user.getPoints())
+                .totalEarnedPoints(stats.totalEarnedPoints())
+                .totalUsedPoints(stats.totalUsedPoints())
+                .issuedPinsCount(stats.issuedPinsCount())
+                .reportedMarkersCount(stats.reportedMarkersCount())
+                .uploadedPhotosCount(stats.uploadedPhotosCount())
+                .rewardExchangeCount(stats.rewardExchangeCount())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.hamkae.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 권한 확인 컴포넌트
+ * 사용자 엔티티에 역할 정보가 없으므로, 설정(app.admin.usernames)에 등록된 아이디만 관리자로 인정합니다.
+ * 설정이 비어 있으면 관리자가 없으므로 관리자 API는 모두 거부됩니다.
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class AdminAuthorization {
+
+    private final Set<String> adminUsernames;
+
+    public AdminAuthorization(@Value("${app.admin.usernames:}") String adminUsernames) {
+        this.adminUsernames = Arrays.stream(adminUsernames.split(","))
+                .map(String::trim)
+                .filter(username -> !username.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 관리자 아이디인지 확인합니다.
+     * 
+     * @param username JWT에서 확인한 사용자 아이디
+     * @return 관리자이면 true
+     */
+    public boolean isAdmin(String username) {
+        return username != null && adminUsernames.contains(username);
+    }
+}
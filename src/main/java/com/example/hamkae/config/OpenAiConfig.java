@@ -1,21 +1,25 @@
 package com.example.hamkae.config;
 
 import com.theokanning.openai.service.OpenAiService;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
 /**
  * OpenAI GPT API 설정 클래스
  * GPT API 클라이언트를 설정하고 Bean으로 등록합니다.
- * 
+ *
  * @author 윤준하
- * @version 1.0
+ * @version 1.1
  * @since 2025-08-15
  */
 @Configuration
@@ -27,9 +31,24 @@ public class OpenAiConfig {
     @Value("${openai.api.timeout:30000}")
     private Long timeout;
 
+    @Value("${openai.api.base-url:https://api.openai.com}")
+    private String baseUrl;
+
+    @Value("${openai.api.connect-timeout:5000}")
+    private Integer connectTimeout;
+
+    @Value("${openai.api.pool.max-connections:50}")
+    private Integer maxConnections;
+
+    @Value("${openai.api.pool.pending-acquire-timeout:10000}")
+    private Long pendingAcquireTimeout;
+
+    @Value("${openai.api.pool.max-idle-time:30000}")
+    private Long maxIdleTime;
+
     /**
      * OpenAI 서비스 Bean을 생성합니다.
-     * 
+     *
      * @return OpenAiService 인스턴스
      */
     @Bean
@@ -39,11 +58,23 @@ public class OpenAiConfig {
 
     /**
      * OpenAI HTTP 클라이언트 (멀티모달 호출용)
+     * 커넥션 풀 크기와 연결/응답 타임아웃을 제한하여 장애 시 스레드가 무기한 묶이지 않도록 합니다.
      */
     @Bean
     public WebClient openAiWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeout))
+                .maxIdleTime(Duration.ofMillis(maxIdleTime))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .responseTimeout(Duration.ofMillis(timeout));
+
         return WebClient.builder()
-                .baseUrl("https://api.openai.com")
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
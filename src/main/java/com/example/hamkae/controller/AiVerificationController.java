@@ -4,14 +4,20 @@ import com.example.hamkae.DTO.ApiResponse;
 import com.example.hamkae.DTO.GptVerificationResponseDTO;
 import com.example.hamkae.domain.Photo;
 import com.example.hamkae.repository.PhotoRepository;
-import com.example.hamkae.service.GptVerificationService;
+import com.example.hamkae.repository.VerificationAttemptRepository;
+import com.example.hamkae.service.AiVerificationTaskService;
+import com.example.hamkae.service.PointRuleEngine;
+import com.example.hamkae.service.VerificationScheduler;
+import com.example.hamkae.service.VerificationStatusNotifier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.Map;
 
@@ -30,8 +36,11 @@ import java.util.Map;
 @Tag(name = "AI 검증", description = "GPT API를 통한 사진 비교 검증 API")
 public class AiVerificationController {
 
-    private final GptVerificationService gptVerificationService;
+    private final PointRuleEngine pointRuleEngine;
     private final PhotoRepository photoRepository;
+    private final AiVerificationTaskService aiVerificationTaskService;
+    private final VerificationAttemptRepository verificationAttemptRepository;
+    private final VerificationStatusNotifier verificationStatusNotifier;
 
     /**
      * 수동으로 AI 검증을 수행합니다.
@@ -68,20 +77,23 @@ public class AiVerificationController {
             );
             }
             
-            // 첫 번째 사진들로 검증 수행
-            Photo beforePhoto = beforePhotos.get(0);
-            Photo afterPhoto = afterPhotos.get(0);
-            
-            GptVerificationResponseDTO result = gptVerificationService.verifyCleanup(beforePhoto, afterPhoto);
-            
-            // 검증 결과를 사진에 저장
-            if (result.isSuccess()) {
-                if ("APPROVED".equals(result.getVerificationResult())) {
-                    afterPhoto.approve(result.getGptResponse());
-                } else {
-                    afterPhoto.reject(result.getGptResponse());
-                }
-                photoRepository.save(afterPhoto);
+            // 관리자 수동 검증 우선순위로 실행하며, 진행 중인 검증이 있으면 합류하여 같은 결과를 받음 (GPT 중복 호출/포인트 중복 지급 방지)
+            var verification = aiVerificationTaskService.verifyMarker(markerId, VerificationScheduler.Priority.MANUAL);
+            if (verification.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    ApiResponse.error("이 마커의 AI 검증이 이미 진행 중입니다. 잠시 후 상태를 조회해주세요.")
+                );
+            }
+
+            GptVerificationResponseDTO result = verification.get();
+            if ("RETRY_LATER".equals(result.getVerificationResult())) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    ApiResponse.<GptVerificationResponseDTO>builder()
+                            .success(false)
+                            .message("AI 검증 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.")
+                            .data(result)
+                            .build()
+                );
             }
             
             log.info("수동 AI 검증 완료: markerId={}, 결과={}", markerId, result.getVerificationResult());
@@ -127,12 +139,16 @@ public class AiVerificationController {
             if (!afterPhotos.isEmpty()) {
                 Photo afterPhoto = afterPhotos.get(0);
                 status.put("verificationStatus", afterPhoto.getVerificationStatus().name());
-                status.put("gptResponse", afterPhoto.getGptResponse()); // null일 수 있음
+                status.put("confidence", afterPhoto.getVerificationConfidence()); // null일 수 있음
+                status.put("reason", afterPhoto.getVerificationReason()); // null일 수 있음
+                status.put("verificationAttemptId", afterPhoto.getVerificationAttemptId()); // 원문 응답 조회용
                 status.put("canVerify", false);
                 status.put("verificationProgress", "COMPLETED");
             } else {
                 status.put("verificationStatus", "PENDING");
-                status.put("gptResponse", null);
+                status.put("confidence", null);
+                status.put("reason", null);
+                status.put("verificationAttemptId", null);
                 status.put("canVerify", !beforePhotos.isEmpty()); // BEFORE 사진이 있으면 검증 가능
                 status.put("verificationProgress", beforePhotos.isEmpty() ? "NEED_BEFORE_PHOTO" : "NEED_AFTER_PHOTO");
             }
@@ -147,6 +163,108 @@ public class AiVerificationController {
         }
     }
 
+    /**
+     * AI 검증 완료를 기다렸다가 상태를 반환합니다. (롱 폴링)
+     * 요청은 서블릿 스레드를 점유하지 않고 보류되며, 검증 결과가 반영되면 곧바로 응답합니다.
+     * 클라이언트가 이미 알고 있는 검증 시도 ID와 다른 결과가 있으면 기다리지 않고 바로 응답하고,
+     * 시간 초과 시에는 completed=false로 응답하므로 같은 요청을 다시 보내면 됩니다.
+     * 
+     * @param markerId 마커 ID
+     * @param knownAttemptId 클라이언트가 마지막으로 받은 검증 시도 ID (없으면 처음 대기)
+     * @param timeoutMs 최대 대기 시간 (밀리초)
+     * @return 검증 상태 정보 (completed=true면 검증 완료)
+     */
+    @GetMapping("/status/{markerId}/wait")
+    @Operation(
+        summary = "AI 검증 완료 대기 (롱 폴링)",
+        description = "특정 마커의 AI 검증이 끝날 때까지 기다렸다가 상태를 반환합니다. 시간 초과 시 completed=false를 반환합니다."
+    )
+    public DeferredResult<ResponseEntity<ApiResponse<Map<String, Object>>>> waitForVerification(
+            @Parameter(description = "마커 ID", required = true)
+            @PathVariable Long markerId,
+            @Parameter(description = "마지막으로 받은 검증 시도 ID")
+            @RequestParam(required = false) Long knownAttemptId,
+            @Parameter(description = "최대 대기 시간 (밀리초)")
+            @RequestParam(required = false) Long timeoutMs) {
+        
+        // 먼저 등록한 뒤 현재 상태를 확인해야, 그 사이에 끝난 검증의 알림을 놓치지 않음
+        var deferred = verificationStatusNotifier.register(markerId, timeoutMs);
+        boolean waiting = deferred != null;
+        if (!waiting) {
+            deferred = new DeferredResult<>();
+        }
+        
+        try {
+            var afterPhotos = photoRepository.findByMarkerIdAndType(markerId, Photo.PhotoType.AFTER);
+            Photo afterPhoto = afterPhotos.isEmpty() ? null : afterPhotos.get(0);
+            boolean changed = afterPhoto != null
+                    && !afterPhoto.isPending()
+                    && afterPhoto.getVerificationAttemptId() != null
+                    && !afterPhoto.getVerificationAttemptId().equals(knownAttemptId);
+            
+            if (changed || !waiting) {
+                // Map.of()는 null 값을 허용하지 않으므로 HashMap 사용
+                Map<String, Object> status = new java.util.HashMap<>();
+                status.put("markerId", markerId);
+                status.put("verificationStatus", afterPhoto != null ? afterPhoto.getVerificationStatus().name() : "PENDING");
+                status.put("confidence", afterPhoto != null ? afterPhoto.getVerificationConfidence() : null);
+                status.put("reason", afterPhoto != null ? afterPhoto.getVerificationReason() : null);
+                status.put("verificationAttemptId", afterPhoto != null ? afterPhoto.getVerificationAttemptId() : null);
+                if (changed) {
+                    verificationStatusNotifier.complete(deferred, status);
+                } else {
+                    status.put("completed", false);
+                    deferred.setResult(ResponseEntity.ok(ApiResponse.success("검증이 아직 끝나지 않았습니다. 다시 요청해주세요.", status)));
+                }
+            }
+            
+        } catch (Exception e) {
+            log.error("검증 완료 대기 중 오류 발생: markerId={}", markerId, e);
+            deferred.setResult(ResponseEntity.internalServerError().body(
+                ApiResponse.error("검증 상태 조회 중 오류가 발생했습니다: " + e.getMessage())
+            ));
+        }
+        
+        return deferred;
+    }
+
+    /**
+     * 검증 시도의 모델 원문 응답을 조회합니다.
+     * 목록 응답에는 요약 필드만 담기므로, 원문이 필요한 경우에만 이 API로 따로 조회합니다.
+     * 
+     * @param attemptId 검증 시도 ID
+     * @return 원문 응답
+     */
+    @GetMapping("/attempts/{attemptId}/raw")
+    @Operation(
+        summary = "AI 검증 원문 응답 조회",
+        description = "검증 시도 ID로 모델의 원문 응답(실패 시 오류 메시지)을 조회합니다."
+    )
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRawResponse(
+            @Parameter(description = "검증 시도 ID", required = true)
+            @PathVariable Long attemptId) {
+        
+        try {
+            if (!verificationAttemptRepository.existsById(attemptId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponse.error("검증 시도를 찾을 수 없습니다: " + attemptId)
+                );
+            }
+            
+            Map<String, Object> raw = new java.util.HashMap<>();
+            raw.put("attemptId", attemptId);
+            raw.put("rawResponse", verificationAttemptRepository.findRawResponseById(attemptId).orElse(null));
+            
+            return ResponseEntity.ok(ApiResponse.success("원문 응답 조회 완료", raw));
+            
+        } catch (Exception e) {
+            log.error("원문 응답 조회 중 오류 발생: attemptId={}", attemptId, e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.error("원문 응답 조회 중 오류가 발생했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * AI 검증 시스템 상태를 확인합니다.
      * 
@@ -163,7 +281,7 @@ public class AiVerificationController {
                 "status", "HEALTHY",
                 "service", "AI Verification System",
                 "timestamp", System.currentTimeMillis(),
-                "pointsReward", gptVerificationService.getPointsReward()
+                "pointsReward", pointRuleEngine.current().basePoints()
             );
             
             return ResponseEntity.ok(ApiResponse.success("시스템 상태 확인 완료", health));
@@ -0,0 +1,123 @@
+package com.example.hamkae.controller;
+
+import com.example.hamkae.DTO.ApiResponse;
+import com.example.hamkae.DTO.CursorPageResponseDTO;
+import com.example.hamkae.DTO.LeaderboardEntryResponseDTO;
+import com.example.hamkae.config.JwtUtil;
+import com.example.hamkae.domain.User;
+import com.example.hamkae.service.LeaderboardService;
+import com.example.hamkae.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 리더보드 API를 제공하는 컨트롤러 클래스
+ * 전체 기간/주간 상위 사용자와 내 순위를 조회합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "리더보드", description = "포인트 순위 관련 API")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+    private final UserService userService;
+    private final JwtUtil jwtUtil;
+
+    /**
+     * 상위 사용자 순위를 조회합니다.
+     *
+     * @param period 집계 기간 (ALL_TIME/WEEKLY)
+     * @param limit 조회할 인원 수
+     * @return 순위 목록과 순위에 오른 전체 인원 수
+     */
+    @GetMapping
+    @Operation(summary = "리더보드 조회", description = "전체 기간(보유 포인트) 또는 주간(이번 주 적립 포인트) 상위 사용자를 조회합니다.")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getLeaderboard(
+            @Parameter(description = "집계 기간 (ALL_TIME/WEEKLY)", required = false, example = "WEEKLY")
+            @RequestParam(defaultValue = "ALL_TIME") String period,
+            @Parameter(description = "조회할 인원 수 (최대 100)", required = false, example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        LeaderboardService.Period leaderboardPeriod;
+        try {
+            leaderboardPeriod = LeaderboardService.Period.valueOf(period.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("잘못된 집계 기간입니다. ALL_TIME 또는 WEEKLY를 입력해주세요."));
+        }
+
+        try {
+            List<LeaderboardEntryResponseDTO> entries = leaderboardService
+                    .getTop(leaderboardPeriod, CursorPageResponseDTO.normalizeSize(limit)).stream()
+                    .map(LeaderboardEntryResponseDTO::from)
+                    .toList();
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("period", leaderboardPeriod.name());
+            result.put("totalRanked", leaderboardService.getRankedCount(leaderboardPeriod));
+            result.put("entries", entries);
+
+            return ResponseEntity.ok(ApiResponse.success("리더보드 조회 성공", result));
+
+        } catch (Exception e) {
+            log.error("리더보드 조회 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("리더보드 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 현재 사용자의 순위를 조회합니다.
+     *
+     * @param authorization JWT 토큰
+     * @param period 집계 기간 (ALL_TIME/WEEKLY)
+     * @return 내 순위
+     */
+    @GetMapping("/me")
+    @Operation(summary = "내 순위 조회", description = "현재 사용자의 전체 기간 또는 주간 순위를 조회합니다. 점수가 없으면 순위는 null입니다.")
+    public ResponseEntity<ApiResponse<LeaderboardEntryResponseDTO>> getMyRank(
+            @Parameter(description = "JWT 토큰", required = true)
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "집계 기간 (ALL_TIME/WEEKLY)", required = false, example = "WEEKLY")
+            @RequestParam(defaultValue = "ALL_TIME") String period) {
+
+        LeaderboardService.Period leaderboardPeriod;
+        try {
+            leaderboardPeriod = LeaderboardService.Period.valueOf(period.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("잘못된 집계 기간입니다. ALL_TIME 또는 WEEKLY를 입력해주세요."));
+        }
+
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String username = jwtUtil.validateAndGetUsername(token);
+            User user = userService.findByUsername(username);
+
+            LeaderboardEntryResponseDTO response = LeaderboardEntryResponseDTO.from(
+                    leaderboardService.getRank(leaderboardPeriod, user));
+
+            return ResponseEntity.ok(ApiResponse.success("내 순위 조회 성공", response));
+
+        } catch (Exception e) {
+            log.error("내 순위 조회 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("내 순위 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.hamkae.controller;
+
+import com.example.hamkae.DTO.ApiResponse;
+import com.example.hamkae.DTO.PointCampaignRequestDTO;
+import com.example.hamkae.DTO.PointCampaignResponseDTO;
+import com.example.hamkae.config.AdminAuthorization;
+import com.example.hamkae.config.JwtUtil;
+import com.example.hamkae.domain.PointCampaign;
+import com.example.hamkae.service.PointCampaignService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 포인트 지급 캠페인 API를 제공하는 컨트롤러 클래스 (관리자용)
+ * 캠페인 생성, 실행(재개), 진행 상황 조회 기능을 제공하며, app.admin.usernames에 등록된 관리자만 호출할 수 있습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/campaigns")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "포인트 캠페인", description = "보너스 포인트 대량 지급 캠페인 관련 API (관리자용)")
+public class PointCampaignController {
+
+    private final PointCampaignService pointCampaignService;
+    private final JwtUtil jwtUtil;
+    private final AdminAuthorization adminAuthorization;
+
+    /**
+     * 캠페인을 생성합니다.
+     *
+     * @param authorization JWT 토큰
+     * @param requestDTO 캠페인 생성 요청 정보
+     * @return 생성된 캠페인 정보
+     */
+    @PostMapping
+    @Operation(summary = "캠페인 생성", description = "기간(과 선택적으로 지역) 안에 청소 인증을 받은 사용자에게 보너스 포인트를 지급하는 캠페인을 생성합니다. 생성 후 실행 API로 지급을 시작합니다.")
+    public ResponseEntity<ApiResponse<PointCampaignResponseDTO>> createCampaign(
+            @Parameter(description = "JWT 토큰", required = true)
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "캠페인 생성 요청 정보", required = true)
+            @RequestBody PointCampaignRequestDTO requestDTO) {
+
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String username = jwtUtil.validateAndGetUsername(token);
+            if (!adminAuthorization.isAdmin(username)) {
+                log.warn("관리자 권한 없는 캠페인 생성 요청 거부: 요청자={}", username);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("관리자만 사용할 수 있는 기능입니다."));
+            }
+
+            PointCampaign campaign = pointCampaignService.createCampaign(requestDTO);
+            log.warn("포인트 캠페인 생성: 요청자={}, campaignId={}", username, campaign.getId());
+
+            return ResponseEntity.ok(ApiResponse.success("캠페인이 생성되었습니다", PointCampaignResponseDTO.from(campaign)));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("캠페인 생성 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("캠페인 생성에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 캠페인 실행을 시작합니다. 실패한 캠페인은 남은 대상부터 이어서 지급합니다.
+     *
+     * @param authorization JWT 토큰
+     * @param campaignId 캠페인 ID
+     * @return 실행을 시작한 캠페인 정보
+     */
+    @PostMapping("/{campaignId}/run")
+    @Operation(summary = "캠페인 실행", description = "캠페인 대상 선정과 포인트 지급을 백그라운드에서 시작합니다. 진행 상황은 캠페인 조회 API로 확인합니다.")
+    public ResponseEntity<ApiResponse<PointCampaignResponseDTO>> runCampaign(
+            @Parameter(description = "JWT 토큰", required = true)
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "캠페인 ID", required = true)
+            @PathVariable Long campaignId) {
+
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String username = jwtUtil.validateAndGetUsername(token);
+            if (!adminAuthorization.isAdmin(username)) {
+                log.warn("관리자 권한 없는 캠페인 실행 요청 거부: 요청자={}", username);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("관리자만 사용할 수 있는 기능입니다."));
+            }
+
+            pointCampaignService.start(campaignId);
+            log.warn("포인트 캠페인 실행: 요청자={}, campaignId={}", username, campaignId);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("캠페인 실행을 시작했습니다",
+                            PointCampaignResponseDTO.from(pointCampaignService.getCampaign(campaignId))));
+
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("캠페인 실행 실패: campaignId={}", campaignId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("캠페인 실행에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 캠페인 진행 상황을 조회합니다.
+     *
+     * @param authorization JWT 토큰
+     * @param campaignId 캠페인 ID
+     * @return 캠페인 정보 (상태, 선정/지급 인원, 진행률)
+     */
+    @GetMapping("/{campaignId}")
+    @Operation(summary = "캠페인 조회", description = "캠페인 상태와 선정/지급 인원, 진행률을 조회합니다.")
+    public ResponseEntity<ApiResponse<PointCampaignResponseDTO>> getCampaign(
+            @Parameter(description = "JWT 토큰", required = true)
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "캠페인 ID", required = true)
+            @PathVariable Long campaignId) {
+
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String username = jwtUtil.validateAndGetUsername(token);
+            if (!adminAuthorization.isAdmin(username)) {
+                log.warn("관리자 권한 없는 캠페인 조회 요청 거부: 요청자={}", username);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("관리자만 사용할 수 있는 기능입니다."));
+            }
+
+            PointCampaign campaign = pointCampaignService.getCampaign(campaignId);
+            return ResponseEntity.ok(ApiResponse.success("캠페인 조회 성공", PointCampaignResponseDTO.from(campaign)));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("캠페인 조회 실패: campaignId={}", campaignId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("캠페인 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.hamkae.controller;
 
 import com.example.hamkae.DTO.ApiResponse;
+import com.example.hamkae.DTO.CursorPageResponseDTO;
+import com.example.hamkae.DTO.PointBatchAwardRequestDTO;
 import com.example.hamkae.DTO.PointHistoryResponseDTO;
 import com.example.hamkae.DTO.PointStatisticsResponseDTO;
+import com.example.hamkae.config.AdminAuthorization;
 import com.example.hamkae.config.JwtUtil;
 import com.example.hamkae.domain.PointHistory;
 import com.example.hamkae.domain.User;
 import com.example.hamkae.service.PointHistoryService;
+import com.example.hamkae.service.PointLedgerBatchWriter;
 import com.example.hamkae.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,11 +19,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -38,34 +45,42 @@ import java.util.stream.Collectors;
 public class PointHistoryController {
 
     private final PointHistoryService pointHistoryService;
+    private final PointLedgerBatchWriter pointLedgerBatchWriter;
     private final UserService userService;
     private final JwtUtil jwtUtil;
+    private final AdminAuthorization adminAuthorization;
 
     /**
-     * 현재 사용자의 포인트 이력을 조회합니다.
+     * 현재 사용자의 포인트 이력을 커서 기반으로 한 페이지씩 조회합니다.
      * 
      * @param authorization JWT 토큰
-     * @return 포인트 이력 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기
+     * @return 포인트 이력 페이지
      */
     @GetMapping
-    @Operation(summary = "포인트 이력 조회", description = "현재 사용자의 포인트 적립/사용 이력을 최신순으로 조회합니다.")
+    @Operation(summary = "포인트 이력 조회", description = "현재 사용자의 포인트 적립/사용 이력을 최신순으로 한 페이지씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
     })
-    public ResponseEntity<ApiResponse<List<PointHistoryResponseDTO>>> getPointHistories(
+    public ResponseEntity<ApiResponse<CursorPageResponseDTO<PointHistoryResponseDTO>>> getPointHistories(
             @Parameter(description = "JWT 토큰", required = true)
-            @RequestHeader("Authorization") String authorization) {
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)", required = false)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", required = false, example = "20")
+            @RequestParam(required = false) Integer size) {
         
         try {
             String token = authorization.replace("Bearer ", "");
             String username = jwtUtil.validateAndGetUsername(token);
             User user = userService.findByUsername(username);
             
-            List<PointHistory> histories = pointHistoryService.getPointHistoriesByUser(user);
-            List<PointHistoryResponseDTO> response = histories.stream()
-                    .map(PointHistoryResponseDTO::from)
-                    .collect(Collectors.toList());
+            int pageSize = CursorPageResponseDTO.normalizeSize(size);
+            List<PointHistory> histories = pointHistoryService.getPointHistoryPage(user, cursor, pageSize);
+            CursorPageResponseDTO<PointHistoryResponseDTO> response = CursorPageResponseDTO.of(histories, pageSize,
+                    PointHistoryResponseDTO::from, PointHistory::getCreatedAt, PointHistory::getId);
             
             return ResponseEntity.ok(ApiResponse.success("포인트 이력 조회 성공", response));
             
@@ -247,4 +262,65 @@ public class PointHistoryController {
                     .body(ApiResponse.error("포인트 이력 조회에 실패했습니다: " + e.getMessage()));
         }
     }
+
+    /**
+     * 여러 사용자에게 포인트를 한 번에 적립합니다. (관리자용)
+     * app.admin.usernames에 등록된 관리자만 호출할 수 있습니다.
+     * 
+     * @param authorization JWT 토큰
+     * @param requestDTO 대량 적립 요청 정보
+     * @return 적립 결과
+     */
+    @PostMapping("/admin/batch-award")
+    @Operation(summary = "포인트 대량 적립 (관리자용)", description = "캠페인 보너스처럼 여러 사용자에게 포인트를 한 번에 적립합니다. 일정 건수씩 나누어 배치로 기록합니다.")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> batchAward(
+            @Parameter(description = "JWT 토큰", required = true)
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "대량 적립 요청 정보", required = true)
+            @RequestBody PointBatchAwardRequestDTO requestDTO) {
+        
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String username = jwtUtil.validateAndGetUsername(token);
+            if (!adminAuthorization.isAdmin(username)) {
+                log.warn("관리자 권한 없는 포인트 대량 적립 요청 거부: 요청자={}", username);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("관리자만 사용할 수 있는 기능입니다."));
+            }
+            
+            if (requestDTO.getAwards() == null || requestDTO.getAwards().isEmpty()) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("적립 목록을 입력해주세요."));
+            }
+            if (requestDTO.getDescription() == null || requestDTO.getDescription().isBlank()) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("적립 사유를 입력해주세요."));
+            }
+            
+            List<PointLedgerBatchWriter.PointGrant> grants = requestDTO.getAwards().stream()
+                    .map(award -> new PointLedgerBatchWriter.PointGrant(award.getUserId(),
+                            award.getPoints() != null ? award.getPoints() : 0))
+                    .toList();
+            PointLedgerBatchWriter.BatchResult batchResult =
+                    pointLedgerBatchWriter.earnAllInChunks(grants, requestDTO.getDescription());
+            
+            log.warn("관리자 포인트 대량 적립: 요청자={}, 적립 {}건, 총 {}pt", 
+                    username, batchResult.appliedGrants(), batchResult.totalPoints());
+            
+            Map<String, Object> result = new HashMap<>();
+            result.put("appliedGrants", batchResult.appliedGrants());
+            result.put("totalPoints", batchResult.totalPoints());
+            result.put("skippedUserIds", batchResult.skippedUserIds());
+            
+            return ResponseEntity.ok(ApiResponse.success("포인트 대량 적립 완료", result));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("포인트 대량 적립 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("포인트 대량 적립에 실패했습니다: " + e.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package com.example.hamkae.controller;
+
+import com.example.hamkae.DTO.ApiResponse;
+import com.example.hamkae.DTO.PointRuleSetRequestDTO;
+import com.example.hamkae.DTO.PointRuleSetResponseDTO;
+import com.example.hamkae.config.AdminAuthorization;
+import com.example.hamkae.config.JwtUtil;
+import com.example.hamkae.service.PointRuleEngine;
+import com.example.hamkae.service.PointRules;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 청소 인증 포인트 규칙 API를 제공하는 컨트롤러 클래스 (관리자용)
+ * 적용 중인 규칙 조회와 새 규칙 등록 기능을 제공하며, app.admin.usernames에 등록된 관리자만 호출할 수 있습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/point-rules")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "포인트 규칙", description = "청소 인증 포인트 규칙 관련 API (관리자용)")
+public class PointRuleController {
+
+    private final PointRuleEngine pointRuleEngine;
+    private final JwtUtil jwtUtil;
+    private final AdminAuthorization adminAuthorization;
+
+    /**
+     * 적용 중인 포인트 규칙을 조회합니다.
+     *
+     * @param authorization JWT 토큰
+     * @return 적용 중인 규칙
+     */
+    @GetMapping
+    @Operation(summary = "포인트 규칙 조회", description = "청소 인증 시 적용 중인 포인트 규칙과 버전을 조회합니다.")
+    public ResponseEntity<ApiResponse<PointRuleSetResponseDTO>> getRules(
+            @Parameter(description = "JWT 토큰", required = true)
+            @RequestHeader("Authorization") String authorization) {
+
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String username = jwtUtil.validateAndGetUsername(token);
+            if (!adminAuthorization.isAdmin(username)) {
+                log.warn("관리자 권한 없는 포인트 규칙 조회 요청 거부: 요청자={}", username);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("관리자만 사용할 수 있는 기능입니다."));
+            }
+
+            return ResponseEntity.ok(ApiResponse.success("포인트 규칙 조회 성공",
+                    PointRuleSetResponseDTO.from(pointRuleEngine.current())));
+
+        } catch (Exception e) {
+            log.error("포인트 규칙 조회 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("포인트 규칙 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 새 포인트 규칙을 등록합니다. 이 서버에는 즉시, 다른 서버에는 다음 확인 주기에 적용됩니다.
+     *
+     * @param authorization JWT 토큰
+     * @param requestDTO 규칙 등록 요청 정보
+     * @return 적용된 규칙
+     */
+    @PutMapping
+    @Operation(summary = "포인트 규칙 등록", description = "신뢰도 구간, 오늘 첫 청소, 연속 청소, 지역 배율, 마커 경과 시간 규칙을 등록합니다. 규칙은 통째로 교체됩니다.")
+    public ResponseEntity<ApiResponse<PointRuleSetResponseDTO>> updateRules(
+            @Parameter(description = "JWT 토큰", required = true)
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "규칙 등록 요청 정보", required = true)
+            @RequestBody PointRuleSetRequestDTO requestDTO) {
+
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String username = jwtUtil.validateAndGetUsername(token);
+            if (!adminAuthorization.isAdmin(username)) {
+                log.warn("관리자 권한 없는 포인트 규칙 등록 요청 거부: 요청자={}", username);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("관리자만 사용할 수 있는 기능입니다."));
+            }
+
+            PointRules rules = pointRuleEngine.register(requestDTO, username);
+            return ResponseEntity.ok(ApiResponse.success("포인트 규칙이 적용되었습니다", PointRuleSetResponseDTO.from(rules)));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("포인트 규칙 등록 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("포인트 규칙 등록에 실패했습니다: " + e.getMessage()));
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.hamkae.controller;
 
 import com.example.hamkae.DTO.ApiResponse;
+import com.example.hamkae.DTO.CursorPageResponseDTO;
 import com.example.hamkae.DTO.RewardRequestDTO;
 import com.example.hamkae.DTO.RewardResponseDTO;
 
 import com.example.hamkae.config.JwtUtil;
 import com.example.hamkae.domain.Reward;
 import com.example.hamkae.domain.User;
+import com.example.hamkae.service.IdempotencyConflictException;
+import com.example.hamkae.service.IdempotencyService;
 import com.example.hamkae.service.RewardService;
 import com.example.hamkae.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +19,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -39,27 +43,38 @@ import java.util.stream.Collectors;
 @Tag(name = "상품권 교환", description = "상품권 교환 관련 API")
 public class RewardController {
 
+    /**
+     * 저장된 응답을 재사용했음을 알리는 응답 헤더
+     */
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final RewardService rewardService;
+    private final IdempotencyService idempotencyService;
     private final UserService userService;
     private final JwtUtil jwtUtil;
 
     /**
      * 상품권을 즉시 교환합니다. (핀번호 포함)
+     * Idempotency-Key 헤더를 보내면 같은 키로 다시 요청해도 포인트를 한 번만 차감하고 처음 응답을 그대로 돌려줍니다.
      * 
      * @param authorization JWT 토큰
+     * @param idempotencyKey 멱등성 키 (선택)
      * @param requestDTO 상품권 교환 요청 정보
      * @return 교환 완료된 상품권 정보 (핀번호 포함)
      */
     @PostMapping
-    @Operation(summary = "상품권 즉시 교환", description = "포인트를 사용하여 상품권을 즉시 교환하고 핀번호를 받습니다.")
+    @Operation(summary = "상품권 즉시 교환", description = "포인트를 사용하여 상품권을 즉시 교환하고 핀번호를 받습니다. Idempotency-Key 헤더로 재시도 시 중복 교환을 막을 수 있습니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "교환 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (포인트 부족 등)"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 처리 중이거나 내용이 다름")
     })
     public ResponseEntity<ApiResponse<RewardResponseDTO>> exchangeReward(
             @Parameter(description = "JWT 토큰", required = true)
             @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "멱등성 키 (재시도 시 같은 값 사용)", required = false)
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Parameter(description = "상품권 교환 정보", required = true)
             @Valid @RequestBody RewardRequestDTO requestDTO) {
         
@@ -75,12 +90,18 @@ public class RewardController {
             // 상품권 타입에 따른 포인트 자동 계산
             Integer requiredPoints = calculateRequiredPoints(requestDTO.getRewardType(), requestDTO.getPointsUsed());
             
-            Reward reward = rewardService.exchangeRewardImmediately(
-                    user, requiredPoints, requestDTO.getRewardType());
-            RewardResponseDTO response = RewardResponseDTO.from(reward);
+            IdempotencyService.IdempotentResult<RewardResponseDTO> result = idempotencyService.execute(
+                    user.getId(), idempotencyKey,
+                    "POST /api/rewards " + requestDTO.getRewardType() + " " + requiredPoints,
+                    RewardResponseDTO.class,
+                    () -> RewardResponseDTO.from(rewardService.exchangeRewardImmediately(
+                            user, requiredPoints, requestDTO.getRewardType())));
             
-            return ResponseEntity.ok(ApiResponse.success("상품권 교환이 완료되었습니다", response));
+            return exchangeResponse(result, "상품권 교환이 완료되었습니다");
             
+        } catch (IdempotencyConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
@@ -92,26 +113,32 @@ public class RewardController {
     }
 
     /**
-     * 현재 사용자의 상품권 교환 요청 목록을 조회합니다.
+     * 현재 사용자의 상품권 교환 요청 목록을 커서 기반으로 한 페이지씩 조회합니다.
      * 
      * @param authorization JWT 토큰
-     * @return 상품권 교환 요청 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기
+     * @return 상품권 교환 요청 페이지
      */
     @GetMapping
-    @Operation(summary = "상품권 교환 요청 목록 조회", description = "현재 사용자의 상품권 교환 요청 목록을 최신순으로 조회합니다.")
-    public ResponseEntity<ApiResponse<List<RewardResponseDTO>>> getMyRewards(
+    @Operation(summary = "상품권 교환 요청 목록 조회", description = "현재 사용자의 상품권 교환 요청 목록을 최신순으로 한 페이지씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    public ResponseEntity<ApiResponse<CursorPageResponseDTO<RewardResponseDTO>>> getMyRewards(
             @Parameter(description = "JWT 토큰", required = true)
-            @RequestHeader("Authorization") String authorization) {
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)", required = false)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", required = false, example = "20")
+            @RequestParam(required = false) Integer size) {
         
         try {
             String token = authorization.replace("Bearer ", "");
             String username = jwtUtil.validateAndGetUsername(token);
             User user = userService.findByUsername(username);
             
-            List<Reward> rewards = rewardService.getRewardsByUser(user);
-            List<RewardResponseDTO> response = rewards.stream()
-                    .map(RewardResponseDTO::from)
-                    .collect(Collectors.toList());
+            int pageSize = CursorPageResponseDTO.normalizeSize(size);
+            List<Reward> rewards = rewardService.getRewardPage(user, cursor, pageSize);
+            CursorPageResponseDTO<RewardResponseDTO> response = CursorPageResponseDTO.of(rewards, pageSize,
+                    RewardResponseDTO::from, Reward::getCreatedAt, Reward::getId);
             
             return ResponseEntity.ok(ApiResponse.success("상품권 교환 요청 목록 조회 성공", response));
             
@@ -260,14 +287,17 @@ public class RewardController {
      * 상품권 타입만 지정하면 필요한 포인트가 자동 계산됩니다.
      * 
      * @param authorization JWT 토큰
+     * @param idempotencyKey 멱등성 키 (선택)
      * @param rewardType 상품권 타입 (FIVE_THOUSAND, TEN_THOUSAND, THIRTY_THOUSAND)
      * @return 교환 결과
      */
     @GetMapping("/exchange/{rewardType}")
-    @Operation(summary = "간편 상품권 교환 (GET)", description = "상품권 타입만 지정하여 간편하게 교환합니다. 포인트는 자동 계산됩니다.")
+    @Operation(summary = "간편 상품권 교환 (GET)", description = "상품권 타입만 지정하여 간편하게 교환합니다. 포인트는 자동 계산됩니다. Idempotency-Key 헤더로 재시도 시 중복 교환을 막을 수 있습니다.")
     public ResponseEntity<ApiResponse<RewardResponseDTO>> exchangeRewardSimple(
             @Parameter(description = "JWT 토큰", required = true)
             @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "멱등성 키 (재시도 시 같은 값 사용)", required = false)
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Parameter(description = "상품권 타입 (FIVE_THOUSAND/TEN_THOUSAND/THIRTY_THOUSAND)", required = true)
             @PathVariable String rewardType) {
         
@@ -282,11 +312,19 @@ public class RewardController {
             log.info("간편 상품권 교환: 사용자={}, 타입={}, 포인트={}", 
                     username, rewardType, requiredPoints);
             
-            Reward reward = rewardService.exchangeRewardImmediately(user, requiredPoints, rewardType);
-            RewardResponseDTO response = RewardResponseDTO.from(reward);
+            // POST /api/rewards와 같은 지문을 사용해 두 경로를 섞어 재시도해도 한 번만 교환됨
+            IdempotencyService.IdempotentResult<RewardResponseDTO> result = idempotencyService.execute(
+                    user.getId(), idempotencyKey,
+                    "POST /api/rewards " + rewardType + " " + requiredPoints,
+                    RewardResponseDTO.class,
+                    () -> RewardResponseDTO.from(rewardService.exchangeRewardImmediately(
+                            user, requiredPoints, rewardType)));
             
-            return ResponseEntity.ok(ApiResponse.success("상품권 교환이 완료되었습니다 (간편 교환)", response));
+            return exchangeResponse(result, "상품권 교환이 완료되었습니다 (간편 교환)");
             
+        } catch (IdempotencyConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
@@ -332,6 +370,24 @@ public class RewardController {
         }
     }
 
+    /**
+     * 멱등 실행 결과로 교환 응답을 만듭니다.
+     * 저장된 응답을 재사용한 경우 Idempotent-Replayed 헤더를 붙입니다.
+     * 
+     * @param result 멱등 실행 결과
+     * @param message 성공 메시지
+     * @return 교환 응답
+     */
+    private ResponseEntity<ApiResponse<RewardResponseDTO>> exchangeResponse(
+            IdempotencyService.IdempotentResult<RewardResponseDTO> result, String message) {
+        if (result.replayed()) {
+            return ResponseEntity.ok()
+                    .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                    .body(ApiResponse.success("이미 처리된 상품권 교환 요청입니다", result.response()));
+        }
+        return ResponseEntity.ok(ApiResponse.success(message, result.response()));
+    }
+
     /**
      * 상품권 타입에 따른 필요 포인트를 계산합니다.
      * 클라이언트에서 포인트를 명시하지 않은 경우, 상품권 타입에 따라 자동 계산합니다.
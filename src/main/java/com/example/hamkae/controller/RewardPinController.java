@@ -1,6 +1,7 @@
 package com.example.hamkae.controller;
 
 import com.example.hamkae.DTO.ApiResponse;
+import com.example.hamkae.DTO.CursorPageResponseDTO;
 import com.example.hamkae.DTO.RewardPinResponseDTO;
 import com.example.hamkae.config.JwtUtil;
 import com.example.hamkae.domain.Reward;
@@ -45,30 +46,36 @@ public class RewardPinController {
     private final JwtUtil jwtUtil;
 
     /**
-     * 현재 사용자의 모든 핀번호를 조회합니다.
+     * 현재 사용자의 핀번호를 커서 기반으로 한 페이지씩 조회합니다.
      * 
      * @param authorization JWT 토큰
-     * @return 핀번호 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기
+     * @return 핀번호 페이지
      */
     @GetMapping
-    @Operation(summary = "핀번호 목록 조회", description = "현재 사용자의 모든 상품권 핀번호를 최신순으로 조회합니다.")
+    @Operation(summary = "핀번호 목록 조회", description = "현재 사용자의 상품권 핀번호를 최신순으로 한 페이지씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
     })
-    public ResponseEntity<ApiResponse<List<RewardPinResponseDTO>>> getMyPins(
+    public ResponseEntity<ApiResponse<CursorPageResponseDTO<RewardPinResponseDTO>>> getMyPins(
             @Parameter(description = "JWT 토큰", required = true)
-            @RequestHeader("Authorization") String authorization) {
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)", required = false)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", required = false, example = "20")
+            @RequestParam(required = false) Integer size) {
         
         try {
             String token = authorization.replace("Bearer ", "");
             String username = jwtUtil.validateAndGetUsername(token);
             User user = userService.findByUsername(username);
             
-            List<RewardPin> pins = rewardPinService.getPinsByUser(user);
-            List<RewardPinResponseDTO> response = pins.stream()
-                    .map(RewardPinResponseDTO::from)
-                    .collect(Collectors.toList());
+            int pageSize = CursorPageResponseDTO.normalizeSize(size);
+            List<RewardPin> pins = rewardPinService.getPinPage(user, cursor, pageSize);
+            CursorPageResponseDTO<RewardPinResponseDTO> response = CursorPageResponseDTO.of(pins, pageSize,
+                    RewardPinResponseDTO::from, pin -> pin.getReward().getCreatedAt(), pin -> pin.getReward().getId());
             
             return ResponseEntity.ok(ApiResponse.success("핀번호 목록 조회 성공", response));
             
@@ -6,7 +6,8 @@ import com.example.hamkae.DTO.UserProfileResponseDTO;
 import com.example.hamkae.config.JwtUtil;
 import com.example.hamkae.domain.User;
 import com.example.hamkae.service.PointHistoryService;
-import com.example.hamkae.service.RewardPinService;
+import com.example.hamkae.service.PointLedgerService;
+import com.example.hamkae.service.UserActivityStatsService;
 import com.example.hamkae.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -37,7 +38,8 @@ public class UserController {
 
     private final UserService userService;
     private final PointHistoryService pointHistoryService;
-    private final RewardPinService rewardPinService;
+    private final PointLedgerService pointLedgerService;
+    private final UserActivityStatsService userActivityStatsService;
     private final JwtUtil jwtUtil;
 
     /**
@@ -62,13 +64,9 @@ public class UserController {
             username = jwtUtil.validateAndGetUsername(token);
             User user = userService.findByUsername(username);
             
-            // 포인트 통계 조회
-            Integer totalEarnedPoints = pointHistoryService.getTotalEarnedPoints(user);
-            Integer totalUsedPoints = pointHistoryService.getTotalUsedPoints(user);
-            Long issuedPinsCount = rewardPinService.getPinCountByUser(user);
-            
-            UserProfileResponseDTO response = UserProfileResponseDTO.withPointStatistics(
-                    user, totalEarnedPoints, totalUsedPoints, issuedPinsCount.intValue());
+            // 포인트/활동 통계 조회 (사용자별 캐시)
+            UserProfileResponseDTO response = UserProfileResponseDTO.withActivityStats(
+                    user, userActivityStatsService.get(user.getId()));
             
             return ResponseEntity.ok(ApiResponse.success("사용자 프로필 조회 성공", response));
             
@@ -142,19 +140,20 @@ public class UserController {
             String token = authorization.replace("Bearer ", "");
             String username = jwtUtil.validateAndGetUsername(token);
             User user = userService.findByUsername(username);
+            UserActivityStatsService.ActivityStats stats = userActivityStatsService.get(user.getId());
             
-            // 활동 요약 정보 구성
+            // 활동 요약 정보 구성 (개수/합계는 사용자별 캐시에서 조회)
             UserActivitySummaryDTO summary = UserActivitySummaryDTO.builder()
                     .userId(user.getId())
                     .username(user.getUsername())
                     .name(user.getName())
                     .currentPoints(user.getPoints())
-                    .totalEarnedPoints(pointHistoryService.getTotalEarnedPoints(user))
-                    .totalUsedPoints(pointHistoryService.getTotalUsedPoints(user))
-                    .reportedMarkersCount(user.getReportedMarkers() != null ? user.getReportedMarkers().size() : 0)
-                    .uploadedPhotosCount(user.getUploadedPhotos() != null ? user.getUploadedPhotos().size() : 0)
-                    .rewardExchangeCount(user.getRewards() != null ? user.getRewards().size() : 0)
-                    .issuedPinsCount(rewardPinService.getPinCountByUser(user).intValue())
+                    .totalEarnedPoints(stats.totalEarnedPoints())
+                    .totalUsedPoints(stats.totalUsedPoints())
+                    .reportedMarkersCount(stats.reportedMarkersCount())
+                    .uploadedPhotosCount(stats.uploadedPhotosCount())
+                    .rewardExchangeCount(stats.rewardExchangeCount())
+                    .issuedPinsCount(stats.issuedPinsCount())
                     .memberSince(user.getCreatedAt())
                     .build();
             
@@ -225,9 +224,7 @@ public class UserController {
                         .body(ApiResponse.error("포인트는 0 이상이어야 합니다."));
             }
             
-            Integer oldPoints = user.getPoints();
-            user.setPoints(newPoints);
-            userService.save(user);
+            Integer oldPoints = pointLedgerService.adjustTo(user, newPoints, "관리자 포인트 설정");
             
             log.warn("테스트용 포인트 강제 설정: 사용자={}, 기존={}pt, 신규={}pt", 
                     username, oldPoints, newPoints);
@@ -282,9 +279,7 @@ public class UserController {
                         .body(ApiResponse.error("포인트는 0 이상이어야 합니다."));
             }
             
-            Integer oldPoints = user.getPoints();
-            user.setPoints(points);
-            userService.save(user);
+            Integer oldPoints = pointLedgerService.adjustTo(user, points, "관리자 포인트 설정");
             
             log.warn("테스트용 포인트 강제 설정 (GET): 사용자={}, 기존={}pt, 신규={}pt", 
                     username, oldPoints, points);
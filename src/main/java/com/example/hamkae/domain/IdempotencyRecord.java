@@ -0,0 +1,90 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 엔티티 클래스
+ * 클라이언트가 보낸 Idempotency-Key를 사용자별로 한 행에 기록하고, 처리가 끝나면 응답을 함께 저장합니다.
+ * 같은 키로 다시 들어온 요청은 작업을 다시 실행하지 않고 저장된 응답을 돌려받습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "idempotency_keys", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_idempotency_keys_user_key", columnNames = {"user_id", "idempotency_key"})
+}, indexes = {
+        @Index(name = "idx_idempotency_keys_expires", columnList = "expires_at")
+})
+public class IdempotencyRecord {
+
+    /**
+     * 멱등성 키 고유 식별자 (Primary Key)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 요청한 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 클라이언트가 보낸 Idempotency-Key 헤더 값
+     */
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    /**
+     * 요청 내용 해시 (SHA-256)
+     * 같은 키로 다른 요청을 보내면 거부하기 위해 사용합니다.
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * 처리 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /**
+     * 저장된 응답 본문 (JSON, 처리 완료 시 기록)
+     */
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    /**
+     * 처리를 시작(또는 다시 가져간)한 일시
+     * 처리 중 상태로 오래 남은 키는 서버가 중단된 것으로 보고 다른 요청이 가져갈 수 있습니다.
+     */
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    /**
+     * 만료일시 (이후에는 같은 키를 새 요청으로 처리하고, 정리 작업이 삭제함)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 처리 상태를 나타내는 열거형
+     */
+    public enum Status {
+        IN_PROGRESS,    // 처리 중
+        COMPLETED       // 처리 완료 (응답 저장됨)
+    }
+}
@@ -24,7 +24,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "photos")
+@Table(name = "photos", indexes = {
+        @Index(name = "idx_photos_status_created", columnList = "verification_status, created_at"),
+        @Index(name = "idx_photos_type_status_verified", columnList = "type, verification_status, verified_at")
+})
 public class Photo {
 
     /**
@@ -72,6 +75,8 @@ public class Photo {
      * pending: 대기중
      * approved: 승인됨
      * rejected: 거부됨
+     * retry_later: 외부 API 장애로 검증 보류
+     * manual_review: 자동 재검증 한도를 넘어 관리자 확인 대기
      */
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -79,11 +84,23 @@ public class Photo {
     private VerificationStatus verificationStatus = VerificationStatus.PENDING;
 
     /**
-     * GPT API 응답 결과
-     * AI 검증 후 반환된 결과를 저장
+     * AI 검증 신뢰도 (0.0 ~ 1.0)
      */
-    @Column(columnDefinition = "TEXT")
-    private String gptResponse;
+    @Column
+    private Double verificationConfidence;
+
+    /**
+     * AI 검증 판단 근거 또는 보류/실패 사유 요약
+     * 모델 원문 응답은 verification_attempt 테이블에 저장
+     */
+    @Column(length = 500)
+    private String verificationReason;
+
+    /**
+     * 이 사진의 검증 상태를 결정한 검증 시도 ID (verification_attempt)
+     */
+    @Column
+    private Long verificationAttemptId;
 
     /**
      * AI 검증 완료 시점
@@ -92,6 +109,19 @@ public class Photo {
     @Column
     private LocalDateTime verifiedAt;
 
+    /**
+     * 멈춘 검증 재처리 작업이 이 사진의 마커를 다시 검증 예약한 횟수 (재처리 예약 UPDATE 문에서만 변경)
+     */
+    @Column(columnDefinition = "INT DEFAULT 0", updatable = false)
+    @Builder.Default
+    private Integer sweepRetryCount = 0;
+
+    /**
+     * 멈춘 검증 재처리 작업이 다시 예약할 수 있는 가장 이른 시각 (없으면 바로 가능, 재처리 예약 UPDATE 문에서만 변경)
+     */
+    @Column(updatable = false)
+    private LocalDateTime nextSweepAt;
+
     /**
      * 사진 업로드일시
      * 자동 생성되며 수정 불가
@@ -114,7 +144,9 @@ public class Photo {
     public enum VerificationStatus {
         PENDING,    // 대기중
         APPROVED,   // 승인됨
-        REJECTED    // 거부됨
+        REJECTED,   // 거부됨
+        RETRY_LATER, // 외부 API 장애로 재시도 대기
+        MANUAL_REVIEW // 자동 재검증 한도 초과로 관리자 확인 대기
     }
 
     // ========== Setter 메서드 (양방향 관계 설정용) ==========
@@ -142,25 +174,45 @@ public class Photo {
     /**
      * 검증 상태를 승인으로 변경하는 메서드
      * 
-     * @param gptResponse GPT API 응답 결과
+     * @param attempt 검증 시도 기록
      */
-    public void approve(String gptResponse) {
+    public void approve(VerificationAttempt attempt) {
         this.verificationStatus = VerificationStatus.APPROVED;
-        this.gptResponse = gptResponse;
+        applyAttempt(attempt, attempt.getReason());
         this.verifiedAt = LocalDateTime.now(); // AI 검증 완료 시점 설정
     }
 
     /**
      * 검증 상태를 거부로 변경하는 메서드
      * 
-     * @param gptResponse GPT API 응답 결과
+     * @param attempt 검증 시도 기록
+     * @param reason 거부 사유
      */
-    public void reject(String gptResponse) {
+    public void reject(VerificationAttempt attempt, String reason) {
         this.verificationStatus = VerificationStatus.REJECTED;
-        this.gptResponse = gptResponse;
+        applyAttempt(attempt, reason);
         this.verifiedAt = LocalDateTime.now(); // AI 검증 완료 시점 설정
     }
 
+    /**
+     * 외부 API 장애로 검증을 보류하는 메서드
+     * 거부와 달리 검증 완료 시점을 기록하지 않으며, 이후 재검증 대상이 됩니다.
+     *
+     * @param attempt 검증 시도 기록
+     * @param reason 보류 사유
+     */
+    public void deferVerification(VerificationAttempt attempt, String reason) {
+        this.verificationStatus = VerificationStatus.RETRY_LATER;
+        applyAttempt(attempt, reason);
+        this.verifiedAt = null;
+    }
+
+    private void applyAttempt(VerificationAttempt attempt, String reason) {
+        this.verificationAttemptId = attempt.getId();
+        this.verificationConfidence = attempt.getConfidence();
+        this.verificationReason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+
     /**
      * 사진이 청소 인증용인지 확인하는 메서드
      * 
@@ -224,12 +276,22 @@ public class Photo {
         return this.verificationStatus == VerificationStatus.REJECTED;
     }
 
+    /**
+     * 사진이 재시도 대기 중인지 확인하는 메서드
+     * 
+     * @return 재시도 대기 중이면 true
+     */
+    public boolean isRetryLater() {
+        return this.verificationStatus == VerificationStatus.RETRY_LATER;
+    }
+
     /**
      * 사진이 검증 완료되었는지 확인하는 메서드
      * 
      * @return 검증 완료되었으면 true
      */
     public boolean isVerified() {
-        return this.verificationStatus != VerificationStatus.PENDING;
+        return this.verificationStatus != VerificationStatus.PENDING
+                && this.verificationStatus != VerificationStatus.RETRY_LATER;
     }
 }
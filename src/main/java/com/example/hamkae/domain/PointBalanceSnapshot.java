@@ -0,0 +1,76 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 스냅샷 엔티티 클래스
+ * 특정 원장 순번까지 적용한 잔액과 누적 적립/사용 포인트를 주기적으로 기록합니다.
+ * 잔액을 재구성할 때는 가장 최근 스냅샷에서 시작해 그 이후의 원장만 다시 적용합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "point_balance_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_snapshot_user_sequence", columnNames = {"user_id", "ledger_sequence"})
+})
+public class PointBalanceSnapshot {
+
+    /**
+     * 스냅샷 고유 식별자 (Primary Key)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 스냅샷 대상 사용자
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * 이 스냅샷에 반영된 마지막 원장 순번
+     */
+    @Column(name = "ledger_sequence", nullable = false)
+    private Long sequence;
+
+    /**
+     * 잔액
+     */
+    @Column(nullable = false)
+    private Integer balance;
+
+    /**
+     * 누적 적립 포인트
+     */
+    @Column(nullable = false)
+    private Integer lifetimeEarned;
+
+    /**
+     * 누적 사용 포인트
+     */
+    @Column(nullable = false)
+    private Integer lifetimeUsed;
+
+    /**
+     * 스냅샷 생성일시
+     */
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,184 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 지급 캠페인 엔티티 클래스
+ * 기간(과 선택적으로 지역) 안에 청소 인증을 받은 사용자에게 보너스 포인트를 지급하는 캠페인입니다.
+ * 대상자는 실행 시 한 번만 선정되어 지급 내역(point_campaign_grants)으로 고정되고, 지급은 일정 건수씩 나누어 진행되며
+ * 진행 상황(지급 인원/포인트)과 상태를 이 행에 기록하므로 중단되어도 이어서 실행할 수 있습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "point_campaigns")
+public class PointCampaign {
+
+    /**
+     * 캠페인 고유 식별자 (Primary Key)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 캠페인 이름 (포인트 이력의 적립 사유로도 사용)
+     * 예: "지구의 날 두 배 포인트"
+     */
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    /**
+     * 대상 청소 인증 기간 시작 (포함)
+     */
+    @Column(nullable = false)
+    private LocalDateTime periodStart;
+
+    /**
+     * 대상 청소 인증 기간 종료 (미포함)
+     */
+    @Column(nullable = false)
+    private LocalDateTime periodEnd;
+
+    /**
+     * 대상 지역 위도 범위 (선택, 최솟값/최댓값을 함께 지정)
+     */
+    @Column(precision = 10, scale = 8)
+    private BigDecimal minLat;
+
+    @Column(precision = 10, scale = 8)
+    private BigDecimal maxLat;
+
+    /**
+     * 대상 지역 경도 범위 (선택, 최솟값/최댓값을 함께 지정)
+     */
+    @Column(precision = 11, scale = 8)
+    private BigDecimal minLng;
+
+    @Column(precision = 11, scale = 8)
+    private BigDecimal maxLng;
+
+    /**
+     * 대상 지역 주소 키워드 (선택, 마커 주소에 포함된 경우만 대상)
+     * 예: "성북구"
+     */
+    @Column(length = 100)
+    private String addressKeyword;
+
+    /**
+     * 대상 사용자 1명당 지급 포인트
+     */
+    @Column(nullable = false)
+    private Integer pointsPerUser;
+
+    /**
+     * 대상 기간 청소 인증 1건당 추가 지급 포인트
+     */
+    @Column(nullable = false)
+    private Integer pointsPerCleanup;
+
+    /**
+     * 대상 기간 청소 인증으로 이미 적립한 포인트에 대한 추가 지급 비율 (%)
+     * 예: 100이면 인증 적립 포인트만큼 한 번 더 지급 (두 배 포인트)
+     */
+    @Column(nullable = false)
+    private Integer bonusPercentOfEarned;
+
+    /**
+     * 캠페인 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CampaignStatus status;
+
+    /**
+     * 선정된 대상 사용자 수 (대상 선정 전에는 null)
+     */
+    @Column
+    private Integer selectedUsers;
+
+    /**
+     * 선정된 대상에게 지급할 총 포인트 (대상 선정 전에는 null)
+     */
+    @Column
+    private Long selectedPoints;
+
+    /**
+     * 지금까지 지급한 사용자 수
+     */
+    @Column(nullable = false)
+    private Integer grantedUsers;
+
+    /**
+     * 지금까지 지급한 총 포인트
+     */
+    @Column(nullable = false)
+    private Long grantedPoints;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * 현재 실행의 식별 토큰
+     * 실행을 가져갈 때마다 새로 발급되며, 진행 기록은 토큰이 일치할 때만 반영되어 중단 후 다시 가져간 실행과 겹치지 않습니다.
+     */
+    @Column(length = 36)
+    private String runToken;
+
+    /**
+     * 실행 중인 작업이 마지막으로 진행을 기록한 일시
+     * 실행 중 상태로 오래 갱신이 없으면 중단된 것으로 보고 다시 실행합니다.
+     */
+    @Column
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * 생성일시
+     */
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 지급 완료일시
+     */
+    @Column
+    private LocalDateTime completedAt;
+
+    /**
+     * 캠페인 상태를 나타내는 열거형
+     */
+    public enum CampaignStatus {
+        PENDING,    // 실행 대기
+        RUNNING,    // 대상 선정/지급 중
+        COMPLETED,  // 지급 완료
+        FAILED      // 실패 (다시 실행하면 남은 대상부터 이어서 지급)
+    }
+
+    /**
+     * 지역 위도/경도 범위가 지정되었는지 확인하는 메서드
+     *
+     * @return 범위가 지정되었으면 true
+     */
+    public boolean hasBoundingBox() {
+        return minLat != null && maxLat != null && minLng != null && maxLng != null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캠페인 지급 내역 엔티티 클래스
+ * 캠페인 대상자 선정 시 (캠페인, 사용자)마다 한 행이 만들어지고, 포인트를 지급하면 같은 트랜잭션에서 지급 완료로 바뀝니다.
+ * (캠페인, 사용자) 유니크 제약과 지급 완료 전환의 조건부 UPDATE로 한 사용자에게 같은 캠페인을 두 번 지급하지 않습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "point_campaign_grants", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_campaign_grants_campaign_user", columnNames = {"campaign_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_point_campaign_grants_campaign_status_id", columnList = "campaign_id, status, id")
+})
+public class PointCampaignGrant {
+
+    /**
+     * 지급 내역 고유 식별자 (Primary Key)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 캠페인 ID
+     */
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    /**
+     * 지급 대상 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 대상 기간 청소 인증 건수
+     */
+    @Column(nullable = false)
+    private Integer cleanupCount;
+
+    /**
+     * 지급할 포인트
+     */
+    @Column(nullable = false)
+    private Integer points;
+
+    /**
+     * 지급 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private GrantStatus status;
+
+    /**
+     * 대상 선정일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 지급일시
+     */
+    @Column
+    private LocalDateTime grantedAt;
+
+    /**
+     * 지급 상태를 나타내는 열거형
+     */
+    public enum GrantStatus {
+        PENDING,    // 지급 대기
+        GRANTED     // 지급 완료
+    }
+}
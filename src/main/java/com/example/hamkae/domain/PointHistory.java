@@ -13,6 +13,8 @@ import java.time.LocalDateTime;
 /**
  * 포인트 적립/사용 이력을 관리하는 엔티티 클래스
  * 사용자의 포인트 변동 내역을 추적합니다.
+ * 추가만 가능한 포인트 원장이며, 사용자별로 1부터 빈틈없이 증가하는 순번과 변동 직후 잔액을 함께 기록합니다.
+ * 잔액은 이 원장을 순번대로 다시 적용해 언제든 재구성할 수 있습니다.
  *
  * @author 윤준하
  * @version 1.0
@@ -24,7 +26,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "point_history")
+@Table(name = "point_history", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_history_user_sequence", columnNames = {"user_id", "ledger_sequence"}),
+        @UniqueConstraint(name = "uk_point_history_earned_photo", columnNames = {"earned_photo_id"})
+}, indexes = {
+        @Index(name = "idx_point_history_user_type_created", columnList = "user_id, type, created_at"),
+        @Index(name = "idx_point_history_user_created_id", columnList = "user_id, created_at, id")
+})
 public class PointHistory {
 
     /**
@@ -42,16 +50,28 @@ public class PointHistory {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * 사용자별 원장 순번 (1부터 증가, 원장 도입 전 이력은 이관 전까지 null)
+     */
+    @Column(name = "ledger_sequence")
+    private Long sequence;
+
+    /**
+     * 이 변동을 적용한 직후의 잔액
+     */
+    @Column
+    private Integer balanceAfter;
+
     /**
      * 변동된 포인트 수량
-     * 양수: 적립, 음수: 사용
+     * 양수: 적립/증액 조정, 음수: 사용/감액 조정
      */
     @Column(nullable = false)
     private Integer points;
 
     /**
      * 포인트 변동 타입
-     * earned: 적립, used: 사용
+     * earned: 적립, used: 사용, adjusted: 관리자 조정/이관 보정 (누적 적립/사용에는 포함하지 않음)
      */
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -72,6 +92,14 @@ public class PointHistory {
     @JoinColumn(name = "related_photo_id")
     private Photo relatedPhoto;
 
+    /**
+     * 적립 원인 사진 ID (사진 인증 적립 시에만, 사진당 적립 1회 보장용)
+     * MySQL에는 조건부 유니크 인덱스가 없어 적립 원장에만 값을 채우는 별도 컬럼에 유니크 제약을 겁니다.
+     * NULL은 중복을 허용하므로 사용/조정 원장과 사진 없는 적립에는 영향이 없습니다.
+     */
+    @Column(name = "earned_photo_id")
+    private Long earnedPhotoId;
+
     /**
      * 포인트 변동일시
      * 자동 생성되며 수정 불가
@@ -85,7 +113,8 @@ public class PointHistory {
      */
     public enum PointType {
         EARNED,     // 적립
-        USED        // 사용
+        USED,       // 사용
+        ADJUSTED    // 조정
     }
 
     /**
@@ -95,15 +124,21 @@ public class PointHistory {
      * @param points 적립할 포인트 수량
      * @param description 적립 사유
      * @param relatedPhoto 관련 사진
+     * @param sequence 원장 순번
+     * @param balanceAfter 적립 직후 잔액
      * @return 포인트 적립 이력 객체
      */
-    public static PointHistory createEarnedHistory(User user, Integer points, String description, Photo relatedPhoto) {
+    public static PointHistory createEarnedHistory(User user, Integer points, String description, Photo relatedPhoto,
+                                                   Long sequence, Integer balanceAfter) {
         return PointHistory.builder()
                 .user(user)
                 .points(points)
                 .type(PointType.EARNED)
                 .description(description)
                 .relatedPhoto(relatedPhoto)
+                .earnedPhotoId(relatedPhoto != null ? relatedPhoto.getId() : null)
+                .sequence(sequence)
+                .balanceAfter(balanceAfter)
                 .build();
     }
 
@@ -113,17 +148,55 @@ public class PointHistory {
      * @param user 포인트를 사용할 사용자
      * @param points 사용할 포인트 수량
      * @param description 사용 사유
+     * @param sequence 원장 순번
+     * @param balanceAfter 사용 직후 잔액
      * @return 포인트 사용 이력 객체
      */
-    public static PointHistory createUsedHistory(User user, Integer points, String description) {
+    public static PointHistory createUsedHistory(User user, Integer points, String description,
+                                                 Long sequence, Integer balanceAfter) {
         return PointHistory.builder()
                 .user(user)
                 .points(-points) // 음수로 저장
                 .type(PointType.USED)
                 .description(description)
+                .sequence(sequence)
+                .balanceAfter(balanceAfter)
                 .build();
     }
 
+    /**
+     * 포인트 조정 이력을 생성하는 정적 팩토리 메서드
+     * 
+     * @param user 잔액을 조정할 사용자
+     * @param delta 조정량 (양수: 증액, 음수: 감액)
+     * @param description 조정 사유
+     * @param sequence 원장 순번
+     * @param balanceAfter 조정 직후 잔액
+     * @return 포인트 조정 이력 객체
+     */
+    public static PointHistory createAdjustedHistory(User user, Integer delta, String description,
+                                                     Long sequence, Integer balanceAfter) {
+        return PointHistory.builder()
+                .user(user)
+                .points(delta)
+                .type(PointType.ADJUSTED)
+                .description(description)
+                .sequence(sequence)
+                .balanceAfter(balanceAfter)
+                .build();
+    }
+
+    /**
+     * 원장 도입 전 이력에 원장 순번과 변동 직후 잔액을 부여하는 메서드 (원장 이관 전용)
+     * 
+     * @param sequence 원장 순번
+     * @param balanceAfter 변동 직후 잔액
+     */
+    public void assignLedgerPosition(Long sequence, Integer balanceAfter) {
+        this.sequence = sequence;
+        this.balanceAfter = balanceAfter;
+    }
+
     /**
      * 포인트가 적립인지 확인하는 메서드
      * 
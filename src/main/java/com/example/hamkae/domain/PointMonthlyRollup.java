@@ -0,0 +1,77 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 월간 포인트 집계 엔티티 클래스
+ * 포인트 원장과 상품권 교환이 기록될 때 함께 갱신되어, 월별 통계를 이력 건수와 관계없이 한 행으로 조회합니다.
+ * 행은 그 달의 첫 기록 시점에 해당 월 이력을 합산한 값으로 만들어지므로, 이후 증분만 더해도 원본과 일치합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "point_monthly_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_monthly_rollup_user_period", columnNames = {"user_id", "period_start"})
+})
+public class PointMonthlyRollup {
+
+    /**
+     * 월간 집계 고유 식별자 (Primary Key)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 집계 대상 사용자
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * 집계 월의 첫날
+     */
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    /**
+     * 해당 월 적립(EARNED) 포인트 합계
+     */
+    @Column(nullable = false)
+    private Integer earnedPoints;
+
+    /**
+     * 해당 월 사용(USED) 포인트 합계
+     */
+    @Column(nullable = false)
+    private Integer usedPoints;
+
+    /**
+     * 해당 월 승인된 상품권 교환 포인트 합계
+     */
+    @Column(nullable = false)
+    private Integer rewardPoints;
+
+    /**
+     * 마지막 갱신일시
+     */
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,85 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청소 인증 포인트 규칙 세트 엔티티 클래스
+ * 규칙을 바꿀 때마다 새 행을 추가하며, ID가 가장 큰 행이 적용 중인 규칙입니다.
+ * 이전 행은 그대로 남아 규칙 변경 이력이 되고, 행이 하나도 없으면 설정 파일의 규칙을 사용합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "point_rule_sets")
+public class PointRuleSet {
+
+    /**
+     * 규칙 세트 고유 식별자 (Primary Key, 규칙 버전으로 사용)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 기본 포인트 (null이면 ai.verification.points.reward 설정값)
+     */
+    @Column
+    private Integer basePoints;
+
+    /**
+     * 신뢰도 구간 보너스 (예: "0.8=1000,0.95=2000")
+     */
+    @Column(length = 500)
+    private String confidenceBands;
+
+    /**
+     * 오늘 첫 청소 인증 보너스
+     */
+    @Column
+    private Integer firstOfDayBonus;
+
+    /**
+     * 연속 청소 보너스 (예: "3=500,7=1500")
+     */
+    @Column(length = 500)
+    private String streakBonuses;
+
+    /**
+     * 지역 배율 (예: "성북구=150")
+     */
+    @Column(length = 500)
+    private String districtMultipliers;
+
+    /**
+     * 마커 경과 시간 보너스 (예: "72=500")
+     */
+    @Column(length = 500)
+    private String markerAgeBonuses;
+
+    /**
+     * 규칙을 등록한 관리자 아이디
+     */
+    @Column(length = 50)
+    private String createdBy;
+
+    /**
+     * 등록일시
+     */
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
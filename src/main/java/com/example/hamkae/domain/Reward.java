@@ -24,7 +24,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "rewards")
+@Table(name = "rewards", indexes = {
+        @Index(name = "idx_rewards_user_status_created", columnList = "user_id, status, created_at"),
+        @Index(name = "idx_rewards_user_created_id", columnList = "user_id, created_at, id")
+})
 public class Reward {
 
     /**
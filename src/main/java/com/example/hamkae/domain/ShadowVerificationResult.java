@@ -0,0 +1,120 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 섀도 모델 검증 비교 결과 엔티티 클래스
+ * 운영 판정(primary)과 같은 이미지를 다른 모델/설정(shadow)으로 검증한 결과를 나란히 저장합니다.
+ * 섀도 판정은 사진 상태나 포인트에 반영되지 않으며, 모델/설정 전환 판단을 위한 비교 데이터로만 사용됩니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "verification_shadow_result", indexes = {
+        @Index(name = "idx_shadow_result_model", columnList = "shadow_model, shadow_detail, created_at")
+})
+public class ShadowVerificationResult {
+
+    /**
+     * 비교 결과 고유 식별자 (Primary Key)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 검증 대상 마커 ID
+     */
+    @Column(nullable = false)
+    private Long markerId;
+
+    /**
+     * 운영 모델명
+     */
+    @Column(nullable = false, length = 50)
+    private String primaryModel;
+
+    /**
+     * 섀도 모델명
+     */
+    @Column(name = "shadow_model", nullable = false, length = 50)
+    private String shadowModel;
+
+    /**
+     * 섀도 이미지 해상도 수준 (low/high/auto)
+     */
+    @Column(name = "shadow_detail", nullable = false, length = 10)
+    private String shadowDetail;
+
+    /**
+     * 운영 판정 (APPROVED/REJECTED)
+     */
+    @Column(nullable = false, length = 20)
+    private String primaryResult;
+
+    /**
+     * 섀도 판정 (APPROVED/REJECTED, 실패 시 ERROR)
+     */
+    @Column(nullable = false, length = 20)
+    private String shadowResult;
+
+    /**
+     * 두 판정 일치 여부 (섀도 실패 시 false)
+     */
+    @Column(nullable = false)
+    private boolean agreed;
+
+    @Column
+    private Double primaryConfidence;
+
+    @Column
+    private Double shadowConfidence;
+
+    /**
+     * 모델 호출 구간 소요 시간 (밀리초, 요청 전송 ~ 응답 파싱)
+     */
+    @Column
+    private Long primaryLatencyMs;
+
+    @Column
+    private Long shadowLatencyMs;
+
+    @Column
+    private Integer primaryPromptTokens;
+
+    @Column
+    private Integer shadowPromptTokens;
+
+    @Column
+    private Integer primaryCompletionTokens;
+
+    @Column
+    private Integer shadowCompletionTokens;
+
+    /**
+     * 섀도 검증 실패 시 예외 클래스명
+     */
+    @Column(length = 100)
+    private String errorClass;
+
+    /**
+     * 비교 기록일시
+     */
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
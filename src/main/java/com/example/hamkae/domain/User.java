@@ -9,6 +9,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -60,11 +61,48 @@ public class User {
     /**
      * 사용자 보유 포인트
      * 기본값 0, 정수형
+     * 엔티티 저장(dirty checking)으로는 변경되지 않으며, 잔액 변경은 PointLedgerService의 조건부 UPDATE로만 수행합니다.
+     * (읽은 시점의 잔액으로 덮어써서 동시 적립/차감이 유실되는 것을 막기 위함)
      */
-    @Column(columnDefinition = "INT DEFAULT 0")
+    @Column(columnDefinition = "INT DEFAULT 0", updatable = false)
     @Builder.Default
     private Integer points = 0;
 
+    /**
+     * 마지막으로 기록한 포인트 원장 순번 (원장 기록과 같은 UPDATE 문에서만 증가)
+     */
+    @Column(columnDefinition = "BIGINT DEFAULT 0", updatable = false)
+    @Builder.Default
+    private Long ledgerSequence = 0L;
+
+    /**
+     * 누적 적립 포인트 (원장 기록과 같은 UPDATE 문에서만 변경)
+     */
+    @Column(columnDefinition = "INT DEFAULT 0", updatable = false)
+    @Builder.Default
+    private Integer lifetimeEarned = 0;
+
+    /**
+     * 누적 사용 포인트 (원장 기록과 같은 UPDATE 문에서만 변경)
+     */
+    @Column(columnDefinition = "INT DEFAULT 0", updatable = false)
+    @Builder.Default
+    private Integer lifetimeUsed = 0;
+
+    /**
+     * 마지막으로 청소 인증 포인트를 적립한 날짜 (청소 인증 원장 기록과 같은 UPDATE 문에서만 변경)
+     * 오늘 첫 청소 보너스 판단에 사용합니다.
+     */
+    @Column(updatable = false)
+    private LocalDate lastCleanupDate;
+
+    /**
+     * 마지막 청소 인증 날짜까지 이어진 연속 청소 일수 (청소 인증 원장 기록과 같은 UPDATE 문에서만 변경)
+     */
+    @Column(columnDefinition = "INT DEFAULT 0", updatable = false)
+    @Builder.Default
+    private Integer cleanupStreakDays = 0;
+
     /**
      * 계정 생성일시
      * 자동 생성되며 수정 불가
@@ -117,28 +155,6 @@ public class User {
 
     // ========== 비즈니스 메서드 ==========
 
-    /**
-     * 포인트를 적립하는 메서드
-     * 
-     * @param points 적립할 포인트 수량
-     */
-    public void addPoints(Integer points) {
-        this.points += points;
-    }
-
-    /**
-     * 포인트를 사용하는 메서드
-     * 
-     * @param points 사용할 포인트 수량
-     * @throws IllegalStateException 보유 포인트가 부족한 경우
-     */
-    public void usePoints(Integer points) {
-        if (this.points < points) {
-            throw new IllegalStateException("보유 포인트가 부족합니다. 현재: " + this.points + ", 필요: " + points);
-        }
-        this.points -= points;
-    }
-
     /**
      * 보유 포인트가 충분한지 확인하는 메서드
      * 
@@ -150,12 +166,19 @@ public class User {
     }
 
     /**
-     * 포인트를 직접 설정하는 메서드 (테스트/관리자용)
+     * 데이터베이스에서 원자적으로 변경된 잔액과 원장 상태를 엔티티에 반영하는 메서드
+     * 메모리의 값만 바꾸며, 이 값들은 UPDATE 문에 포함되지 않습니다.
      * 
-     * @param points 설정할 포인트 수량
+     * @param points 현재 잔액
+     * @param ledgerSequence 마지막 원장 순번
+     * @param lifetimeEarned 누적 적립 포인트
+     * @param lifetimeUsed 누적 사용 포인트
      */
-    public void setPoints(Integer points) {
+    public void syncLedger(Integer points, Long ledgerSequence, Integer lifetimeEarned, Integer lifetimeUsed) {
         this.points = points;
+        this.ledgerSequence = ledgerSequence;
+        this.lifetimeEarned = lifetimeEarned;
+        this.lifetimeUsed = lifetimeUsed;
     }
 
     /**
@@ -0,0 +1,132 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 검증 시도 감사 기록 엔티티 클래스
+ * 마커 검증 1회마다 판정, 모델, 지연, 토큰 사용량 등을 타입이 있는 컬럼으로 남겨 SQL로 집계할 수 있게 합니다.
+ * 모델의 원문 응답은 이 테이블에만 저장하며, 사진 목록에는 요약 필드만 싣고 원문은 필요할 때 따로 조회합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "verification_attempt", indexes = {
+        @Index(name = "idx_verification_attempt_marker", columnList = "marker_id, created_at"),
+        @Index(name = "idx_verification_attempt_result", columnList = "result, created_at"),
+        @Index(name = "idx_verification_attempt_created", columnList = "created_at")
+})
+public class VerificationAttempt {
+
+    /**
+     * 검증 시도 고유 식별자 (Primary Key)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 검증 대상 마커
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "marker_id", nullable = false)
+    private Marker marker;
+
+    /**
+     * 검증 결과 (APPROVED/REJECTED/RETRY_LATER/ERROR)
+     */
+    @Column(nullable = false, length = 20)
+    private String result;
+
+    /**
+     * 검증 신뢰도 (0.0 ~ 1.0, 실패 시 null)
+     */
+    @Column
+    private Double confidence;
+
+    /**
+     * 판단 근거 요약 (최대 500자)
+     */
+    @Column(length = 500)
+    private String reason;
+
+    /**
+     * 검증에 사용된 모델명
+     */
+    @Column(length = 50)
+    private String model;
+
+    /**
+     * 검증에 사용된 프롬프트 버전
+     */
+    @Column(length = 20)
+    private String promptVersion;
+
+    /**
+     * 검증 1건의 전체 소요 시간 (밀리초)
+     */
+    @Column
+    private Long latencyMs;
+
+    /**
+     * 입력 토큰 수 (캐시 적중 시 0)
+     */
+    @Column
+    private Integer promptTokens;
+
+    /**
+     * 출력 토큰 수 (캐시 적중 시 0)
+     */
+    @Column
+    private Integer completionTokens;
+
+    /**
+     * 결과 캐시 적중 여부
+     */
+    @Column(nullable = false)
+    private boolean cached;
+
+    /**
+     * 전송 이미지 인코딩 프로필 (COMPACT, DETAILED, HIGH 등, 캐시 적중이면 null)
+     */
+    @Column(length = 20)
+    private String imageProfile;
+
+    /**
+     * low detail 판정의 신뢰도가 낮아 high detail로 재확인했는지 여부
+     */
+    @Column(nullable = false)
+    private boolean escalated;
+
+    /**
+     * 실패 시 예외 클래스명
+     */
+    @Column(length = 100)
+    private String errorClass;
+
+    /**
+     * 모델 원문 응답 또는 오류 메시지
+     */
+    @Column(columnDefinition = "TEXT")
+    private String rawResponse;
+
+    /**
+     * 검증 시도 기록일시
+     */
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,97 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 검증 결과 캐시 엔티티 클래스
+ * 동일한 BEFORE/AFTER 이미지 쌍이 OpenAI로 다시 전송되지 않도록 검증 결과를 영속 저장합니다.
+ * 캐시 키는 (BEFORE 해시, AFTER 해시, 모델, 프롬프트 버전)의 SHA-256 값입니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "verification_result_cache")
+public class VerificationCacheEntry {
+
+    /**
+     * 캐시 항목 고유 식별자 (Primary Key)
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 캐시 키 (구성 요소 전체의 SHA-256 해시)
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String cacheKey;
+
+    /**
+     * 청소 전 이미지 내용 해시
+     */
+    @Column(nullable = false, length = 64)
+    private String beforeHash;
+
+    /**
+     * 청소 후 이미지 내용 해시
+     */
+    @Column(nullable = false, length = 64)
+    private String afterHash;
+
+    /**
+     * 검증에 사용된 모델명
+     */
+    @Column(nullable = false, length = 50)
+    private String model;
+
+    /**
+     * 검증에 사용된 프롬프트 버전
+     */
+    @Column(nullable = false, length = 20)
+    private String promptVersion;
+
+    /**
+     * 검증 결과 (APPROVED/REJECTED)
+     */
+    @Column(nullable = false, length = 20)
+    private String verificationResult;
+
+    /**
+     * 검증 신뢰도 (0.0 ~ 1.0)
+     */
+    @Column
+    private Double confidence;
+
+    /**
+     * 판단 근거 요약
+     */
+    @Column(length = 500)
+    private String reason;
+
+    /**
+     * GPT API 응답 내용
+     */
+    @Column(columnDefinition = "TEXT")
+    private String gptResponse;
+
+    /**
+     * 캐시 저장일시
+     */
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
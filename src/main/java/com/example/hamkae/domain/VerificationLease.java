@@ -0,0 +1,52 @@
+package com.example.hamkae.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마커별 AI 검증 임대(lease) 엔티티 클래스
+ * 여러 서버 노드가 같은 마커를 동시에 검증하지 않도록 마커당 하나의 행으로 검증 소유권을 표시합니다.
+ * 만료 시각이 지난 임대는 다른 노드가 가져갈 수 있습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "verification_lease")
+public class VerificationLease {
+
+    /**
+     * 검증 대상 마커 ID (Primary Key)
+     */
+    @Id
+    private Long markerId;
+
+    /**
+     * 임대를 보유한 노드 식별자
+     */
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    /**
+     * 임대 획득일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime acquiredAt;
+
+    /**
+     * 임대 만료일시
+     * 노드 장애로 해제되지 못한 임대는 이 시각 이후 회수됩니다.
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,24 @@
+package com.example.hamkae.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 마커 삭제 이벤트
+ * 마커와 연결된 사진이 함께 삭제되므로, 제보자와 사진을 올린 사용자 모두의 활동 통계 캐시를 무효화하는 데 사용됩니다.
+ * 삭제가 커밋된 뒤 사진 파일을 지우는 데에도 사용됩니다.
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class MarkerDeletedEvent {
+    private final Long markerId;
+    private final Set<Long> userIds;
+    private final List<String> imagePaths;
+}
@@ -0,0 +1,48 @@
+package com.example.hamkae.event;
+
+import com.example.hamkae.service.FileUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 마커 삭제 이벤트 리스너
+ * 마커 삭제가 커밋된 뒤 사진 파일을 삭제합니다.
+ * 삭제가 롤백되면 호출되지 않으므로, 남아 있는 마커의 사진 파일이 지워지지 않습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkerEventListener {
+
+    private final FileUploadService fileUploadService;
+
+    /**
+     * 삭제된 마커의 사진 파일을 삭제합니다.
+     *
+     * @param event 마커 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMarkerDeleted(MarkerDeletedEvent event) {
+        int deleted = 0;
+        for (String imagePath : event.getImagePaths()) {
+            try {
+                if (fileUploadService.deleteImage(imagePath)) {
+                    deleted++;
+                    log.info("사진 파일 삭제 완료: {}", imagePath);
+                } else {
+                    log.warn("사진 파일 삭제 실패: {}", imagePath);
+                }
+            } catch (Exception e) {
+                log.warn("사진 파일 삭제 중 오류: {}", imagePath, e);
+            }
+        }
+        log.info("삭제된 마커의 사진 파일 정리: markerId={}, 삭제된 파일 수={}", event.getMarkerId(), deleted);
+    }
+}
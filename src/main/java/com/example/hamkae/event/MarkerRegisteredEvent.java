@@ -0,0 +1,19 @@
+package com.example.hamkae.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 마커 등록 이벤트
+ * 새 마커가 등록될 때 발행되며, 제보자의 활동 통계 캐시를 커밋 후에 무효화하는 데 사용됩니다.
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class MarkerRegisteredEvent {
+    private final Long markerId;
+    private final Long userId;
+}
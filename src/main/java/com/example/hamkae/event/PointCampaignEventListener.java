@@ -0,0 +1,37 @@
+package com.example.hamkae.event;
+
+import com.example.hamkae.service.PointCampaignService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 포인트 지급 캠페인 이벤트 리스너
+ * 실행 권한을 가져간 트랜잭션이 커밋된 후 캠페인을 비동기로 실행합니다.
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointCampaignEventListener {
+
+    private final PointCampaignService pointCampaignService;
+
+    /**
+     * 캠페인 대상 선정과 지급을 수행합니다.
+     * 
+     * @param event 캠페인 실행 시작 이벤트
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCampaignStarted(PointCampaignStartedEvent event) {
+        log.info("캠페인 실행 이벤트 수신: campaignId={}", event.getCampaignId());
+        pointCampaignService.run(event.getCampaignId(), event.getRunToken());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.hamkae.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 포인트 지급 캠페인 실행 시작 이벤트
+ * 캠페인 실행 권한을 가져간 트랜잭션이 커밋된 후 백그라운드에서 대상 선정과 지급을 수행하기 위해 사용됩니다.
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class PointCampaignStartedEvent {
+    private final Long campaignId;
+    private final String runToken;
+}
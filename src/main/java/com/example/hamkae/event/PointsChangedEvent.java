@@ -0,0 +1,26 @@
+package com.example.hamkae.event;
+
+import com.example.hamkae.domain.PointHistory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 변동 이벤트
+ * 포인트 원장에 한 건이 기록될 때 발행되며, 리더보드처럼 잔액/적립을 따라가는 메모리 구조를 커밋 후에 갱신하는 데 사용됩니다.
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class PointsChangedEvent {
+    private final Long userId;
+    private final PointHistory.PointType type;
+    private final Integer points;
+    private final Integer balance;
+    private final Long ledgerSequence;
+    private final LocalDateTime occurredAt;
+}
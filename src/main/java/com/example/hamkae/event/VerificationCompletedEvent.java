@@ -0,0 +1,22 @@
+package com.example.hamkae.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 검증 완료 이벤트
+ * 마커의 검증 결과가 AFTER 사진에 반영(커밋)된 뒤 발행되며, 검증 상태를 기다리는 롱 폴링 요청을 깨우는 데 사용됩니다.
+ * 
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class VerificationCompletedEvent {
+    private final Long markerId;
+    private final String verificationStatus;
+    private final Double confidence;
+    private final String reason;
+    private final Long verificationAttemptId;
+}
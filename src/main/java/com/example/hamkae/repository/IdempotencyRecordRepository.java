@@ -0,0 +1,87 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등성 키를 데이터베이스에서 조회/저장하는 Repository 인터페이스
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    /**
+     * 사용자의 멱등성 키를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param idempotencyKey Idempotency-Key 헤더 값
+     * @return 멱등성 키 (없으면 empty)
+     */
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    /**
+     * 만료되었거나 처리 중인 채로 오래 남은 키를 조건부로 다시 가져옵니다.
+     * 단일 UPDATE 문이므로 같은 키로 동시에 재시도해도 한 요청만 성공합니다.
+     *
+     * @param id 멱등성 키 ID
+     * @param requestHash 새 요청 내용 해시
+     * @param now 현재 시각
+     * @param staleBefore 이 시각 이전에 시작된 처리 중 키는 중단된 것으로 간주
+     * @param expiresAt 새 만료 시각
+     * @return 갱신된 행 수 (1이면 가져오기 성공)
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = com.example.hamkae.domain.IdempotencyRecord.Status.IN_PROGRESS, " +
+           "r.requestHash = :requestHash, r.responseBody = null, r.lockedAt = :now, r.expiresAt = :expiresAt " +
+           "WHERE r.id = :id AND (r.expiresAt < :now OR " +
+           "(r.status = com.example.hamkae.domain.IdempotencyRecord.Status.IN_PROGRESS AND r.lockedAt < :staleBefore))")
+    int reclaim(@Param("id") Long id, @Param("requestHash") String requestHash, @Param("now") LocalDateTime now,
+                @Param("staleBefore") LocalDateTime staleBefore, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 처리 중인 키에 응답을 저장하고 완료로 표시합니다.
+     * 처리 시작 일시가 다르면 다른 요청이 키를 다시 가져간 것이므로 갱신하지 않습니다.
+     *
+     * @param id 멱등성 키 ID
+     * @param lockedAt 이 요청이 기록한 처리 시작 일시
+     * @param responseBody 응답 본문 (JSON)
+     * @return 갱신된 행 수 (0이면 키를 잃음)
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = com.example.hamkae.domain.IdempotencyRecord.Status.COMPLETED, " +
+           "r.responseBody = :responseBody WHERE r.id = :id " +
+           "AND r.status = com.example.hamkae.domain.IdempotencyRecord.Status.IN_PROGRESS AND r.lockedAt = :lockedAt")
+    int complete(@Param("id") Long id, @Param("lockedAt") LocalDateTime lockedAt,
+                 @Param("responseBody") String responseBody);
+
+    /**
+     * 작업이 실패한 처리 중 키를 삭제합니다.
+     * 처리 시작 일시가 다르면 다른 요청이 키를 다시 가져간 것이므로 삭제하지 않습니다.
+     *
+     * @param id 멱등성 키 ID
+     * @param lockedAt 이 요청이 기록한 처리 시작 일시
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id " +
+           "AND r.status = com.example.hamkae.domain.IdempotencyRecord.Status.IN_PROGRESS AND r.lockedAt = :lockedAt")
+    int release(@Param("id") Long id, @Param("lockedAt") LocalDateTime lockedAt);
+
+    /**
+     * 만료된 키를 삭제합니다.
+     *
+     * @param now 현재 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,10 +1,15 @@
 package com.example.hamkae.repository;
 
 import com.example.hamkae.domain.Photo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -71,4 +76,70 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
      * @return 조건에 해당하는 사진 목록
      */
     List<Photo> findByUserIdAndTypeAndVerificationStatus(Long userId, Photo.PhotoType type, Photo.VerificationStatus verificationStatus);
+
+    /**
+     * 검증이 끝나지 않은 채 오래된 사진을 (createdAt, id) 키셋 순서로 조회합니다.
+     * (verification_status, created_at) 인덱스를 범위 조회하므로 OFFSET 없이 이어서 읽을 수 있습니다.
+     *
+     * @param status 검증 상태 (PENDING 또는 RETRY_LATER)
+     * @param type 사진 타입 (AFTER)
+     * @param staleBefore 이 시각 이전에 업로드된 사진만 조회
+     * @param now 현재 시각 (다음 예약 가능 시각이 지나지 않은 사진은 제외)
+     * @param afterCreatedAt 이전 페이지 마지막 사진의 업로드일시
+     * @param afterId 이전 페이지 마지막 사진의 ID
+     * @param limit 최대 조회 건수
+     * @return 사진 ID, 업로드일시, 마커 ID, 재처리 예약 횟수 목록
+     */
+    @Query("SELECT p.id AS id, p.createdAt AS createdAt, p.marker.id AS markerId, " +
+           "COALESCE(p.sweepRetryCount, 0) AS sweepRetryCount FROM Photo p " +
+           "WHERE p.verificationStatus = :status AND p.type = :type AND p.createdAt < :staleBefore " +
+           "AND (p.nextSweepAt IS NULL OR p.nextSweepAt <= :now) " +
+           "AND (p.createdAt > :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.id > :afterId)) " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<StalePhoto> findStalePhotos(@Param("status") Photo.VerificationStatus status,
+                                     @Param("type") Photo.PhotoType type,
+                                     @Param("staleBefore") LocalDateTime staleBefore,
+                                     @Param("now") LocalDateTime now,
+                                     @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                     @Param("afterId") Long afterId,
+                                     Limit limit);
+
+    /**
+     * 마커의 검증 대기 AFTER 사진에 재처리 예약 횟수를 하나 더하고 다음 예약 가능 시각을 기록합니다.
+     *
+     * @param markerId 마커 ID
+     * @param nextSweepAt 다음 예약 가능 시각
+     * @return 갱신된 사진 수
+     */
+    @Modifying
+    @Query("UPDATE Photo p SET p.sweepRetryCount = COALESCE(p.sweepRetryCount, 0) + 1, p.nextSweepAt = :nextSweepAt " +
+           "WHERE p.marker.id = :markerId AND p.type = com.example.hamkae.domain.Photo.PhotoType.AFTER " +
+           "AND p.verificationStatus IN (com.example.hamkae.domain.Photo.VerificationStatus.PENDING, " +
+           "com.example.hamkae.domain.Photo.VerificationStatus.RETRY_LATER)")
+    int recordSweepAttempt(@Param("markerId") Long markerId, @Param("nextSweepAt") LocalDateTime nextSweepAt);
+
+    /**
+     * 마커의 검증 대기 AFTER 사진을 관리자 확인 대기로 바꿉니다. (자동 재검증 대상에서 빠짐)
+     *
+     * @param markerId 마커 ID
+     * @param reason 사유
+     * @return 갱신된 사진 수
+     */
+    @Modifying
+    @Query("UPDATE Photo p SET p.verificationStatus = com.example.hamkae.domain.Photo.VerificationStatus.MANUAL_REVIEW, " +
+           "p.verificationReason = :reason " +
+           "WHERE p.marker.id = :markerId AND p.type = com.example.hamkae.domain.Photo.PhotoType.AFTER " +
+           "AND p.verificationStatus IN (com.example.hamkae.domain.Photo.VerificationStatus.PENDING, " +
+           "com.example.hamkae.domain.Photo.VerificationStatus.RETRY_LATER)")
+    int markForManualReview(@Param("markerId") Long markerId, @Param("reason") String reason);
+
+    /**
+     * 재검증 대상 사진 조회용 프로젝션
+     */
+    interface StalePhoto {
+        Long getId();
+        LocalDateTime getCreatedAt();
+        Long getMarkerId();
+        Integer getSweepRetryCount();
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.PointBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * 포인트 원장 스냅샷을 데이터베이스에서 조회/저장하는 Repository 인터페이스
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    /**
+     * 사용자의 가장 최근 스냅샷을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 원장 순번이 가장 큰 스냅샷 (없으면 empty)
+     */
+    Optional<PointBalanceSnapshot> findFirstByUserIdOrderBySequenceDesc(Long userId);
+}
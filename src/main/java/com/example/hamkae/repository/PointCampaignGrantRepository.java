@@ -0,0 +1,121 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.PointCampaignGrant;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 캠페인 지급 내역을 데이터베이스에서 조회/저장하는 Repository 인터페이스
+ * 대상 선정과 지급 처리는 엔티티를 읽지 않고 집합 단위 SQL과 프로젝션으로만 수행합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface PointCampaignGrantRepository extends JpaRepository<PointCampaignGrant, Long> {
+
+    /**
+     * 기간/지역 조건에 맞는 청소 인증 사진을 사용자별로 집계해 지급 내역을 한 문장으로 만듭니다.
+     * 청소 후(AFTER) 사진 중 승인된 것만 대상으로 하며, 지급 포인트는 1인당 포인트 + 인증 건당 포인트
+     * + 그 인증으로 적립한 포인트의 일정 비율입니다. 한 마커에 사진을 여러 장 올려도 인증은 마커당 한 건으로 셉니다.
+     * 인증 적립은 관련 사진으로 찾으므로 적립 원인 사진 ID가 없는 도입 전 적립도 추가 지급에 포함됩니다.
+     * (캠페인, 사용자) 유니크 제약으로 중복 선정되지 않습니다.
+     *
+     * @param campaignId 캠페인 ID
+     * @param from 인증 기간 시작 (포함)
+     * @param to 인증 기간 종료 (미포함)
+     * @param minLat 위도 최솟값 (지역 제한이 없으면 -90)
+     * @param maxLat 위도 최댓값 (지역 제한이 없으면 90)
+     * @param minLng 경도 최솟값 (지역 제한이 없으면 -180)
+     * @param maxLng 경도 최댓값 (지역 제한이 없으면 180)
+     * @param addressKeyword 마커 주소 키워드 (제한이 없으면 빈 문자열)
+     * @param pointsPerUser 1인당 지급 포인트
+     * @param pointsPerCleanup 인증 건당 지급 포인트
+     * @param bonusPercent 인증 적립 포인트에 대한 추가 지급 비율 (%)
+     * @param now 선정일시
+     * @return 선정된 사용자 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO point_campaign_grants (campaign_id, user_id, cleanup_count, points, status, created_at) " +
+                   "SELECT :campaignId, p.user_id, COUNT(DISTINCT p.marker_id), " +
+                   ":pointsPerUser + :pointsPerCleanup * COUNT(DISTINCT p.marker_id) + FLOOR(COALESCE(SUM(h.points), 0) * :bonusPercent / 100), " +
+                   "'PENDING', :now " +
+                   "FROM photos p " +
+                   "JOIN markers m ON m.id = p.marker_id " +
+                   "LEFT JOIN point_history h ON h.related_photo_id = p.id AND h.type = 'EARNED' " +
+                   "WHERE p.type = 'AFTER' AND p.verification_status = 'APPROVED' " +
+                   "AND p.verified_at >= :from AND p.verified_at < :to " +
+                   "AND m.status <> 'REMOVED' " +
+                   "AND m.lat BETWEEN :minLat AND :maxLat AND m.lng BETWEEN :minLng AND :maxLng " +
+                   "AND (:addressKeyword = '' OR m.address LIKE CONCAT('%', :addressKeyword, '%')) " +
+                   "GROUP BY p.user_id", nativeQuery = true)
+    int insertEligibleGrants(@Param("campaignId") Long campaignId,
+                             @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                             @Param("minLat") BigDecimal minLat, @Param("maxLat") BigDecimal maxLat,
+                             @Param("minLng") BigDecimal minLng, @Param("maxLng") BigDecimal maxLng,
+                             @Param("addressKeyword") String addressKeyword,
+                             @Param("pointsPerUser") int pointsPerUser, @Param("pointsPerCleanup") int pointsPerCleanup,
+                             @Param("bonusPercent") int bonusPercent, @Param("now") LocalDateTime now);
+
+    /**
+     * 캠페인의 선정 인원과 지급 예정 포인트 합계를 조회합니다.
+     *
+     * @param campaignId 캠페인 ID
+     * @return 선정 인원과 포인트 합계
+     */
+    @Query("SELECT COUNT(g) AS users, COALESCE(SUM(g.points), 0) AS points " +
+           "FROM PointCampaignGrant g WHERE g.campaignId = :campaignId")
+    GrantTotals sumByCampaignId(@Param("campaignId") Long campaignId);
+
+    /**
+     * 아직 지급하지 않은 내역을 ID 순으로 조회합니다.
+     * (campaign_id, status, id) 인덱스로 지급 대기 행만 순서대로 읽으므로, 지급이 진행되어도 묶음마다 비용이 일정합니다.
+     *
+     * @param campaignId 캠페인 ID
+     * @param limit 최대 조회 건수
+     * @return 지급 대기 내역
+     */
+    @Query("SELECT g.id AS id, g.userId AS userId, g.points AS points FROM PointCampaignGrant g " +
+           "WHERE g.campaignId = :campaignId " +
+           "AND g.status = com.example.hamkae.domain.PointCampaignGrant.GrantStatus.PENDING ORDER BY g.id")
+    List<PendingGrant> findPendingGrants(@Param("campaignId") Long campaignId, Limit limit);
+
+    /**
+     * 지급 대기 내역을 지급 완료로 바꿉니다.
+     * 지급 대기 상태인 행만 바꾸므로, 반환값이 요청 건수보다 적으면 다른 실행이 이미 지급한 것입니다.
+     *
+     * @param ids 지급 내역 ID 목록
+     * @param now 지급일시
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE PointCampaignGrant g SET g.status = com.example.hamkae.domain.PointCampaignGrant.GrantStatus.GRANTED, " +
+           "g.grantedAt = :now WHERE g.id IN :ids " +
+           "AND g.status = com.example.hamkae.domain.PointCampaignGrant.GrantStatus.PENDING")
+    int markGranted(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 캠페인 선정 인원과 포인트 합계
+     */
+    interface GrantTotals {
+        Long getUsers();
+        Number getPoints();
+    }
+
+    /**
+     * 지급 대기 내역 (ID, 사용자 ID, 지급 포인트)
+     */
+    interface PendingGrant {
+        Long getId();
+        Long getUserId();
+        Integer getPoints();
+    }
+}
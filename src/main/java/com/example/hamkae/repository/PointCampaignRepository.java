@@ -0,0 +1,115 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.PointCampaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 지급 캠페인을 데이터베이스에서 조회/갱신하는 Repository 인터페이스
+ * 상태 전환은 모두 조건부 UPDATE로 수행하여 여러 노드가 같은 캠페인을 동시에 실행하지 않도록 합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface PointCampaignRepository extends JpaRepository<PointCampaign, Long> {
+
+    /**
+     * 실행 대기/실패 상태이거나 실행 중인 채로 오래 갱신이 없는 캠페인을 실행 중으로 가져옵니다.
+     *
+     * @param id 캠페인 ID
+     * @param runToken 새 실행 토큰
+     * @param now 현재 시각
+     * @param staleBefore 이 시각 이전에 마지막으로 진행을 기록한 실행 중 캠페인은 중단된 것으로 간주
+     * @return 갱신된 행 수 (1이면 실행 권한 획득)
+     */
+    @Modifying
+    @Query("UPDATE PointCampaign c SET c.status = com.example.hamkae.domain.PointCampaign.CampaignStatus.RUNNING, " +
+           "c.runToken = :runToken, c.heartbeatAt = :now, c.lastError = null " +
+           "WHERE c.id = :id AND (c.status IN (com.example.hamkae.domain.PointCampaign.CampaignStatus.PENDING, " +
+           "com.example.hamkae.domain.PointCampaign.CampaignStatus.FAILED) OR " +
+           "(c.status = com.example.hamkae.domain.PointCampaign.CampaignStatus.RUNNING AND c.heartbeatAt < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("runToken") String runToken, @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 대상 선정 결과를 기록합니다. 이미 선정된 캠페인은 바꾸지 않습니다.
+     *
+     * @param id 캠페인 ID
+     * @param runToken 실행 토큰
+     * @param users 선정된 사용자 수
+     * @param points 지급할 총 포인트
+     * @param now 현재 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE PointCampaign c SET c.selectedUsers = :users, c.selectedPoints = :points, c.heartbeatAt = :now " +
+           "WHERE c.id = :id AND c.runToken = :runToken AND c.selectedUsers IS NULL")
+    int recordSelection(@Param("id") Long id, @Param("runToken") String runToken, @Param("users") int users, @Param("points") long points,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 한 묶음의 지급 진행 상황을 더합니다.
+     *
+     * @param id 캠페인 ID
+     * @param runToken 실행 토큰
+     * @param users 이번 묶음에서 지급한 사용자 수
+     * @param points 이번 묶음에서 지급한 포인트
+     * @param now 현재 시각
+     * @return 갱신된 행 수 (0이면 이 실행이 더 이상 캠페인을 보유하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE PointCampaign c SET c.grantedUsers = c.grantedUsers + :users, " +
+           "c.grantedPoints = c.grantedPoints + :points, c.heartbeatAt = :now " +
+           "WHERE c.id = :id AND c.runToken = :runToken " +
+           "AND c.status = com.example.hamkae.domain.PointCampaign.CampaignStatus.RUNNING")
+    int recordProgress(@Param("id") Long id, @Param("runToken") String runToken, @Param("users") int users, @Param("points") long points,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 캠페인을 완료로 표시합니다.
+     *
+     * @param id 캠페인 ID
+     * @param runToken 실행 토큰
+     * @param now 현재 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE PointCampaign c SET c.status = com.example.hamkae.domain.PointCampaign.CampaignStatus.COMPLETED, " +
+           "c.completedAt = :now, c.heartbeatAt = :now " +
+           "WHERE c.id = :id AND c.runToken = :runToken " +
+           "AND c.status = com.example.hamkae.domain.PointCampaign.CampaignStatus.RUNNING")
+    int complete(@Param("id") Long id, @Param("runToken") String runToken, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 캠페인을 실패로 표시합니다. 지급된 내역은 유지되며, 다시 실행하면 남은 대상부터 이어서 지급합니다.
+     *
+     * @param id 캠페인 ID
+     * @param runToken 실행 토큰
+     * @param error 실패 사유
+     * @param now 현재 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE PointCampaign c SET c.status = com.example.hamkae.domain.PointCampaign.CampaignStatus.FAILED, " +
+           "c.lastError = :error, c.heartbeatAt = :now " +
+           "WHERE c.id = :id AND c.runToken = :runToken " +
+           "AND c.status = com.example.hamkae.domain.PointCampaign.CampaignStatus.RUNNING")
+    int fail(@Param("id") Long id, @Param("runToken") String runToken, @Param("error") String error,
+             @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 채로 오래 갱신이 없는 캠페인 ID를 조회합니다.
+     *
+     * @param staleBefore 이 시각 이전에 마지막으로 진행을 기록한 캠페인을 조회
+     * @return 중단된 것으로 보이는 캠페인 ID 목록
+     */
+    @Query("SELECT c.id FROM PointCampaign c " +
+           "WHERE c.status = com.example.hamkae.domain.PointCampaign.CampaignStatus.RUNNING AND c.heartbeatAt < :staleBefore")
+    List<Long> findStalledIds(@Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -2,12 +2,17 @@ package com.example.hamkae.repository;
 
 import com.example.hamkae.domain.PointHistory;
 import com.example.hamkae.domain.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 포인트 이력 정보를 데이터베이스에서 조회/저장하는 Repository 인터페이스
@@ -19,14 +24,6 @@ import java.util.List;
  */
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
     
-    /**
-     * 특정 사용자의 포인트 이력을 최신순으로 조회합니다.
-     * 
-     * @param user 조회할 사용자
-     * @return 포인트 이력 목록 (최신순)
-     */
-    List<PointHistory> findByUserOrderByCreatedAtDesc(User user);
-
     /**
      * 특정 사용자의 포인트 이력을 타입별로 조회합니다.
      * 
@@ -36,6 +33,27 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
      */
     List<PointHistory> findByUserAndTypeOrderByCreatedAtDesc(User user, PointHistory.PointType type);
 
+    /**
+     * 사진으로 적립한 원장을 잠그며 조회합니다.
+     * 잠금 조회는 트랜잭션 스냅샷이 아닌 최신 커밋 값을 읽으므로, 다른 트랜잭션이 방금 커밋한 적립도 확인됩니다.
+     * 
+     * @param earnedPhotoId 적립 원인 사진 ID
+     * @return 해당 사진의 적립 원장 (없으면 empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PointHistory> findByEarnedPhotoId(Long earnedPhotoId);
+
+    /**
+     * 사진들 중 하나라도 적립 원장이 있는지 확인합니다.
+     * 관련 사진으로 찾으므로 적립 원인 사진 ID가 없는 도입 전 적립도 포함합니다.
+     *
+     * @param photoIds 사진 ID 목록
+     * @return 적립 원장이 있으면 true
+     */
+    @Query("SELECT COUNT(p) > 0 FROM PointHistory p WHERE p.relatedPhoto.id IN :photoIds " +
+           "AND p.type = com.example.hamkae.domain.PointHistory.PointType.EARNED")
+    boolean existsEarnedForPhotos(@Param("photoIds") Collection<Long> photoIds);
+
     /**
      * 특정 기간 동안의 사용자 포인트 이력을 조회합니다.
      * 
@@ -48,42 +66,82 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
             User user, LocalDateTime startDate, LocalDateTime endDate);
 
     /**
-     * 특정 사용자의 총 적립 포인트를 계산합니다.
+     * 특정 사용자의 기간 내 타입별 포인트 합계를 조회합니다.
+     * 반개구간 [from, to) 비교라 (user_id, type, created_at) 인덱스 범위 검색으로 처리됩니다.
      * 
-     * @param user 조회할 사용자
-     * @return 총 적립 포인트 (null일 경우 0)
+     * @param userId 조회할 사용자 ID
+     * @param type 포인트 타입
+     * @param from 시작일시 (포함)
+     * @param to 종료일시 (미포함)
+     * @return 기간 내 포인트 합계 (사용은 음수)
      */
-    @Query("SELECT COALESCE(SUM(p.points), 0) FROM PointHistory p WHERE p.user = :user AND p.type = 'EARNED'")
-    Integer getTotalEarnedPointsByUser(@Param("user") User user);
+    @Query("SELECT COALESCE(SUM(p.points), 0) FROM PointHistory p WHERE p.user.id = :userId AND p.type = :type " +
+           "AND p.createdAt >= :from AND p.createdAt < :to")
+    Integer sumPointsByTypeBetween(@Param("userId") Long userId, @Param("type") PointHistory.PointType type,
+                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
     /**
-     * 특정 사용자의 총 사용 포인트를 계산합니다.
+     * 특정 사용자의 최근 포인트 이력을 (생성일시, ID) 내림차순으로 조회합니다. (첫 페이지/최근 N개)
      * 
-     * @param user 조회할 사용자
-     * @return 총 사용 포인트 (절댓값, null일 경우 0)
+     * @param userId 조회할 사용자 ID
+     * @param limit 최대 조회 건수
+     * @return 최근 포인트 이력 목록
      */
-    @Query("SELECT COALESCE(SUM(ABS(p.points)), 0) FROM PointHistory p WHERE p.user = :user AND p.type = 'USED'")
-    Integer getTotalUsedPointsByUser(@Param("user") User user);
+    List<PointHistory> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
 
     /**
-     * 특정 사용자의 월별 포인트 적립 통계를 조회합니다.
+     * 커서 이후(더 오래된) 포인트 이력을 (생성일시, ID) 내림차순으로 조회합니다.
+     * (user_id, created_at, id) 인덱스를 커서 위치부터 읽으므로 앞 페이지 수와 관계없이 비용이 일정합니다.
      * 
-     * @param user 조회할 사용자
-     * @param year 조회할 연도
-     * @param month 조회할 월
-     * @return 해당 월의 총 적립 포인트
+     * @param userId 조회할 사용자 ID
+     * @param createdAt 커서의 생성일시
+     * @param id 커서의 ID
+     * @param limit 최대 조회 건수
+     * @return 포인트 이력 목록
      */
-    @Query("SELECT COALESCE(SUM(p.points), 0) FROM PointHistory p WHERE p.user = :user AND p.type = 'EARNED' " +
-           "AND YEAR(p.createdAt) = :year AND MONTH(p.createdAt) = :month")
-    Integer getMonthlyEarnedPoints(@Param("user") User user, @Param("year") int year, @Param("month") int month);
+    @Query("SELECT p FROM PointHistory p WHERE p.user.id = :userId " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointHistory> findPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id, Limit limit);
 
     /**
-     * 특정 사용자의 최근 N개 포인트 이력을 조회합니다.
+     * 기간 내 사용자별 적립 포인트 합계와 마지막 원장 순번을 조회합니다. (주간 리더보드 재구성용)
      * 
-     * @param user 조회할 사용자
-     * @param limit 조회할 개수
-     * @return 최근 포인트 이력 목록
+     * @param from 시작일시 (포함)
+     * @return 사용자별 적립 합계
+     */
+    @Query("SELECT p.user.id AS userId, SUM(p.points) AS score, MAX(p.sequence) AS sequence FROM PointHistory p " +
+           "WHERE p.type = com.example.hamkae.domain.PointHistory.PointType.EARNED AND p.createdAt >= :from " +
+           "GROUP BY p.user.id")
+    List<UserRepository.ScoreRow> sumEarnedPointsByUserSince(@Param("from") LocalDateTime from);
+
+    /**
+     * 지정한 원장 순번 이후의 원장을 순번 순으로 조회합니다. (원장 재구성용, 키셋 방식으로 나누어 읽음)
+     * 
+     * @param userId 사용자 ID
+     * @param sequence 이 순번보다 큰 원장만 조회
+     * @param limit 최대 조회 건수
+     * @return 원장 목록 (순번 오름차순)
+     */
+    List<PointHistory> findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(Long userId, Long sequence, Limit limit);
+
+    /**
+     * 원장 순번이 없는(원장 도입 전) 이력을 기록 순으로 조회합니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 이관 대상 이력 목록 (ID 오름차순)
+     */
+    List<PointHistory> findByUserIdAndSequenceIsNullOrderByIdAsc(Long userId);
+
+    /**
+     * 원장 도입 전 이력이 남아 있는 사용자 ID를 조회합니다.
+     * 
+     * @param afterUserId 이 ID보다 큰 사용자만 조회 (키셋 커서)
+     * @param limit 최대 조회 건수
+     * @return 사용자 ID 목록 (오름차순)
      */
-    @Query("SELECT p FROM PointHistory p WHERE p.user = :user ORDER BY p.createdAt DESC LIMIT :limit")
-    List<PointHistory> findRecentPointHistories(@Param("user") User user, @Param("limit") int limit);
+    @Query("SELECT DISTINCT p.user.id FROM PointHistory p WHERE p.sequence IS NULL AND p.user.id > :afterUserId " +
+           "ORDER BY p.user.id")
+    List<Long> findUserIdsWithUnsequencedEntries(@Param("afterUserId") Long afterUserId, Limit limit);
 }
@@ -0,0 +1,205 @@
+package com.example.hamkae.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 원장을 여러 사용자에게 한 번에 기록하는 JDBC 배치 Repository
+ * point_history는 IDENTITY 키라 Hibernate가 INSERT를 배치로 묶지 못하므로, 대량 적립은 엔티티를 거치지 않고
+ * JDBC 배치로 사용자 행 갱신/원장 추가/월간 집계 증분을 각각 한 번의 배치로 보냅니다.
+ * MySQL은 접속 URL의 rewriteBatchedStatements=true로 배치 INSERT를 다중 VALUES 한 문장으로 바꿔 보냅니다.
+ * 모든 메서드는 호출한 트랜잭션의 커넥션을 그대로 사용합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 사용자 행을 ID 순으로 잠그며 원장 상태를 조회합니다.
+     * 항상 같은 순서로 잠그므로 여러 배치가 겹치는 사용자를 동시에 처리해도 교착 상태가 생기지 않습니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 원장 상태 (없는 사용자는 빠짐, 사용자 ID 오름차순)
+     */
+    public Map<Long, LedgerRow> lockLedgerRows(Collection<Long> userIds) {
+        Map<Long, LedgerRow> rows = new LinkedHashMap<>();
+        if (userIds.isEmpty()) {
+            return rows;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT id, COALESCE(points, 0) AS points, COALESCE(ledger_sequence, 0) AS ledger_sequence, " +
+                "COALESCE(lifetime_earned, 0) AS lifetime_earned, COALESCE(lifetime_used, 0) AS lifetime_used " +
+                "FROM users WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+                new MapSqlParameterSource("ids", userIds),
+                rs -> {
+                    LedgerRow row = new LedgerRow(rs.getLong("id"), rs.getInt("points"), rs.getLong("ledger_sequence"),
+                            rs.getInt("lifetime_earned"), rs.getInt("lifetime_used"));
+                    rows.put(row.userId(), row);
+                });
+        return rows;
+    }
+
+    /**
+     * 사용자 행의 잔액과 원장 상태를 배치로 덮어씁니다. ({@link #lockLedgerRows}로 잠근 행에만 사용)
+     *
+     * @param rows 새 원장 상태
+     * @param now 수정일시
+     */
+    public void updateLedgerRows(Collection<LedgerRow> rows, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "UPDATE users SET points = ?, ledger_sequence = ?, lifetime_earned = ?, lifetime_used = ?, " +
+                "updated_at = ? WHERE id = ?",
+                List.copyOf(rows), rows.size(),
+                (ps, row) -> {
+                    ps.setInt(1, row.points());
+                    ps.setLong(2, row.ledgerSequence());
+                    ps.setInt(3, row.lifetimeEarned());
+                    ps.setInt(4, row.lifetimeUsed());
+                    ps.setTimestamp(5, updatedAt);
+                    ps.setLong(6, row.userId());
+                });
+    }
+
+    /**
+     * 적립 원장을 배치로 추가합니다.
+     *
+     * @param entries 추가할 원장
+     * @param description 적립 사유
+     * @param now 적립일시
+     */
+    public void insertEarnedEntries(List<EarnedEntry> entries, String description, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_history (user_id, ledger_sequence, balance_after, points, type, description, created_at) " +
+                "VALUES (?, ?, ?, ?, 'EARNED', ?, ?)",
+                entries, entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.userId());
+                    ps.setLong(2, entry.sequence());
+                    ps.setInt(3, entry.balanceAfter());
+                    ps.setInt(4, entry.points());
+                    ps.setString(5, description);
+                    ps.setTimestamp(6, createdAt);
+                });
+    }
+
+    /**
+     * 월간 집계 행이 이미 있는 사용자를 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @param periodStart 집계 월의 1일
+     * @return 집계 행이 있는 사용자 ID 목록
+     */
+    public List<Long> findUsersWithMonthlyRollup(Collection<Long> userIds, LocalDate periodStart) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.queryForList(
+                "SELECT user_id FROM point_monthly_rollup WHERE period_start = :periodStart AND user_id IN (:ids)",
+                new MapSqlParameterSource("ids", userIds).addValue("periodStart", periodStart),
+                Long.class);
+    }
+
+    /**
+     * 월간 집계 행이 없는 사용자들의 집계 행을 한 문장으로 만듭니다.
+     * 해당 월의 원장을 사용자별로 묶어 적립/사용 합계를 구하고, 승인된 상품권 교환 합계를 붙여 넣습니다.
+     * 방금 추가한 원장을 포함한 범위 합계이므로 따로 증분을 더하지 않습니다.
+     *
+     * @param userIds 집계 행이 없는 사용자 ID 목록 (해당 월 원장이 있어야 함)
+     * @param periodStart 집계 월의 1일
+     * @param now 수정일시
+     * @return 만든 집계 행 수
+     */
+    public int insertMonthlyRollups(Collection<Long> userIds, LocalDate periodStart, LocalDateTime now) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(
+                "INSERT INTO point_monthly_rollup (user_id, period_start, earned_points, used_points, reward_points, updated_at) " +
+                "SELECT h.user_id, :periodStart, " +
+                "COALESCE(SUM(CASE WHEN h.type = 'EARNED' THEN h.points ELSE 0 END), 0), " +
+                "-COALESCE(SUM(CASE WHEN h.type = 'USED' THEN h.points ELSE 0 END), 0), " +
+                "COALESCE(MAX(r.points), 0), :now " +
+                "FROM point_history h " +
+                "LEFT JOIN (SELECT user_id, SUM(points_used) AS points FROM rewards " +
+                "WHERE user_id IN (:ids) AND status = 'APPROVED' AND created_at >= :from AND created_at < :to " +
+                "GROUP BY user_id) r ON r.user_id = h.user_id " +
+                "WHERE h.user_id IN (:ids) AND h.created_at >= :from AND h.created_at < :to " +
+                "GROUP BY h.user_id",
+                new MapSqlParameterSource("ids", userIds)
+                        .addValue("periodStart", periodStart)
+                        .addValue("from", periodStart.atStartOfDay())
+                        .addValue("to", periodStart.plusMonths(1).atStartOfDay())
+                        .addValue("now", now));
+    }
+
+    /**
+     * 이미 있는 월간 집계 행에 적립 포인트를 배치로 더합니다.
+     *
+     * @param earnedByUser 사용자 ID별 적립 포인트 (집계 행이 있는 사용자만)
+     * @param periodStart 집계 월의 1일
+     * @param now 수정일시
+     */
+    public void accumulateMonthlyEarned(Map<Long, Integer> earnedByUser, LocalDate periodStart, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "UPDATE point_monthly_rollup SET earned_points = earned_points + ?, updated_at = ? " +
+                "WHERE user_id = ? AND period_start = ?",
+                List.copyOf(earnedByUser.entrySet()), earnedByUser.size(),
+                (ps, row) -> {
+                    ps.setInt(1, row.getValue());
+                    ps.setTimestamp(2, updatedAt);
+                    ps.setLong(3, row.getKey());
+                    ps.setObject(4, periodStart);
+                });
+    }
+
+    /**
+     * 사용자 행의 원장 상태
+     *
+     * @param userId 사용자 ID
+     * @param points 잔액
+     * @param ledgerSequence 마지막 원장 순번
+     * @param lifetimeEarned 누적 적립 포인트
+     * @param lifetimeUsed 누적 사용 포인트
+     */
+    public record LedgerRow(long userId, int points, long ledgerSequence, int lifetimeEarned, int lifetimeUsed) {
+
+        /**
+         * 적립 한 건을 적용한 다음 상태를 만듭니다.
+         */
+        public LedgerRow earn(int earned) {
+            return new LedgerRow(userId, points + earned, ledgerSequence + 1, lifetimeEarned + earned, lifetimeUsed);
+        }
+    }
+
+    /**
+     * 추가할 적립 원장
+     *
+     * @param userId 사용자 ID
+     * @param sequence 원장 순번
+     * @param points 적립 포인트
+     * @param balanceAfter 적립 직후 잔액
+     */
+    public record EarnedEntry(long userId, long sequence, int points, int balanceAfter) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.PointMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 사용자별 월간 포인트 집계를 데이터베이스에서 조회/저장하는 Repository 인터페이스
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface PointMonthlyRollupRepository extends JpaRepository<PointMonthlyRollup, Long> {
+
+    /**
+     * 사용자의 특정 월 집계를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param periodStart 집계 월의 첫날
+     * @return 월간 집계 (해당 월에 기록된 적이 없으면 empty)
+     */
+    Optional<PointMonthlyRollup> findByUserIdAndPeriodStart(Long userId, LocalDate periodStart);
+
+    /**
+     * 이미 있는 월간 집계에 증분을 더합니다.
+     *
+     * @param userId 사용자 ID
+     * @param periodStart 집계 월의 첫날
+     * @param earned 적립 포인트 증분
+     * @param used 사용 포인트 증분
+     * @param reward 상품권 교환 포인트 증분
+     * @param now 갱신일시
+     * @return 갱신된 행 수 (집계 행이 아직 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PointMonthlyRollup r SET r.earnedPoints = r.earnedPoints + :earned, " +
+           "r.usedPoints = r.usedPoints + :used, r.rewardPoints = r.rewardPoints + :reward, r.updatedAt = :now " +
+           "WHERE r.user.id = :userId AND r.periodStart = :periodStart")
+    int accumulate(@Param("userId") Long userId, @Param("periodStart") LocalDate periodStart,
+                   @Param("earned") int earned, @Param("used") int used, @Param("reward") int reward,
+                   @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,23 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.PointRuleSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * 포인트 규칙 세트를 데이터베이스에서 조회/저장하는 Repository 인터페이스
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface PointRuleSetRepository extends JpaRepository<PointRuleSet, Long> {
+
+    /**
+     * 가장 최근 규칙 세트 ID를 조회합니다. (규칙 변경 확인용, 기본 키 인덱스만 읽음)
+     *
+     * @return 최근 규칙 세트 ID (없으면 null)
+     */
+    @Query("SELECT MAX(r.id) FROM PointRuleSet r")
+    Long findLatestId();
+}
@@ -3,6 +3,7 @@ package com.example.hamkae.repository;
 import com.example.hamkae.domain.Reward;
 import com.example.hamkae.domain.RewardPin;
 import com.example.hamkae.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -46,13 +47,31 @@ public interface RewardPinRepository extends JpaRepository<RewardPin, Long> {
     Optional<RewardPin> findByPinNumber(String pinNumber);
 
     /**
-     * 특정 사용자의 모든 핀번호를 최신순으로 조회합니다.
+     * 특정 사용자의 최근 핀번호를 연결된 교환 요청의 (생성일시, ID) 내림차순으로 조회합니다. (첫 페이지)
+     * 핀번호 테이블에는 사용자 컬럼이 없으므로 rewards(user_id, created_at, id) 인덱스로 범위를 읽고 reward_id로 핀번호를 붙입니다.
      * 
-     * @param user 조회할 사용자
-     * @return 핀번호 목록 (최신순)
+     * @param userId 조회할 사용자 ID
+     * @param limit 최대 조회 건수
+     * @return 핀번호 목록
+     */
+    @Query("SELECT rp FROM RewardPin rp JOIN FETCH rp.reward r WHERE r.user.id = :userId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RewardPin> findFirstPageByUser(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 커서 이후(더 오래된 교환 요청)의 핀번호를 교환 요청의 (생성일시, ID) 내림차순으로 조회합니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param createdAt 커서의 교환 요청 생성일시
+     * @param id 커서의 교환 요청 ID
+     * @param limit 최대 조회 건수
+     * @return 핀번호 목록
      */
-    @Query("SELECT rp FROM RewardPin rp WHERE rp.reward.user = :user ORDER BY rp.issuedAt DESC")
-    List<RewardPin> findByUserOrderByIssuedAtDesc(@Param("user") User user);
+    @Query("SELECT rp FROM RewardPin rp JOIN FETCH rp.reward r WHERE r.user.id = :userId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RewardPin> findPageByUserAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Limit limit);
 
     /**
      * 특정 사용자의 사용 가능한 핀번호를 조회합니다.
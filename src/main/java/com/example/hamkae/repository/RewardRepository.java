@@ -2,6 +2,7 @@ package com.example.hamkae.repository;
 
 import com.example.hamkae.domain.Reward;
 import com.example.hamkae.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,12 +21,28 @@ import java.util.List;
 public interface RewardRepository extends JpaRepository<Reward, Long> {
     
     /**
-     * 특정 사용자의 상품권 교환 요청을 최신순으로 조회합니다.
+     * 특정 사용자의 최근 상품권 교환 요청을 (생성일시, ID) 내림차순으로 조회합니다. (첫 페이지)
      * 
-     * @param user 조회할 사용자
-     * @return 상품권 교환 요청 목록 (최신순)
+     * @param userId 조회할 사용자 ID
+     * @param limit 최대 조회 건수
+     * @return 상품권 교환 요청 목록
+     */
+    List<Reward> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
+
+    /**
+     * 커서 이후(더 오래된) 상품권 교환 요청을 (생성일시, ID) 내림차순으로 조회합니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param createdAt 커서의 생성일시
+     * @param id 커서의 ID
+     * @param limit 최대 조회 건수
+     * @return 상품권 교환 요청 목록
      */
-    List<Reward> findByUserOrderByCreatedAtDesc(User user);
+    @Query("SELECT r FROM Reward r WHERE r.user.id = :userId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Reward> findPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id, Limit limit);
 
     /**
      * 특정 상태의 상품권 교환 요청을 최신순으로 조회합니다.
@@ -88,14 +105,16 @@ public interface RewardRepository extends JpaRepository<Reward, Long> {
     List<Reward> findAllPendingRewards();
 
     /**
-     * 특정 사용자의 월별 상품권 교환 통계를 조회합니다.
+     * 특정 사용자의 기간 내 승인된 상품권 교환 포인트 합계를 조회합니다.
+     * 반개구간 [from, to) 비교라 (user_id, status, created_at) 인덱스 범위 검색으로 처리됩니다.
      * 
-     * @param user 조회할 사용자
-     * @param year 조회할 연도
-     * @param month 조회할 월
-     * @return 해당 월의 총 사용 포인트
+     * @param userId 조회할 사용자 ID
+     * @param from 시작일시 (포함)
+     * @param to 종료일시 (미포함)
+     * @return 기간 내 총 사용 포인트
      */
-    @Query("SELECT COALESCE(SUM(r.pointsUsed), 0) FROM Reward r WHERE r.user = :user AND r.status = 'APPROVED' " +
-           "AND YEAR(r.createdAt) = :year AND MONTH(r.createdAt) = :month")
-    Integer getMonthlyUsedPoints(@Param("user") User user, @Param("year") int year, @Param("month") int month);
+    @Query("SELECT COALESCE(SUM(r.pointsUsed), 0) FROM Reward r WHERE r.user.id = :userId AND r.status = 'APPROVED' " +
+           "AND r.createdAt >= :from AND r.createdAt < :to")
+    Integer sumApprovedPointsBetween(@Param("userId") Long userId,
+                                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,14 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.ShadowVerificationResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 섀도 모델 검증 비교 결과를 저장하는 Repository 인터페이스
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ShadowVerificationResultRepository extends JpaRepository<ShadowVerificationResult, Long> {
+}
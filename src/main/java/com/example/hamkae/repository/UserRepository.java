@@ -1,8 +1,15 @@
 package com.example.hamkae.repository;
 
 import com.example.hamkae.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,4 +37,154 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true: 존재함, false: 존재하지 않음
      */
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    /**
+     * 잔액이 음수가 되지 않는 경우에만 포인트를 더하거나 빼고, 원장 순번과 누적 적립/사용 포인트를 함께 올립니다.
+     * 단일 UPDATE 문이므로 원자적이며, 커밋 전까지 사용자 행이 잠겨 같은 사용자의 원장 기록이 순서대로 직렬화됩니다.
+     * 
+     * @param id 사용자 ID
+     * @param delta 잔액 변경량 (적립은 양수, 차감은 음수)
+     * @param earned 누적 적립 증가량
+     * @param used 누적 사용 증가량
+     * @param now 수정일시
+     * @return 변경된 행 수 (사용자가 없거나 잔액이 부족하면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.points = COALESCE(u.points, 0) + :delta, " +
+           "u.ledgerSequence = COALESCE(u.ledgerSequence, 0) + 1, " +
+           "u.lifetimeEarned = COALESCE(u.lifetimeEarned, 0) + :earned, " +
+           "u.lifetimeUsed = COALESCE(u.lifetimeUsed, 0) + :used, u.updatedAt = :now " +
+           "WHERE u.id = :id AND COALESCE(u.points, 0) + :delta >= 0")
+    int appendLedger(@Param("id") Long id, @Param("delta") int delta, @Param("earned") int earned,
+                     @Param("used") int used, @Param("now") LocalDateTime now);
+
+    /**
+     * 청소 인증 적립을 원장에 기록합니다.
+     * 잔액/원장 순번/누적 적립과 함께 마지막 청소 날짜와 연속 청소 일수를 같은 UPDATE 문에서 바꿉니다.
+     * 
+     * @param id 사용자 ID
+     * @param points 적립 포인트
+     * @param cleanupDate 청소 인증 날짜
+     * @param streakDays 청소 인증 날짜까지의 연속 청소 일수
+     * @param now 수정일시
+     * @return 변경된 행 수 (사용자가 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.points = COALESCE(u.points, 0) + :points, " +
+           "u.ledgerSequence = COALESCE(u.ledgerSequence, 0) + 1, " +
+           "u.lifetimeEarned = COALESCE(u.lifetimeEarned, 0) + :points, " +
+           "u.lastCleanupDate = :cleanupDate, u.cleanupStreakDays = :streakDays, u.updatedAt = :now " +
+           "WHERE u.id = :id")
+    int appendCleanupLedger(@Param("id") Long id, @Param("points") int points,
+                            @Param("cleanupDate") LocalDate cleanupDate, @Param("streakDays") int streakDays,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 원장 재구성 결과로 잔액과 원장 상태를 덮어씁니다. (원장 이관/재구성 전용)
+     * 
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.points = :points, u.ledgerSequence = :sequence, " +
+           "u.lifetimeEarned = :earned, u.lifetimeUsed = :used, u.updatedAt = :now WHERE u.id = :id")
+    int restoreLedger(@Param("id") Long id, @Param("points") int points, @Param("sequence") long sequence,
+                      @Param("earned") int earned, @Param("used") int used, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자 행을 잠급니다. 원장을 읽고 판단한 뒤 기록해야 하는 작업(잔액 설정, 이관, 재구성)에서
+     * 판단과 기록 사이에 다른 원장 기록이 끼어들지 않도록 가장 먼저 호출합니다.
+     * 
+     * @param id 사용자 ID
+     * @param now 수정일시
+     * @return 변경된 행 수 (사용자가 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.updatedAt = :now WHERE u.id = :id")
+    int lockForLedger(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 현재 잔액과 원장 상태만 조회합니다. (영속성 컨텍스트를 거치지 않고 데이터베이스 값을 읽음)
+     * 
+     * @param id 사용자 ID
+     * @return 원장 상태 (사용자가 없으면 empty)
+     */
+    @Query("SELECT COALESCE(u.points, 0) AS points, COALESCE(u.ledgerSequence, 0) AS ledgerSequence, " +
+           "COALESCE(u.lifetimeEarned, 0) AS lifetimeEarned, COALESCE(u.lifetimeUsed, 0) AS lifetimeUsed " +
+           "FROM User u WHERE u.id = :id")
+    Optional<LedgerHead> findLedgerHeadById(@Param("id") Long id);
+
+    /**
+     * 사용자의 마지막 청소 날짜와 연속 청소 일수만 조회합니다. (영속성 컨텍스트를 거치지 않고 데이터베이스 값을 읽음)
+     * 
+     * @param id 사용자 ID
+     * @return 청소 활동 상태 (사용자가 없으면 empty)
+     */
+    @Query("SELECT u.lastCleanupDate AS lastCleanupDate, COALESCE(u.cleanupStreakDays, 0) AS streakDays " +
+           "FROM User u WHERE u.id = :id")
+    Optional<CleanupStreakRow> findCleanupStreakById(@Param("id") Long id);
+
+    /**
+     * 사용자의 활동 통계(누적 적립/사용, 제보 마커/업로드 사진/상품권 교환/핀번호 수)를 한 문장으로 조회합니다.
+     * 연관 컬렉션을 초기화하지 않고 각 테이블의 사용자 외래 키 인덱스로 개수만 셉니다.
+     * 
+     * @param id 사용자 ID
+     * @return 활동 통계 (사용자가 없으면 empty)
+     */
+    @Query("SELECT COALESCE(u.lifetimeEarned, 0) AS totalEarnedPoints, COALESCE(u.lifetimeUsed, 0) AS totalUsedPoints, " +
+           "(SELECT COUNT(m) FROM Marker m WHERE m.reportedBy.id = u.id) AS reportedMarkersCount, " +
+           "(SELECT COUNT(p) FROM Photo p WHERE p.user.id = u.id) AS uploadedPhotosCount, " +
+           "(SELECT COUNT(r) FROM Reward r WHERE r.user.id = u.id) AS rewardExchangeCount, " +
+           "(SELECT COUNT(rp) FROM RewardPin rp WHERE rp.reward.user.id = u.id) AS issuedPinsCount " +
+           "FROM User u WHERE u.id = :id")
+    Optional<ActivityStatsRow> findActivityStatsById(@Param("id") Long id);
+
+    /**
+     * 포인트가 있는 사용자의 잔액과 원장 순번을 사용자 ID 순으로 나누어 조회합니다. (리더보드 재구성용)
+     * 
+     * @param afterId 이 ID보다 큰 사용자만 조회 (키셋 커서)
+     * @param limit 최대 조회 건수
+     * @return 사용자별 점수 (사용자 ID 오름차순)
+     */
+    @Query("SELECT u.id AS userId, u.points AS score, COALESCE(u.ledgerSequence, 0) AS sequence " +
+           "FROM User u WHERE u.id > :afterId AND u.points > 0 ORDER BY u.id")
+    List<ScoreRow> findScoreRows(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 사용자의 최신 원장 상태 (잔액, 마지막 원장 순번, 누적 적립/사용)
+     */
+    interface LedgerHead {
+        Integer getPoints();
+        Long getLedgerSequence();
+        Integer getLifetimeEarned();
+        Integer getLifetimeUsed();
+    }
+
+    /**
+     * 사용자의 청소 활동 상태 (마지막 청소 날짜, 연속 청소 일수)
+     */
+    interface CleanupStreakRow {
+        LocalDate getLastCleanupDate();
+        Integer getStreakDays();
+    }
+
+    /**
+     * 사용자 활동 통계 (COUNT 결과는 Long, 누적 포인트는 Integer)
+     */
+    interface ActivityStatsRow {
+        Integer getTotalEarnedPoints();
+        Integer getTotalUsedPoints();
+        Number getReportedMarkersCount();
+        Number getUploadedPhotosCount();
+        Number getRewardExchangeCount();
+        Number getIssuedPinsCount();
+    }
+
+    /**
+     * 사용자별 점수와 그 점수에 반영된 마지막 원장 순번 (리더보드 재구성용)
+     */
+    interface ScoreRow {
+        Long getUserId();
+        Number getScore();
+        Number getSequence();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.VerificationAttempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * AI 검증 시도 기록을 데이터베이스에서 조회/저장하는 Repository 인터페이스
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface VerificationAttemptRepository extends JpaRepository<VerificationAttempt, Long> {
+
+    /**
+     * 검증 시도의 모델 원문 응답만 조회합니다.
+     *
+     * @param id 검증 시도 ID
+     * @return 원문 응답 (시도가 없거나 원문이 없으면 empty)
+     */
+    @Query("SELECT a.rawResponse FROM VerificationAttempt a WHERE a.id = :id")
+    Optional<String> findRawResponseById(@Param("id") Long id);
+
+    /**
+     * 마커의 검증 시도 기록을 모두 삭제합니다. (마커 삭제 전에 호출, 마커 FK가 있어 먼저 지워야 함)
+     *
+     * @param markerId 마커 ID
+     * @return 삭제된 기록 수
+     */
+    @Modifying
+    @Query("DELETE FROM VerificationAttempt a WHERE a.marker.id = :markerId")
+    int deleteByMarkerId(@Param("markerId") Long markerId);
+}
@@ -0,0 +1,24 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.VerificationCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * AI 검증 결과 캐시를 데이터베이스에서 조회/저장하는 Repository 인터페이스
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface VerificationCacheEntryRepository extends JpaRepository<VerificationCacheEntry, Long> {
+
+    /**
+     * 캐시 키로 검증 결과를 조회합니다.
+     *
+     * @param cacheKey 캐시 키
+     * @return 캐시된 검증 결과 (Optional)
+     */
+    Optional<VerificationCacheEntry> findByCacheKey(String cacheKey);
+}
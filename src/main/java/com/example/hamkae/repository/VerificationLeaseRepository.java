@@ -0,0 +1,63 @@
+package com.example.hamkae.repository;
+
+import com.example.hamkae.domain.VerificationLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마커별 AI 검증 임대 정보를 데이터베이스에서 조회/갱신하는 Repository 인터페이스
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface VerificationLeaseRepository extends JpaRepository<VerificationLease, Long> {
+
+    /**
+     * 만료되었거나 자신이 보유한 임대를 조건부로 가져옵니다.
+     * 단일 UPDATE 문으로 수행되어 여러 노드가 동시에 시도해도 한 노드만 성공합니다.
+     *
+     * @param markerId 마커 ID
+     * @param owner 임대를 가져갈 노드 식별자
+     * @param now 현재 시각
+     * @param expiresAt 새 만료 시각
+     * @return 갱신된 행 수 (1이면 획득 성공)
+     */
+    @Modifying
+    @Query("UPDATE VerificationLease l SET l.owner = :owner, l.acquiredAt = :now, l.expiresAt = :expiresAt " +
+           "WHERE l.markerId = :markerId AND (l.expiresAt < :now OR l.owner = :owner)")
+    int takeOver(@Param("markerId") Long markerId, @Param("owner") String owner,
+                 @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 임대 행을 새로 생성합니다.
+     * merge 기반의 save()는 다른 노드가 막 생성한 행을 덮어쓸 수 있으므로 INSERT를 직접 수행하며,
+     * 경합 시에는 기본 키 중복 오류로 한 노드만 성공합니다.
+     *
+     * @param markerId 마커 ID
+     * @param owner 노드 식별자
+     * @param now 현재 시각
+     * @param expiresAt 만료 시각
+     * @return 삽입된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO verification_lease (marker_id, owner, acquired_at, expires_at) " +
+                   "VALUES (:markerId, :owner, :now, :expiresAt)", nativeQuery = true)
+    int insert(@Param("markerId") Long markerId, @Param("owner") String owner,
+               @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 자신이 보유한 임대를 해제합니다.
+     *
+     * @param markerId 마커 ID
+     * @param owner 노드 식별자
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM VerificationLease l WHERE l.markerId = :markerId AND l.owner = :owner")
+    int release(@Param("markerId") Long markerId, @Param("owner") String owner);
+}
@@ -0,0 +1,205 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.GptVerificationResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 검증 요청의 이미지 크기, JPEG 품질, detail 수준을 쌍마다 고르는 컴포넌트
+ * 선명도, 윤곽 밀도(물체 밀도의 근사값), BEFORE/AFTER 지각 해시 거리(변화량)로 장면의 판정 난이도를 추정해
+ * 쉬운 쌍은 작고 가벼운 이미지로, 어려운 쌍은 더 높은 품질이나 high detail로 보냅니다.
+ * low detail 판정의 신뢰도가 낮으면 high detail로 한 번만 다시 확인하도록 알려 줍니다.
+ *
+ * low detail은 모델 쪽에서 512x512 이하로 줄여 고정 토큰으로 처리하므로, low detail 변형은 512 박스에 맞춰 전송량만 줄이고
+ * high detail은 512 타일 수에 비례해 토큰이 늘어나므로 1024x768(4타일)로 제한합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class AdaptiveImageEncoder {
+
+    /**
+     * 전송 이미지 인코딩 프로필
+     */
+    public enum Profile {
+        /**
+         * 기존 고정 설정 (적응형 인코딩을 끈 경우)
+         */
+        STANDARD(null, 800, 600, 0.7f, "low"),
+        /**
+         * 선명하고 단순한 장면 (전송량 최소)
+         */
+        COMPACT("512q60", 512, 512, 0.6f, "low"),
+        /**
+         * 복잡하거나 흐린 장면 (압축 손상을 줄여 작은 물체를 보존)
+         */
+        DETAILED("512q85", 512, 512, 0.85f, "low"),
+        /**
+         * 복잡한 장면에서 변화가 작은 경우, 또는 low detail 판정의 신뢰도가 낮은 경우
+         */
+        HIGH("1024q80", 1024, 768, 0.8f, "high");
+
+        private final String variant;
+        private final int maxWidth;
+        private final int maxHeight;
+        private final float quality;
+        private final String detail;
+
+        Profile(String variant, int maxWidth, int maxHeight, float quality, String detail) {
+            this.variant = variant;
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+            this.quality = quality;
+            this.detail = detail;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+
+        public boolean isHighDetail() {
+            return "high".equals(detail);
+        }
+    }
+
+    private final ImageValidationService imageValidationService;
+
+    @Value("${ai.verification.adaptive.enabled:true}")
+    private Boolean enabled;
+
+    /**
+     * 이 값 이상의 윤곽 밀도면 복잡한 장면으로 판단
+     */
+    @Value("${ai.verification.adaptive.dense-edge-ratio:0.12}")
+    private Double denseEdgeRatio;
+
+    /**
+     * 이 값 미만의 선명도(라플라시안 분산)면 흐린 사진으로 판단
+     */
+    @Value("${ai.verification.adaptive.blurry-sharpness:100}")
+    private Double blurrySharpness;
+
+    /**
+     * BEFORE/AFTER 지각 해시 거리가 이 값 이하면 변화가 작은 쌍으로 판단
+     */
+    @Value("${ai.verification.adaptive.subtle-change-distance:8}")
+    private Integer subtleChangeDistance;
+
+    /**
+     * low detail 판정의 신뢰도가 이 값 미만이면 high detail로 다시 확인 (0이면 재확인 안 함)
+     */
+    @Value("${ai.verification.adaptive.escalate-below-confidence:0.7}")
+    private Double escalateBelowConfidence;
+
+    public AdaptiveImageEncoder(ImageValidationService imageValidationService) {
+        this.imageValidationService = imageValidationService;
+    }
+
+    /**
+     * 선택된 사진의 특징값으로 인코딩 프로필을 고릅니다.
+     * 장면 전체 난이도는 가장 복잡한 사진, 가장 흐린 사진, 가장 변화가 작은 BEFORE/AFTER 조합을 기준으로 판단합니다.
+     *
+     * @param before 선택된 BEFORE 사진
+     * @param after 선택된 AFTER 사진
+     * @return 인코딩 프로필
+     */
+    public Profile choose(List<VerificationImageSelector.SelectedImage> before,
+                          List<VerificationImageSelector.SelectedImage> after) {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return Profile.STANDARD;
+        }
+
+        double maxEdgeDensity = 0.0;
+        double minSharpness = Double.MAX_VALUE;
+        for (VerificationImageSelector.SelectedImage image : concat(before, after)) {
+            maxEdgeDensity = Math.max(maxEdgeDensity, image.features().edgeDensity());
+            minSharpness = Math.min(minSharpness, image.features().sharpness());
+        }
+        int minChange = Integer.MAX_VALUE;
+        for (VerificationImageSelector.SelectedImage b : before) {
+            for (VerificationImageSelector.SelectedImage a : after) {
+                minChange = Math.min(minChange, Long.bitCount(b.features().dHash() ^ a.features().dHash()));
+            }
+        }
+
+        boolean dense = maxEdgeDensity >= denseEdgeRatio;
+        Profile profile;
+        if (dense && minChange <= subtleChangeDistance) {
+            profile = Profile.HIGH;
+        } else if (dense || minSharpness < blurrySharpness) {
+            profile = Profile.DETAILED;
+        } else {
+            profile = Profile.COMPACT;
+        }
+
+        log.debug("전송 이미지 프로필 선택: {} (윤곽 밀도 {}, 선명도 {}, 변화량 {})",
+                profile, String.format("%.3f", maxEdgeDensity), String.format("%.1f", minSharpness), minChange);
+        return profile;
+    }
+
+    /**
+     * 선택된 사진을 프로필에 맞는 파생 이미지로 준비합니다. (이미 만들어 둔 파일은 재사용)
+     *
+     * @param images 선택된 사진
+     * @param profile 인코딩 프로필
+     * @return 전송할 파생 이미지 경로 (입력과 같은 순서)
+     * @throws IOException 파생 이미지 생성 실패 시
+     */
+    public List<Path> encode(List<VerificationImageSelector.SelectedImage> images, Profile profile) throws IOException {
+        List<Path> paths = new ArrayList<>(images.size());
+        for (VerificationImageSelector.SelectedImage image : images) {
+            paths.add(profile == Profile.STANDARD
+                    ? image.derivative()
+                    : imageValidationService.resolveDerivativePath(image.photo().getImagePath(),
+                            profile.variant, profile.maxWidth, profile.maxHeight, profile.quality));
+        }
+        return paths;
+    }
+
+    /**
+     * 판정을 high detail로 다시 확인해야 하는지 판단합니다.
+     * 모델에서 받은 성공 판정이고, low detail로 보냈으며, 신뢰도가 기준 미만인 경우만 해당합니다.
+     *
+     * @param profile 판정에 사용한 프로필
+     * @param result 판정 결과
+     * @return 재확인이 필요하면 true
+     */
+    public boolean shouldEscalate(Profile profile, GptVerificationResponseDTO result) {
+        return Boolean.TRUE.equals(enabled)
+                && !profile.isHighDetail()
+                && result.isSuccess()
+                && !result.isCached()
+                && result.getConfidence() != null
+                && result.getConfidence() < escalateBelowConfidence;
+    }
+
+    /**
+     * 지정한 detail 수준에 맞는 프로필을 반환합니다. (섀도 검증처럼 detail이 설정으로 고정된 경우)
+     *
+     * @param detail low 또는 high
+     * @return high면 HIGH, 그 외에는 COMPACT (적응형 인코딩을 끈 경우 STANDARD)
+     */
+    public Profile forDetail(String detail) {
+        if ("high".equals(detail)) {
+            return Profile.HIGH;
+        }
+        return Boolean.TRUE.equals(enabled) ? Profile.COMPACT : Profile.STANDARD;
+    }
+
+    private static List<VerificationImageSelector.SelectedImage> concat(List<VerificationImageSelector.SelectedImage> before,
+                                                                       List<VerificationImageSelector.SelectedImage> after) {
+        List<VerificationImageSelector.SelectedImage> all = new ArrayList<>(before.size() + after.size());
+        all.addAll(before);
+        all.addAll(after);
+        return all;
+    }
+}
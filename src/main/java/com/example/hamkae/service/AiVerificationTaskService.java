@@ -2,19 +2,25 @@ package com.example.hamkae.service;
 
 import com.example.hamkae.DTO.GptVerificationResponseDTO;
 import com.example.hamkae.domain.Photo;
-import com.example.hamkae.domain.PointHistory;
 import com.example.hamkae.domain.User;
+import com.example.hamkae.domain.VerificationAttempt;
+import com.example.hamkae.event.VerificationCompletedEvent;
 import com.example.hamkae.repository.MarkerRepository;
 import com.example.hamkae.repository.PhotoRepository;
 import com.example.hamkae.repository.PointHistoryRepository;
 import com.example.hamkae.repository.UserRepository;
+import com.example.hamkae.repository.VerificationAttemptRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * AI 검증을 백그라운드에서 실행하는 작업 서비스
@@ -28,107 +34,251 @@ public class AiVerificationTaskService {
     private final MarkerRepository markerRepository;
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerService pointLedgerService;
+    private final PointRuleEngine pointRuleEngine;
+    private final VerificationAttemptRepository verificationAttemptRepository;
     private final GptVerificationService gptVerificationService;
+    private final VerificationSingleFlightService verificationSingleFlightService;
+    private final TransactionTemplate transactionTemplate;
+    private final VerificationScheduler verificationScheduler;
+    private final VerificationMetrics verificationMetrics;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 마커의 BEFORE/AFTER 사진을 비교하여 AI 검증을 비동기로 수행합니다.
+     * 사용자가 결과를 기다리는 첫 검증이므로 INTERACTIVE 우선순위로 스케줄링됩니다.
+     * 같은 마커의 검증이 이미 진행 중이면 새로 실행하지 않고 진행 중인 검증에 합류합니다.
      */
-    @Async
-    @Transactional
     public void verifyMarkerAsync(Long markerId, Long userId) {
-        try {
-            log.info("[ASYNC] AI 검증 시작: markerId={}, userId={}", markerId, userId);
+        log.info("[ASYNC] AI 검증 요청: markerId={}, userId={}", markerId, userId);
+        enqueueVerification(markerId, VerificationScheduler.Priority.INTERACTIVE)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("[ASYNC] AI 검증 중 오류: markerId={}, userId={}", markerId, userId, e);
+                    } else if (result.isEmpty()) {
+                        log.info("[ASYNC] 다른 노드에서 AI 검증이 진행 중이므로 건너뜀: markerId={}", markerId);
+                    }
+                });
+    }
 
-            List<Photo> beforePhotos = photoRepository.findByMarkerIdAndType(markerId, Photo.PhotoType.BEFORE);
-            if (beforePhotos.isEmpty()) {
-                log.warn("[ASYNC] BEFORE 사진 없음: markerId={}", markerId);
-                return;
-            }
+    /**
+     * 마커 검증 작업을 지정한 우선순위로 스케줄러에 넣습니다.
+     *
+     * @param markerId 마커 ID
+     * @param priority 우선순위 클래스
+     * @return 검증 결과 Future (다른 노드에서 검증 중이면 empty로 완료)
+     */
+    public CompletableFuture<Optional<GptVerificationResponseDTO>> enqueueVerification(Long markerId, VerificationScheduler.Priority priority) {
+        return verificationScheduler.submit(priority, () -> verifyMarkerNow(markerId));
+    }
 
-            List<Photo> afterPhotos = photoRepository.findByMarkerIdAndType(markerId, Photo.PhotoType.AFTER);
-            if (afterPhotos.isEmpty()) {
-                log.warn("[ASYNC] AFTER 사진 없음: markerId={}", markerId);
-                return;
+    /**
+     * 마커 검증을 지정한 우선순위로 스케줄링하고 끝날 때까지 기다립니다.
+     *
+     * @param markerId 마커 ID
+     * @param priority 우선순위 클래스
+     * @return 검증 결과 (다른 노드에서 검증 중이면 empty)
+     */
+    public Optional<GptVerificationResponseDTO> verifyMarker(Long markerId, VerificationScheduler.Priority priority) {
+        try {
+            return enqueueVerification(markerId, priority).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
+        }
+    }
+
+    /**
+     * 마커의 AI 검증을 현재 스레드에서 수행하고 결과를 반환합니다. (스케줄러 작업자에서 호출)
+     * 마커 단위 단일 실행(single-flight)으로 조정되므로, 동시에 호출되어도 GPT 호출과 포인트 지급은 한 번만 일어납니다.
+     *
+     * @param markerId 마커 ID
+     * @return 검증 결과 (다른 노드에서 검증 중이면 empty)
+     */
+    public Optional<GptVerificationResponseDTO> verifyMarkerNow(Long markerId) {
+        return verificationSingleFlightService.execute(markerId, () -> verifyAndApply(markerId));
+    }
+
+    /**
+     * GPT 검증을 수행하고 결과를 AFTER 사진에 반영합니다.
+     * GPT 호출은 트랜잭션 밖에서 수행하고, 결과 반영은 짧은 트랜잭션으로 묶습니다.
+     * 포인트 적립은 판정이 커밋된 뒤 별도 트랜잭션으로 수행하므로, 적립이 실패해도 판정과 검증 시도 기록은 남습니다.
+     *
+     * @param markerId 마커 ID
+     * @return 검증 결과 (사진이 부족하면 null)
+     */
+    private GptVerificationResponseDTO verifyAndApply(Long markerId) {
+        List<Photo> beforePhotos = photoRepository.findByMarkerIdAndType(markerId, Photo.PhotoType.BEFORE);
+        if (beforePhotos.isEmpty()) {
+            log.warn("[ASYNC] BEFORE 사진 없음: markerId={}", markerId);
+            return null;
+        }
+
+        List<Photo> afterPhotos = photoRepository.findByMarkerIdAndType(markerId, Photo.PhotoType.AFTER);
+        if (afterPhotos.isEmpty()) {
+            log.warn("[ASYNC] AFTER 사진 없음: markerId={}", markerId);
+            return null;
+        }
 
-            Photo beforePhoto = beforePhotos.get(0);
-            Photo afterPhoto = afterPhotos.get(0);
+        // 마커의 사진 전체를 한 번의 모델 호출로 검증 (보낼 사진은 GptVerificationService에서 선별)
+        GptVerificationResponseDTO result = gptVerificationService.verifyCleanup(beforePhotos, afterPhotos);
+        List<Long> afterPhotoIds = afterPhotos.stream().map(Photo::getId).toList();
 
-            GptVerificationResponseDTO result = gptVerificationService.verifyCleanup(beforePhoto, afterPhoto);
+        AppliedVerdict applied = verificationMetrics.time(VerificationMetrics.Stage.PERSIST, () -> transactionTemplate.execute(status -> {
+            List<Photo> targets = photoRepository.findAllById(afterPhotoIds);
+            if (targets.isEmpty()) {
+                throw new IllegalStateException("사진을 찾을 수 없습니다: " + afterPhotoIds);
+            }
+            // 검증 시도 감사 기록 (원문 응답은 이 기록에만 저장)
+            VerificationAttempt attempt = verificationAttemptRepository.save(toAttempt(markerId, result));
 
-            if (result.isSuccess()) {
-                if ("APPROVED".equals(result.getVerificationResult())) {
-                    afterPhoto.approve(result.getGptResponse());
-                    // 포인트 적립 로직 실행 - userId로 다시 조회하여 세션 문제 해결
-                    awardPointsForCleanupAsync(userId, afterPhoto.getId(), result);
+            // 하나의 판정을 마커의 모든 AFTER 사진에 반영
+            for (Photo afterPhoto : targets) {
+                if (result.isSuccess()) {
+                    if ("APPROVED".equals(result.getVerificationResult())) {
+                        afterPhoto.approve(attempt);
+                    } else {
+                        afterPhoto.reject(attempt, result.getReason());
+                    }
+                } else if ("RETRY_LATER".equals(result.getVerificationResult())) {
+                    // OpenAI 일시 장애: 거부하지 않고 재검증 대상으로 보류
+                    afterPhoto.deferVerification(attempt, "AI 검증 보류: " + result.getErrorMessage());
                 } else {
-                    afterPhoto.reject(result.getGptResponse());
+                    afterPhoto.reject(attempt, "AI 검증 실패: " + result.getErrorMessage());
                 }
-            } else {
-                afterPhoto.reject("AI 검증 실패: " + result.getErrorMessage());
             }
 
             // AI 검증 결과가 적용된 사진을 데이터베이스에 저장
-            photoRepository.save(afterPhoto);
-            log.info("[ASYNC] AI 검증 완료: markerId={}, 결과={}, gptResponse={}, verifiedAt={}", 
-                    markerId, result.getVerificationResult(), 
-                    afterPhoto.getGptResponse() != null ? "저장됨" : "저장안됨",
-                    afterPhoto.getVerifiedAt());
+            photoRepository.saveAll(targets);
 
-        } catch (Exception e) {
-            log.error("[ASYNC] AI 검증 중 오류: markerId={}, userId={}", markerId, userId, e);
+            // 포인트는 마커당 한 번, 가장 먼저 올라온 AFTER 사진 기준으로 적립 (커밋 후)
+            // 재검증이어도 적립 대상으로 넘기며, 이미 적립했는지는 적립 트랜잭션에서 원장으로 확인
+            Photo rewardPhoto = null;
+            if (result.isSuccess() && "APPROVED".equals(result.getVerificationResult())) {
+                rewardPhoto = targets.stream()
+                        .min(java.util.Comparator.comparing(Photo::getCreatedAt))
+                        .orElseThrow();
+            }
+
+            log.info("[ASYNC] AI 검증 완료: markerId={}, 결과={}, AFTER 사진 {}장 반영",
+                    markerId, result.getVerificationResult(), targets.size());
+            Photo representative = targets.get(0);
+            return new AppliedVerdict(new VerificationCompletedEvent(markerId, representative.getVerificationStatus().name(),
+                    representative.getVerificationConfidence(), representative.getVerificationReason(), attempt.getId()),
+                    rewardPhoto != null ? rewardPhoto.getUser().getId() : null,
+                    rewardPhoto != null ? rewardPhoto.getId() : null);
+        }));
+
+        if (applied.rewardPhotoId() != null) {
+            awardPointsForCleanupAsync(applied.rewardUserId(), applied.rewardPhotoId(), afterPhotoIds, result);
         }
+
+        // 커밋된 뒤에 알려야 대기 중인 클라이언트가 곧바로 상태를 다시 조회해도 반영된 값을 봄
+        eventPublisher.publishEvent(applied.event());
+
+        return result;
+    }
+
+    /**
+     * 검증 결과를 감사 기록 엔티티로 변환합니다.
+     *
+     * @param markerId 마커 ID
+     * @param result 검증 결과
+     * @return 저장 전 검증 시도 기록
+     */
+    private VerificationAttempt toAttempt(Long markerId, GptVerificationResponseDTO result) {
+        String outcome = result.isSuccess() || "RETRY_LATER".equals(result.getVerificationResult())
+                ? result.getVerificationResult() : "ERROR";
+        String reason = result.isSuccess() ? result.getReason() : result.getErrorMessage();
+        return VerificationAttempt.builder()
+                .marker(markerRepository.getReferenceById(markerId))
+                .result(outcome)
+                .confidence(result.getConfidence())
+                .reason(reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason)
+                .model(result.getModel())
+                .promptVersion(result.getPromptVersion())
+                .latencyMs(result.getLatencyMs())
+                .promptTokens(result.getPromptTokens())
+                .completionTokens(result.getCompletionTokens())
+                .cached(result.isCached())
+                .imageProfile(result.getImageProfile())
+                .escalated(result.isEscalated())
+                .errorClass(result.getErrorClass())
+                .rawResponse(result.isSuccess() ? result.getGptResponse() : result.getErrorMessage())
+                .build();
     }
 
     /**
      * AI 검증 승인 시 비동기로 사용자에게 포인트를 적립합니다.
+     * 판정 트랜잭션이 커밋된 뒤 자체 트랜잭션에서 적립하며, 실패는 기록만 하고 판정에는 영향을 주지 않습니다.
+     * 마커의 AFTER 사진 중 이미 적립한 사진이 있으면 건너뛰므로, 적립에 실패한 마커는 재검증 시 다시 적립됩니다.
      * 
      * @param userId 포인트를 적립받을 사용자 ID
      * @param photoId 검증된 사진 ID
+     * @param markerPhotoIds 마커의 AFTER 사진 ID 목록
      * @param verificationResult AI 검증 결과
      */
-    private void awardPointsForCleanupAsync(Long userId, Long photoId, GptVerificationResponseDTO verificationResult) {
+    private void awardPointsForCleanupAsync(Long userId, Long photoId, List<Long> markerPhotoIds,
+                                            GptVerificationResponseDTO verificationResult) {
         try {
-            // 세션 문제 해결을 위해 다시 조회
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다: " + userId));
-            Photo photo = photoRepository.findById(photoId)
-                    .orElseThrow(() -> new IllegalStateException("사진을 찾을 수 없습니다: " + photoId));
-            
-            // 기본 포인트: 5000pt (기존 100pt에서 증가)
-            Integer basePoints = 5000;
-            
-            // 신뢰도에 따른 보너스 포인트 계산 (80% 이상 시 1000pt 추가)
-            Integer bonusPoints = 0;
-            if (verificationResult.getConfidence() != null && verificationResult.getConfidence() >= 0.8) {
-                bonusPoints = 1000;
-            }
-            
-            Integer totalPoints = basePoints + bonusPoints;
-            
-            log.info("[ASYNC] 포인트 적립 시작: 사용자={}, 기본={}pt, 보너스={}pt, 총={}pt", 
-                    user.getUsername(), basePoints, bonusPoints, totalPoints);
-            
-            // 사용자 포인트 적립
-            user.addPoints(totalPoints);
-            userRepository.save(user);
-            
-            // 포인트 적립 이력 생성
-            String description = String.format("청소 인증 완료 (신뢰도: %.0f%%)", 
-                    verificationResult.getConfidence() != null ? verificationResult.getConfidence() * 100 : 0);
-            
-            PointHistory pointHistory = PointHistory.createEarnedHistory(user, totalPoints, description, photo);
-            pointHistoryRepository.save(pointHistory);
-            
-            log.info("[ASYNC] 포인트 적립 완료: 사용자={}, 적립포인트={}pt, 현재보유={}pt", 
-                    user.getUsername(), totalPoints, user.getPoints());
-                    
+            transactionTemplate.executeWithoutResult(status -> {
+                // 도입 전 적립은 적립 원인 사진 ID가 없으므로 관련 사진으로 확인
+                if (pointHistoryRepository.existsEarnedForPhotos(markerPhotoIds)) {
+                    log.debug("[ASYNC] 이미 적립한 마커, 적립 생략: userId={}, photoId={}", userId, photoId);
+                    return;
+                }
+                awardPointsForCleanup(userId, photoId, verificationResult);
+            });
         } catch (Exception e) {
             log.error("[ASYNC] 포인트 적립 중 오류 발생: userId={}, photoId={}", 
                     userId, photoId, e);
             // 포인트 적립 실패해도 AI 검증 결과는 유지
         }
     }
-}
 
+    /**
+     * 청소 인증 포인트를 계산해 적립합니다. (호출한 트랜잭션 안에서 실행)
+     *
+     * @param userId 포인트를 적립받을 사용자 ID
+     * @param photoId 검증된 사진 ID
+     * @param verificationResult AI 검증 결과
+     */
+    private void awardPointsForCleanup(Long userId, Long photoId, GptVerificationResponseDTO verificationResult) {
+        // 세션 문제 해결을 위해 다시 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다: " + userId));
+        Photo photo = photoRepository.findById(photoId)
+                .orElseThrow(() -> new IllegalStateException("사진을 찾을 수 없습니다: " + photoId));
+        
+        // 적립 포인트는 규칙 엔진이 현재 규칙과 사용자 행의 청소 활동 상태로 계산 (기본 포인트는 ai.verification.points.reward)
+        String description = String.format("청소 인증 완료 (신뢰도: %.0f%%)", 
+                verificationResult.getConfidence() != null ? verificationResult.getConfidence() * 100 : 0);
+        LocalDateTime now = LocalDateTime.now();
+        PointLedgerService.CleanupEarning earning = pointLedgerService.earnCleanup(user, photo, description,
+                now.toLocalDate(), activity -> pointRuleEngine.evaluateCleanup(
+                        photo.getMarker(), verificationResult.getConfidence(), now, activity));
+        PointRules.PointAward award = earning.award();
+        if (award == null) {
+            return;
+        }
+        
+        log.info("[ASYNC] 포인트 계산: 사용자={}, 기본={}pt, 신뢰도 보너스={}pt, 활동 보너스={}pt, 경과 시간 보너스={}pt, 지역 배율={}%, 총={}pt (규칙 v{})", 
+                user.getUsername(), award.basePoints(), award.confidenceBonus(), award.activityBonus(),
+                award.markerAgeBonus(), award.multiplierPercent(), award.points(), award.ruleVersion());
+        if (earning.history() == null) {
+            log.info("[ASYNC] 적립할 포인트가 없어 건너뜀: 사용자={}, photoId={}", user.getUsername(), photoId);
+            return;
+        }
+        
+        log.info("[ASYNC] 포인트 적립 완료: 사용자={}, 적립포인트={}pt, 현재보유={}pt", 
+                user.getUsername(), award.points(), user.getPoints());
+    }
 
+    /**
+     * 커밋된 판정 결과와 적립 대상 (적립 대상이 없으면 사용자/사진 ID가 null)
+     */
+    private record AppliedVerdict(VerificationCompletedEvent event, Long rewardUserId, Long rewardPhotoId) {
+    }
+}
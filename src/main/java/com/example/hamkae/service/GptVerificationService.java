@@ -1,20 +1,44 @@
 package com.example.hamkae.service;
 
+import com.example.hamkae.DTO.ChatCompletionResponseDTO;
+import com.example.hamkae.DTO.CleanupBatchVerdictDTO;
+import com.example.hamkae.DTO.CleanupVerdictDTO;
 import com.example.hamkae.DTO.GptVerificationResponseDTO;
 import com.example.hamkae.domain.Photo;
+import com.example.hamkae.domain.ShadowVerificationResult;
+import com.example.hamkae.repository.ShadowVerificationResultRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.util.retry.Retry;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 import javax.imageio.ImageIO;
 
 /**
@@ -32,6 +56,94 @@ public class GptVerificationService {
 
     private final WebClient openAiWebClient;
     private final ImageValidationService imageValidationService;
+    private final OpenAiCircuitBreaker openAiCircuitBreaker;
+    private final VerificationCacheService verificationCacheService;
+    private final ObjectMapper objectMapper;
+    private final OpenAiRequestWriter openAiRequestWriter;
+    private final VerificationImageSelector imageSelector;
+    private final AdaptiveImageEncoder adaptiveImageEncoder;
+    private final VerificationMetrics verificationMetrics;
+    private final VerificationScheduler verificationScheduler;
+    private final ShadowVerificationResultRepository shadowVerificationResultRepository;
+
+    /**
+     * 검증 프롬프트 버전
+     * 프롬프트나 응답 스키마를 변경하면 반드시 올려야 하며, 캐시 키에 포함되어 이전 결과와 구분됩니다.
+     */
+    private static final String PROMPT_VERSION = "v2";
+
+    /**
+     * 배치 모드 프롬프트 버전
+     * 여러 쌍을 한 요청에 담으면 판단 맥락이 달라지므로 단건 결과와 캐시를 공유하지 않습니다.
+     */
+    private static final String BATCH_PROMPT_VERSION = "v2-batch";
+
+    /**
+     * 멀티 이미지(한 쪽에 2장 이상) 프롬프트 버전
+     */
+    private static final String MULTI_PROMPT_VERSION = "v2-multi";
+
+    /**
+     * 배치 요청의 이미지 해상도 수준 (high detail 쌍은 배치로 묶지 않음)
+     */
+    private static final String BATCH_DETAIL = "low";
+
+    private static final String SYSTEM_PROMPT = "당신은 환경 정리 검증 전문가입니다. 두 이미지를 비교해 실제로 쓰레기가 정리되었는지 판단하세요. 반드시 JSON만 반환하세요.";
+
+    /**
+     * 판정 응답 형식 (JSON 스키마 strict 모드)
+     * 모델 출력이 {@link CleanupVerdictDTO}와 같은 구조로 제한됩니다.
+     */
+    private static final Map<String, Object> VERDICT_RESPONSE_FORMAT = Map.of(
+            "type", "json_schema",
+            "json_schema", Map.of(
+                    "name", "cleanup_verdict",
+                    "strict", true,
+                    "schema", Map.of(
+                            "type", "object",
+                            "properties", Map.of(
+                                    "verification_result", Map.of("type", "string", "enum", List.of("APPROVED", "REJECTED")),
+                                    "confidence", Map.of("type", "number"),
+                                    "reason", Map.of("type", "string")
+                            ),
+                            "required", List.of("verification_result", "confidence", "reason"),
+                            "additionalProperties", false
+                    )
+            )
+    );
+
+    /**
+     * 배치 판정 응답 형식 (JSON 스키마 strict 모드)
+     * 최상위는 객체여야 하므로 판정 배열을 results로 감쌉니다.
+     */
+    private static final Map<String, Object> BATCH_VERDICT_RESPONSE_FORMAT = Map.of(
+            "type", "json_schema",
+            "json_schema", Map.of(
+                    "name", "cleanup_verdict_batch",
+                    "strict", true,
+                    "schema", Map.of(
+                            "type", "object",
+                            "properties", Map.of(
+                                    "results", Map.of(
+                                            "type", "array",
+                                            "items", Map.of(
+                                                    "type", "object",
+                                                    "properties", Map.of(
+                                                            "index", Map.of("type", "integer"),
+                                                            "verification_result", Map.of("type", "string", "enum", List.of("APPROVED", "REJECTED")),
+                                                            "confidence", Map.of("type", "number"),
+                                                            "reason", Map.of("type", "string")
+                                                    ),
+                                                    "required", List.of("index", "verification_result", "confidence", "reason"),
+                                                    "additionalProperties", false
+                                            )
+                                    )
+                            ),
+                            "required", List.of("results"),
+                            "additionalProperties", false
+                    )
+            )
+    );
 
     @Value("${openai.api.model:gpt-4o}")
     private String modelName;
@@ -39,15 +151,36 @@ public class GptVerificationService {
     @Value("${openai.api.max-tokens:800}")
     private Integer maxTokens;
 
-    @Value("${ai.verification.points.reward:5000}")
-    private Integer pointsReward;
-
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
 
     @Value("${ai.verification.min-interval-minutes:1}")
     private Integer minIntervalMinutes;
 
+    /**
+     * 호출 1회(시도 단위)의 최대 대기 시간 (밀리초)
+     */
+    @Value("${openai.api.timeout:30000}")
+    private Long attemptTimeoutMs;
+
+    /**
+     * 일시적 장애 시 최초 호출을 포함한 최대 시도 횟수
+     */
+    @Value("${openai.api.retry.max-attempts:3}")
+    private Integer retryMaxAttempts;
+
+    @Value("${openai.api.retry.initial-backoff-ms:500}")
+    private Long retryInitialBackoffMs;
+
+    @Value("${openai.api.retry.max-backoff-ms:5000}")
+    private Long retryMaxBackoffMs;
+
+    /**
+     * 재시도 대기 시간에 적용할 지터 비율 (0.0 ~ 1.0)
+     */
+    @Value("${openai.api.retry.jitter:0.5}")
+    private Double retryJitter;
+
     /**
      * 업로드된 파일을 저장할 기본 디렉토리
      * application.properties에서 설정값을 읽어옵니다.
@@ -55,6 +188,73 @@ public class GptVerificationService {
     @Value("${app.upload.dir}")
     private String uploadDir;
 
+    /**
+     * 배치 모드 사용 여부
+     * 활성화하면 짧은 구간 동안 들어온 검증을 모아 하나의 멀티 이미지 요청으로 보내 시스템 프롬프트 토큰과 요청 수를 줄입니다.
+     */
+    @Value("${ai.verification.batch.enabled:false}")
+    private Boolean batchEnabled;
+
+    /**
+     * 배치를 모으는 최대 대기 시간 (밀리초)
+     */
+    @Value("${ai.verification.batch.window-ms:200}")
+    private Long batchWindowMs;
+
+    /**
+     * 한 요청에 담을 최대 이미지 쌍 수
+     */
+    @Value("${ai.verification.batch.max-size:4}")
+    private Integer batchMaxSize;
+
+    /**
+     * 섀도 모드 사용 여부
+     * 활성화하면 표본으로 뽑힌 검증을 다른 모델/설정으로 한 번 더 검증해 운영 판정과 비교 기록합니다. (판정에는 반영하지 않음)
+     */
+    @Value("${ai.verification.shadow.enabled:false}")
+    private Boolean shadowEnabled;
+
+    /**
+     * 섀도 검증 표본 비율 (0.0 ~ 1.0)
+     */
+    @Value("${ai.verification.shadow.sample-rate:0.05}")
+    private Double shadowSampleRate;
+
+    @Value("${ai.verification.shadow.model:gpt-4o-mini}")
+    private String shadowModel;
+
+    @Value("${ai.verification.shadow.detail:low}")
+    private String shadowDetail;
+
+    /**
+     * 섀도 검증 전용 호출 한도 (분당 최대 호출 수)
+     * 운영 호출과 별도로 관리하여 섀도 트래픽이 OpenAI 할당량을 잠식하지 않도록 합니다.
+     */
+    @Value("${ai.verification.shadow.max-calls-per-minute:30}")
+    private Integer shadowMaxCallsPerMinute;
+
+    private final Object shadowBudgetLock = new Object();
+    private double shadowPermits;
+    private long shadowPermitsRefilledAt = System.nanoTime();
+
+    private MicroBatcher<ImageSet, GptVerificationResponseDTO> verificationBatcher;
+
+    @PostConstruct
+    void initVerificationBatcher() {
+        if (Boolean.TRUE.equals(batchEnabled)) {
+            verificationBatcher = new MicroBatcher<>("gpt-verification-batch", batchMaxSize,
+                    Duration.ofMillis(batchWindowMs), this::verifyBatch);
+            log.info("GPT 검증 배치 모드 활성화: window={}ms, maxSize={}", batchWindowMs, batchMaxSize);
+        }
+    }
+
+    @PreDestroy
+    void closeVerificationBatcher() {
+        if (verificationBatcher != null) {
+            verificationBatcher.close();
+        }
+    }
+
     /**
      * 사진 비교 검증을 수행합니다.
      * 
@@ -63,41 +263,208 @@ public class GptVerificationService {
      * @return 검증 결과
      */
     public GptVerificationResponseDTO verifyCleanup(Photo beforePhoto, Photo afterPhoto) {
+        return verifyCleanup(List.of(beforePhoto), List.of(afterPhoto));
+    }
+
+    /**
+     * 마커의 BEFORE/AFTER 사진 전체를 한 번의 모델 호출로 비교 검증합니다.
+     * 각 쪽에서 선명하고 서로 다른 사진만 최대 개수까지 골라 보내므로, 사진이 많아도 요청은 한 번입니다.
+     * 
+     * @param beforePhotos 청소 전 사진 목록 (1장 이상)
+     * @param afterPhotos 청소 후 사진 목록 (1장 이상)
+     * @return 검증 결과
+     */
+    public GptVerificationResponseDTO verifyCleanup(List<Photo> beforePhotos, List<Photo> afterPhotos) {
+        Timer.Sample verificationSample = verificationMetrics.start();
+        long startedAt = System.nanoTime();
+        String promptVersion = null;
         try {
-            log.info("사진 검증 시작: 마커 ID {}, 사용자 ID {}", 
-                    beforePhoto.getMarker().getId(), afterPhoto.getUser().getId());
+            // 시간 간격은 가장 늦은 BEFORE와 가장 이른 AFTER 사이로 판단
+            Photo beforePhoto = beforePhotos.stream().max(Comparator.comparing(Photo::getCreatedAt)).orElseThrow();
+            Photo afterPhoto = afterPhotos.stream().min(Comparator.comparing(Photo::getCreatedAt)).orElseThrow();
+            log.info("사진 검증 시작: 마커 ID {}, 사용자 ID {}, BEFORE {}장, AFTER {}장", 
+                    beforePhoto.getMarker().getId(), afterPhoto.getUser().getId(),
+                    beforePhotos.size(), afterPhotos.size());
 
             // 1단계: 이미지 품질 사전 검증
             validateImageQuality(beforePhoto, afterPhoto);
             
             // 2단계: 위치 일치성 검증
-            validateLocationConsistency(beforePhoto, afterPhoto);
+            for (Photo photo : beforePhotos) {
+                validateLocationConsistency(photo, afterPhoto);
+            }
+            for (Photo photo : afterPhotos) {
+                validateLocationConsistency(beforePhoto, photo);
+            }
             
             // 3단계: 시간 간격 검증
             validateTimeInterval(beforePhoto, afterPhoto);
             
-            // 4단계: GPT Vision API 검증 (멀티모달 Base64)
-            String gptResponse = callGptVisionJson(beforePhoto, afterPhoto);
+            // 4단계: 선명도/중복도 기준으로 보낼 사진 선택 (선택에 쓰는 기본 파생 이미지는 한 번만 만들어 재사용)
+            List<VerificationImageSelector.SelectedImage> selectedBefore = verificationMetrics.time(
+                    VerificationMetrics.Stage.IMAGE_LOAD, () -> imageSelector.select(beforePhotos));
+            List<VerificationImageSelector.SelectedImage> selectedAfter = verificationMetrics.time(
+                    VerificationMetrics.Stage.IMAGE_LOAD, () -> imageSelector.select(afterPhotos));
             
-            // 5단계: 응답 파싱 및 결과 생성
-            GptVerificationResponseDTO result = parseGptResponse(gptResponse);
+            // 장면 난이도(윤곽 밀도, 선명도, 변화량)에 맞는 전송 크기/품질/detail 선택
+            AdaptiveImageEncoder.Profile profile = adaptiveImageEncoder.choose(selectedBefore, selectedAfter);
+            boolean multiImage = selectedBefore.size() > 1 || selectedAfter.size() > 1;
+            boolean batched = verificationBatcher != null && !multiImage && !profile.isHighDetail();
+            
+            // 5단계: 이미지 내용 해시, 프롬프트 버전, 모델로 캐시 키 생성
+            promptVersion = multiImage ? MULTI_PROMPT_VERSION : batched ? BATCH_PROMPT_VERSION : PROMPT_VERSION;
+            String cacheVersion = promptVersion;
+            VerificationCacheService.CacheKey cacheKey = verificationMetrics.time(VerificationMetrics.Stage.IMAGE_LOAD,
+                    () -> new VerificationCacheService.CacheKey(
+                            VerificationCacheService.combineHashes(contentHashes(selectedBefore)),
+                            VerificationCacheService.combineHashes(contentHashes(selectedAfter)),
+                            modelName, cacheVersion));
+            
+            // 6단계: 캐시 조회 (동일 이미지 조합은 전송용 이미지를 만들지 않고 재호출하지 않음)
+            Optional<GptVerificationResponseDTO> cached = verificationCacheService.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("캐시된 검증 결과 사용: 결과 = {}, 신뢰도 = {}", 
+                        cached.get().getVerificationResult(), cached.get().getConfidence());
+                return complete(cached.get().toBuilder().cached(true).promptTokens(0).completionTokens(0).build(),
+                        verificationSample, startedAt, promptVersion);
+            }
+            
+            // 캐시에 없을 때만 프로필에 맞는 전송용 이미지 준비
+            ImageSet images = verificationMetrics.time(VerificationMetrics.Stage.ENCODE,
+                    () -> encode(selectedBefore, selectedAfter, profile));
+            
+            // 7단계: GPT Vision API 검증 및 응답 파싱 (배치 모드면 다른 단건 검증과 묶어서 한 번에 요청)
+            long modelStartedAt = System.nanoTime();
+            GptVerificationResponseDTO result = batched
+                    ? awaitBatchResult(verificationBatcher.submit(images))
+                    : parseGptResponse(callGptVisionJson(images));
+            verificationMetrics.recordImageProfile(profile.name());
+            result = result.toBuilder().imageProfile(profile.name()).build();
+            
+            // low detail 판정의 신뢰도가 낮으면 high detail로 한 번만 다시 확인
+            if (adaptiveImageEncoder.shouldEscalate(profile, result)) {
+                result = escalate(selectedBefore, selectedAfter, result);
+                if (result.isEscalated()) {
+                    promptVersion = multiImage ? MULTI_PROMPT_VERSION : PROMPT_VERSION;
+                }
+            }
+            long modelLatencyMs = Duration.ofNanos(System.nanoTime() - modelStartedAt).toMillis();
+            verificationCacheService.put(cacheKey, result);
             
             log.info("사진 검증 완료: 결과 = {}, 신뢰도 = {}", 
                     result.getVerificationResult(), result.getConfidence());
             
-            return result;
+            GptVerificationResponseDTO completed = complete(result, verificationSample, startedAt, promptVersion);
+            
+            // 8단계: 표본으로 뽑히면 섀도 모델로 한 번 더 검증 (낮은 우선순위, 결과는 비교 기록만)
+            submitShadowVerification(beforePhoto.getMarker().getId(), selectedBefore, selectedAfter, completed, modelLatencyMs);
+            return completed;
+
+        } catch (OpenAiUnavailableException e) {
+            // 일시적 장애는 사용자 책임이 아니므로 거부하지 않고 재시도 대기 상태로 보류
+            log.warn("OpenAI 일시 장애로 검증 보류: {}", e.getMessage());
+            GptVerificationResponseDTO result = GptVerificationResponseDTO.builder()
+                    .success(false)
+                    .verificationResult("RETRY_LATER")
+                    .errorMessage(e.getMessage())
+                    .errorClass(e.getClass().getSimpleName())
+                    .verifiedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .build();
+            return complete(result, verificationSample, startedAt, promptVersion);
 
         } catch (Exception e) {
             log.error("사진 검증 중 오류 발생", e);
-            return GptVerificationResponseDTO.builder()
+            GptVerificationResponseDTO result = GptVerificationResponseDTO.builder()
                     .success(false)
                     .verificationResult("REJECTED")
                     .errorMessage("검증 중 오류가 발생했습니다: " + e.getMessage())
+                    .errorClass(e.getClass().getSimpleName())
                     .verifiedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                     .build();
+            return complete(result, verificationSample, startedAt, promptVersion);
         }
     }
 
+    /**
+     * 선택된 사진을 프로필에 맞는 파생 이미지로 준비합니다.
+     * 
+     * @param before 선택된 BEFORE 사진
+     * @param after 선택된 AFTER 사진
+     * @param profile 인코딩 프로필
+     * @return 전송할 이미지 묶음
+     */
+    private ImageSet encode(List<VerificationImageSelector.SelectedImage> before,
+                            List<VerificationImageSelector.SelectedImage> after,
+                            AdaptiveImageEncoder.Profile profile) throws IOException {
+        return new ImageSet(adaptiveImageEncoder.encode(before, profile), adaptiveImageEncoder.encode(after, profile), profile);
+    }
+
+    /**
+     * 신뢰도가 낮은 low detail 판정을 high detail 이미지로 다시 확인합니다.
+     * 재확인에 성공하면 그 판정을 쓰고 두 호출의 토큰 수를 합산하며, 재확인이 실패하면 low detail 판정을 그대로 씁니다.
+     * 
+     * @param before 선택된 BEFORE 사진
+     * @param after 선택된 AFTER 사진
+     * @param lowDetail low detail 판정
+     * @return 최종 판정
+     */
+    private GptVerificationResponseDTO escalate(List<VerificationImageSelector.SelectedImage> before,
+                                                List<VerificationImageSelector.SelectedImage> after,
+                                                GptVerificationResponseDTO lowDetail) {
+        GptVerificationResponseDTO highDetail;
+        try {
+            ImageSet images = verificationMetrics.time(VerificationMetrics.Stage.ENCODE,
+                    () -> encode(before, after, AdaptiveImageEncoder.Profile.HIGH));
+            highDetail = parseGptResponse(callGptVisionJson(images));
+            verificationMetrics.recordImageProfile(AdaptiveImageEncoder.Profile.HIGH.name());
+        } catch (Exception e) {
+            log.warn("high detail 재확인 실패, low detail 판정 사용: {}", e.toString());
+            verificationMetrics.recordEscalation("failed");
+            return lowDetail;
+        }
+        if (!highDetail.isSuccess()) {
+            verificationMetrics.recordEscalation("failed");
+            return lowDetail;
+        }
+
+        boolean changed = !highDetail.getVerificationResult().equals(lowDetail.getVerificationResult());
+        verificationMetrics.recordEscalation(changed ? "changed" : "confirmed");
+        log.info("high detail 재확인: {}({}) -> {}({})", lowDetail.getVerificationResult(), lowDetail.getConfidence(),
+                highDetail.getVerificationResult(), highDetail.getConfidence());
+        return highDetail.toBuilder()
+                .imageProfile(AdaptiveImageEncoder.Profile.HIGH.name())
+                .escalated(true)
+                .promptTokens(sumTokens(lowDetail.getPromptTokens(), highDetail.getPromptTokens()))
+                .completionTokens(sumTokens(lowDetail.getCompletionTokens(), highDetail.getCompletionTokens()))
+                .build();
+    }
+
+    private static Integer sumTokens(Integer first, Integer second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first + second;
+    }
+
+    /**
+     * 검증 결과에 모델, 프롬프트 버전, 소요 시간을 채우고 지표를 기록합니다.
+     * 
+     * @param result 검증 결과
+     * @param sample 검증 시작 시점의 측정 샘플
+     * @param startedAt 검증 시작 시각 (System.nanoTime)
+     * @param promptVersion 사용한 프롬프트 버전 (요청 전에 실패하면 null)
+     * @return 감사 기록용 필드가 채워진 검증 결과
+     */
+    private GptVerificationResponseDTO complete(GptVerificationResponseDTO result, Timer.Sample sample,
+                                                long startedAt, String promptVersion) {
+        verificationMetrics.recordResult(sample, result, result.isCached() ? "cache" : "model");
+        return result.toBuilder()
+                .model(modelName)
+                .promptVersion(promptVersion)
+                .latencyMs(Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
+                .build();
+    }
+
     /**
      * 이미지 품질을 사전 검증합니다.
      * 
@@ -196,82 +563,321 @@ public class GptVerificationService {
     /**
      * GPT Vision API를 호출하여 이미지를 직접 비교합니다.
      * 
-     * @param beforePhoto 청소 전 사진
-     * @param afterPhoto 청소 후 사진
+     * @param images 비교할 BEFORE/AFTER 파생 이미지
      * @return GPT API 응답
      */
-    private String callGptVisionJson(Photo beforePhoto, Photo afterPhoto) {
+    private ChatCompletionResponseDTO callGptVisionJson(ImageSet images) {
         try {
-            String beforeBase64 = imageValidationService.encodeImageToBase64(beforePhoto.getImagePath());
-            String afterBase64 = imageValidationService.encodeImageToBase64(afterPhoto.getImagePath());
-
-            String systemPrompt = "당신은 환경 정리 검증 전문가입니다. 두 이미지를 비교해 실제로 쓰레기가 정리되었는지 판단하세요. 반드시 JSON만 반환하세요.";
-            String userText = "BEFORE와 AFTER 이미지를 비교하여 다음 스키마로만 응답하세요. {\\n" +
-                    "  \"verification_result\": \"APPROVED|REJECTED\",\\n" +
-                    "  \"confidence\": 0.0~1.0,\\n" +
-                    "  \"reason\": \"핵심 근거\"\\n" +
-                    "}";
-
-            var payload = java.util.Map.of(
-                    "model", modelName,
-                    "temperature", 0,
-                    "max_tokens", maxTokens,
-                    "response_format", java.util.Map.of("type", "json_object"),
-                    "messages", java.util.List.of(
-                            java.util.Map.of("role", "system", "content", systemPrompt),
-                            java.util.Map.of(
-                                    "role", "user",
-                                    "content", java.util.List.of(
-                                            java.util.Map.of("type", "text", "text", userText),
-                                            java.util.Map.of("type", "image_url", "image_url", java.util.Map.of(
-                                                    "url", "data:image/jpeg;base64," + beforeBase64,
-                                                    "detail", "low"
-                                            )),
-                                            java.util.Map.of("type", "image_url", "image_url", java.util.Map.of(
-                                                    "url", "data:image/jpeg;base64," + afterBase64,
-                                                    "detail", "low"
-                                            ))
-                                    )
-                            )
-                    )
-            );
+            ChatCompletionResponseDTO response = executeWithResilience(
+                    visionPayload(images, modelName, images.profile().getDetail()), ChatCompletionResponseDTO.class);
+            recordUsage(response, modelName);
+            return response;
+
+        } catch (OpenAiUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("GPT Vision 호출 실패", e);
+            throw new RuntimeException("GPT Vision 호출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 단건(마커 1개) 검증 요청 본문을 만듭니다.
+     * 
+     * @param images 비교할 BEFORE/AFTER 파생 이미지
+     * @param model 모델명
+     * @param detail 이미지 해상도 수준
+     * @return 요청 본문
+     */
+    private BodyInserter<Object, ClientHttpRequest> visionPayload(ImageSet images, String model, String detail) {
+        String userText = images.isMultiImage()
+                ? "처음 " + images.before().size() + "장은 청소 전(BEFORE) 사진이고, 이어지는 " + images.after().size() +
+                  "장은 청소 후(AFTER) 사진입니다. 같은 장소를 여러 각도에서 찍은 사진이므로 모든 사진을 종합하여 " +
+                  "verification_result(APPROVED 또는 REJECTED), confidence(0.0~1.0), reason(핵심 근거)을 하나만 응답하세요."
+                : "BEFORE와 AFTER 이미지를 비교하여 verification_result(APPROVED 또는 REJECTED), " +
+                  "confidence(0.0~1.0), reason(핵심 근거)을 응답하세요.";
+
+        // 이미지는 파생 파일에서 요청 본문으로 바로 스트리밍 (Base64 문자열을 만들지 않음)
+        return openAiRequestWriter.visionRequest(model, maxTokens, VERDICT_RESPONSE_FORMAT,
+                SYSTEM_PROMPT, userText, images.all(), detail);
+    }
 
-            var response = openAiWebClient.post()
+    /**
+     * 여러 이미지 쌍을 하나의 요청으로 검증합니다. (배치 모드)
+     * 이미지는 (BEFORE, AFTER) 순서로 쌍마다 이어서 보내고, 응답의 index로 각 쌍의 판정을 찾아 돌려줍니다.
+     * 판정이 빠졌거나 형식이 잘못된 쌍만 파싱 실패로 처리하며, 호출 자체가 실패하면 배치 전체가 예외로 완료됩니다.
+     * 
+     * @param pairs 검증할 이미지 쌍 목록
+     * @return 쌍 순서와 같은 순서의 검증 결과
+     */
+    private List<GptVerificationResponseDTO> verifyBatch(List<ImageSet> pairs) {
+        if (pairs.size() == 1) {
+            return List.of(parseGptResponse(callGptVisionJson(pairs.get(0))));
+        }
+
+        String userText = "이미지는 BEFORE, AFTER 순서의 쌍으로 " + pairs.size() + "쌍이 이어서 주어집니다. " +
+                "각 쌍을 서로 독립적으로 비교하여, 쌍 순번 index(0부터)마다 verification_result(APPROVED 또는 REJECTED), " +
+                "confidence(0.0~1.0), reason(핵심 근거)을 results 배열에 하나씩 담아 응답하세요.";
+        List<Path> images = pairs.stream()
+                .flatMap(pair -> pair.all().stream())
+                .toList();
+
+        ChatCompletionResponseDTO response;
+        try {
+            var payload = openAiRequestWriter.visionRequest(modelName, maxTokens * pairs.size(),
+                    BATCH_VERDICT_RESPONSE_FORMAT, SYSTEM_PROMPT, userText, images, BATCH_DETAIL);
+            response = executeWithResilience(payload, ChatCompletionResponseDTO.class);
+            recordUsage(response, modelName);
+        } catch (OpenAiUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("GPT Vision 배치 호출 실패: {}쌍", pairs.size(), e);
+            throw new RuntimeException("GPT Vision 배치 호출 실패: " + e.getMessage(), e);
+        }
+
+        Timer.Sample parseSample = verificationMetrics.start();
+        Map<Integer, CleanupBatchVerdictDTO.Item> itemsByIndex = new java.util.HashMap<>();
+        try {
+            CleanupBatchVerdictDTO batch = batchVerdictReader().readValue(extractMessage(response).content());
+            for (CleanupBatchVerdictDTO.Item item : batch.results()) {
+                // 같은 index가 두 번 오면 어느 쪽이 맞는지 알 수 없으므로 해당 쌍은 실패 처리
+                if (itemsByIndex.putIfAbsent(item.index(), item) != null) {
+                    itemsByIndex.put(item.index(), null);
+                }
+            }
+        } catch (Exception e) {
+            log.error("GPT 배치 응답 파싱 중 오류 발생", e);
+            verificationMetrics.stopStage(parseSample, VerificationMetrics.Stage.PARSE, false);
+            return pairs.stream().map(pair -> parseFailure(e)).toList();
+        }
+
+        List<GptVerificationResponseDTO> results = new java.util.ArrayList<>(pairs.size());
+        for (int i = 0; i < pairs.size(); i++) {
+            CleanupBatchVerdictDTO.Item item = itemsByIndex.get(i);
+            try {
+                if (item == null) {
+                    throw new IllegalArgumentException("배치 응답에 index " + i + "의 판정이 없거나 중복되었습니다.");
+                }
+                CleanupVerdictDTO verdict = item.toVerdict();
+                results.add(toResult(verdict, objectMapper.writeValueAsString(verdict), response.usage(), pairs.size()));
+            } catch (Exception e) {
+                log.warn("GPT 배치 응답의 {}번째 판정을 사용할 수 없습니다: {}", i, e.getMessage());
+                results.add(parseFailure(e));
+            }
+        }
+        verificationMetrics.stopStage(parseSample, VerificationMetrics.Stage.PARSE, true);
+        return results;
+    }
+
+    /**
+     * 배치 처리 결과를 기다립니다.
+     * 
+     * @param future 배치 결과 Future
+     * @return 검증 결과
+     */
+    private GptVerificationResponseDTO awaitBatchResult(java.util.concurrent.CompletableFuture<GptVerificationResponseDTO> future) {
+        try {
+            return future.join();
+        } catch (java.util.concurrent.CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 회로 차단기, 시도별 타임아웃, 지터가 적용된 지수 백오프 재시도를 적용하여 Chat Completions API를 호출합니다.
+     * 5xx, 429, 네트워크/타임아웃 오류만 재시도하며, 재시도가 소진되면 {@link OpenAiUnavailableException}을 던집니다.
+     *
+     * @param payload 요청 본문 (재시도마다 다시 작성됨)
+     * @param responseType 응답 본문을 매핑할 타입
+     * @return 매핑된 API 응답
+     */
+    private <T> T executeWithResilience(BodyInserter<?, ? super ClientHttpRequest> payload, Class<T> responseType) {
+        if (!openAiCircuitBreaker.tryAcquirePermission()) {
+            throw new OpenAiUnavailableException("OpenAI 회로 차단기가 열려 있어 호출을 건너뜁니다.");
+        }
+
+        Timer.Sample httpSample = verificationMetrics.start();
+        T response;
+        try {
+            response = openAiWebClient.post()
                     .uri("/v1/chat/completions")
                     .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(payload)
+                    .body(payload)
                     .retrieve()
-                    .bodyToMono(String.class)
+                    .bodyToMono(responseType)
+                    .timeout(Duration.ofMillis(attemptTimeoutMs))
+                    .retryWhen(Retry.backoff(Math.max(0, retryMaxAttempts - 1), Duration.ofMillis(retryInitialBackoffMs))
+                            .maxBackoff(Duration.ofMillis(retryMaxBackoffMs))
+                            .jitter(retryJitter)
+                            .filter(this::isTransientFailure)
+                            .doBeforeRetry(signal -> {
+                                verificationMetrics.recordRetry();
+                                log.warn("OpenAI 호출 재시도 {}회차: {}",
+                                        signal.totalRetries() + 1, signal.failure().toString());
+                            }))
                     .block();
+        } catch (RuntimeException e) {
+            verificationMetrics.stopStage(httpSample, VerificationMetrics.Stage.HTTP, false);
+            Throwable cause = Exceptions.isRetryExhausted(e) ? e.getCause() : Exceptions.unwrap(e);
+            if (isTransientFailure(cause)) {
+                openAiCircuitBreaker.onFailure();
+                throw new OpenAiUnavailableException("OpenAI 일시 장애: " + cause, cause);
+            }
+            // 4xx 등 응답을 받은 실패는 서비스 가용성과 무관하므로 회로 상태에 반영하지 않음
+            openAiCircuitBreaker.onSuccess();
+            throw e;
+        }
 
-            // 매우 단순 파싱: choices[0].message.content 을 추출
-            String content = extractJsonContentFromChatCompletions(response);
-            log.debug("GPT Vision 응답(JSON): {}", content);
-            return content;
+        verificationMetrics.stopStage(httpSample, VerificationMetrics.Stage.HTTP, true);
+        openAiCircuitBreaker.onSuccess();
+        return response;
+    }
 
-        } catch (Exception e) {
-            log.error("GPT Vision 호출 실패", e);
-            throw new RuntimeException("GPT Vision 호출 실패: " + e.getMessage(), e);
+    /**
+     * 표본으로 뽑힌 검증을 섀도 모델로 다시 검증하도록 BULK 우선순위로 예약합니다.
+     * 운영 판정이 모델에서 나온 성공 결과일 때만 비교하며, 섀도 전용 호출 한도나 큐가 가득 차면 건너뜁니다.
+     * 
+     * @param markerId 마커 ID
+     * @param before 운영 검증에 선택된 BEFORE 사진
+     * @param after 운영 검증에 선택된 AFTER 사진
+     * @param primary 운영 판정
+     * @param primaryModelLatencyMs 운영 모델 호출 구간 소요 시간 (밀리초)
+     */
+    private void submitShadowVerification(Long markerId, List<VerificationImageSelector.SelectedImage> before,
+                                          List<VerificationImageSelector.SelectedImage> after,
+                                          GptVerificationResponseDTO primary, long primaryModelLatencyMs) {
+        if (!Boolean.TRUE.equals(shadowEnabled) || !primary.isSuccess() || primary.isCached()) {
+            return;
+        }
+        if (java.util.concurrent.ThreadLocalRandom.current().nextDouble() >= shadowSampleRate) {
+            return;
+        }
+        if (!tryAcquireShadowPermit()) {
+            verificationMetrics.recordShadowSkipped("budget");
+            return;
+        }
+        try {
+            verificationScheduler.submit(VerificationScheduler.Priority.BULK,
+                    () -> runShadowVerification(markerId, before, after, primary, primaryModelLatencyMs));
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            verificationMetrics.recordShadowSkipped("queue");
         }
     }
 
-    private String extractJsonContentFromChatCompletions(String raw) {
+    /**
+     * 섀도 모델로 검증하고 운영 판정과 비교한 결과를 기록합니다.
+     * 섀도 호출은 재시도하지 않고, 회로 차단기 상태에도 반영하지 않습니다.
+     * 이미지는 섀도 detail 설정에 맞는 프로필로 다시 준비합니다.
+     * 
+     * @return 비교 결과
+     */
+    private ShadowVerificationResult runShadowVerification(Long markerId, List<VerificationImageSelector.SelectedImage> before,
+                                                           List<VerificationImageSelector.SelectedImage> after,
+                                                           GptVerificationResponseDTO primary, long primaryModelLatencyMs) {
+        long startedAt = System.nanoTime();
+        GptVerificationResponseDTO shadow;
+        String errorClass = null;
         try {
-            // 매우 단순한 문자열 추출 (프로덕션에선 JSON 파서 사용 권장)
-            int contentIdx = raw.indexOf("\"content\":");
-            if (contentIdx == -1) return raw;
-            int firstQuote = raw.indexOf('"', contentIdx + 10);
-            int lastQuote = raw.lastIndexOf('"');
-            if (firstQuote == -1 || lastQuote == -1 || lastQuote <= firstQuote) return raw;
-            String extracted = raw.substring(firstQuote + 1, lastQuote)
-                    .replace("\\n", "\n")
-                    .replace("\\\"", "\"");
-            return extracted;
+            ImageSet images = encode(before, after, adaptiveImageEncoder.forDetail(shadowDetail));
+            ChatCompletionResponseDTO response = executeShadow(visionPayload(images, shadowModel, shadowDetail));
+            recordUsage(response, shadowModel);
+            shadow = readVerdict(response);
+            errorClass = shadow.getErrorClass();
         } catch (Exception e) {
-            return raw;
+            log.warn("섀도 검증 실패: markerId={}, model={}, {}", markerId, shadowModel, e.toString());
+            shadow = null;
+            errorClass = e.getClass().getSimpleName();
+        }
+        long shadowLatencyMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        boolean shadowSucceeded = shadow != null && shadow.isSuccess();
+        boolean agreed = shadowSucceeded && primary.getVerificationResult().equals(shadow.getVerificationResult());
+        ShadowVerificationResult comparison = ShadowVerificationResult.builder()
+                .markerId(markerId)
+                .primaryModel(modelName)
+                .shadowModel(shadowModel)
+                .shadowDetail(shadowDetail)
+                .primaryResult(primary.getVerificationResult())
+                .shadowResult(shadowSucceeded ? shadow.getVerificationResult() : "ERROR")
+                .agreed(agreed)
+                .primaryConfidence(primary.getConfidence())
+                .shadowConfidence(shadowSucceeded ? shadow.getConfidence() : null)
+                .primaryLatencyMs(primaryModelLatencyMs)
+                .shadowLatencyMs(shadowLatencyMs)
+                .primaryPromptTokens(primary.getPromptTokens())
+                .shadowPromptTokens(shadow != null ? shadow.getPromptTokens() : null)
+                .primaryCompletionTokens(primary.getCompletionTokens())
+                .shadowCompletionTokens(shadow != null ? shadow.getCompletionTokens() : null)
+                .errorClass(errorClass)
+                .build();
+
+        verificationMetrics.recordShadowComparison(shadowModel, shadowDetail,
+                !shadowSucceeded ? "error" : agreed ? "agree" : "disagree", shadowLatencyMs);
+        log.info("섀도 검증 비교: markerId={}, 운영={}({}ms), 섀도 {}={}({}ms)", markerId,
+                primary.getVerificationResult(), primaryModelLatencyMs, shadowModel,
+                comparison.getShadowResult(), shadowLatencyMs);
+        return shadowVerificationResultRepository.save(comparison);
+    }
+
+    /**
+     * 섀도 검증용으로 Chat Completions API를 한 번 호출합니다.
+     * 회로가 닫혀 있을 때만 호출하며, 결과를 회로 상태나 단계별 지표에 반영하지 않아 운영 호출에 영향을 주지 않습니다.
+     * 
+     * @param payload 요청 본문
+     * @return API 응답
+     */
+    private ChatCompletionResponseDTO executeShadow(BodyInserter<?, ? super ClientHttpRequest> payload) {
+        if (openAiCircuitBreaker.getState() != OpenAiCircuitBreaker.State.CLOSED) {
+            throw new OpenAiUnavailableException("OpenAI 회로 차단기가 닫혀 있지 않아 섀도 검증을 건너뜁니다.");
+        }
+        return openAiWebClient.post()
+                .uri("/v1/chat/completions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload)
+                .retrieve()
+                .bodyToMono(ChatCompletionResponseDTO.class)
+                .timeout(Duration.ofMillis(attemptTimeoutMs))
+                .block();
+    }
+
+    /**
+     * 섀도 전용 호출 한도(토큰 버킷)에서 호출 1회분을 꺼냅니다.
+     * 
+     * @return 한도 내이면 true
+     */
+    private boolean tryAcquireShadowPermit() {
+        synchronized (shadowBudgetLock) {
+            long now = System.nanoTime();
+            double refill = (now - shadowPermitsRefilledAt) / 60_000_000_000.0 * shadowMaxCallsPerMinute;
+            shadowPermits = Math.min(shadowMaxCallsPerMinute, shadowPermits + refill);
+            shadowPermitsRefilledAt = now;
+            if (shadowPermits < 1.0) {
+                return false;
+            }
+            shadowPermits -= 1.0;
+            return true;
         }
     }
 
+    /**
+     * 재시도 대상이 되는 일시적 장애인지 판단합니다.
+     *
+     * @param error 발생한 예외
+     * @return 5xx, 429, 네트워크 오류, 타임아웃이면 true
+     */
+    private boolean isTransientFailure(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || responseException.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof IOException;
+    }
+
     /**
      * 이미지 메타데이터를 분석합니다.
      */
@@ -460,102 +1066,153 @@ public class GptVerificationService {
 
     /**
      * GPT API 응답을 파싱하여 검증 결과를 생성합니다.
+     * message.content를 {@link CleanupVerdictDTO}로 엄격하게 매핑하며,
+     * 거절/잘림/스키마 위반 등 형식이 잘못된 응답은 추측하지 않고 일관되게 거부합니다.
      * 
      * @param gptResponse GPT API 응답
      * @return 파싱된 검증 결과
      */
-    private GptVerificationResponseDTO parseGptResponse(String gptResponse) {
+    private GptVerificationResponseDTO parseGptResponse(ChatCompletionResponseDTO gptResponse) {
+        Timer.Sample parseSample = verificationMetrics.start();
+        GptVerificationResponseDTO result = readVerdict(gptResponse);
+        verificationMetrics.stopStage(parseSample, VerificationMetrics.Stage.PARSE, result.isSuccess());
+        return result;
+    }
+
+    private GptVerificationResponseDTO readVerdict(ChatCompletionResponseDTO gptResponse) {
         try {
-            // 더 정확한 JSON 파싱
-            String verificationResult = extractVerificationResult(gptResponse);
-            Double confidence = extractConfidence(gptResponse);
-            
-            return GptVerificationResponseDTO.builder()
-                    .success(true)
-                    .verificationResult(verificationResult)
-                    .gptResponse(gptResponse)
-                    .confidence(confidence)
-                    .verifiedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-                    .build();
+            ChatCompletionResponseDTO.Message message = extractMessage(gptResponse);
+            CleanupVerdictDTO verdict = verdictReader().readValue(message.content());
+            return toResult(verdict, message.content(), gptResponse.usage(), 1);
 
         } catch (Exception e) {
             log.error("GPT 응답 파싱 중 오류 발생", e);
-            return GptVerificationResponseDTO.builder()
-                    .success(false)
-                    .verificationResult("REJECTED")
-                    .errorMessage("응답 파싱 실패: " + e.getMessage())
-                    .verifiedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-                    .build();
+            return parseFailure(e);
         }
     }
 
     /**
-     * GPT 응답에서 검증 결과를 추출합니다.
-     * 
-     * @param gptResponse GPT API 응답
-     * @return 추출된 검증 결과
+     * 응답의 토큰 사용량을 지표로 기록합니다.
      */
-    private String extractVerificationResult(String gptResponse) {
-        String response = gptResponse.toLowerCase();
-        
-        // 더 정확한 패턴 매칭
-        if (response.contains("\"verification_result\": \"approved\"") || 
-            response.contains("verification_result\": \"approved") ||
-            response.contains("verification_result\":approved") ||
-            response.contains("approved")) {
-            return "APPROVED";
-        } else if (response.contains("\"verification_result\": \"rejected\"") || 
-                   response.contains("verification_result\": \"rejected") ||
-                   response.contains("verification_result\":rejected") ||
-                   response.contains("rejected")) {
-            return "REJECTED";
+    private void recordUsage(ChatCompletionResponseDTO response, String model) {
+        verificationMetrics.recordUsage(response, model);
+        if (response != null && response.usage() != null) {
+            log.debug("GPT Vision 토큰 사용량: 입력 {}, 출력 {}",
+                    response.usage().promptTokens(), response.usage().completionTokens());
         }
-        
-        // 파싱 실패 시 기본값: REJECTED (안전 우선)
-        log.warn("검증 결과를 추출할 수 없어 기본값(REJECTED) 반환");
-        return "REJECTED";
     }
 
     /**
-     * GPT 응답에서 신뢰도를 추출합니다.
+     * 판정을 검증 결과로 변환합니다.
+     * 
+     * @param verdict 판정
+     * @param gptResponse 모델 원문 응답
+     * @param usage 토큰 사용량 (없으면 null)
+     * @param share 한 요청에 담긴 판정 수 (배치 요청이면 토큰을 균등하게 나눔)
+     * @return 검증 결과
+     */
+    private GptVerificationResponseDTO toResult(CleanupVerdictDTO verdict, String gptResponse,
+                                                ChatCompletionResponseDTO.Usage usage, int share) {
+        return GptVerificationResponseDTO.builder()
+                .success(true)
+                .verificationResult(verdict.verificationResult().name())
+                .gptResponse(gptResponse)
+                .confidence(verdict.confidence())
+                .reason(verdict.reason())
+                .promptTokens(usage != null ? usage.promptTokens() / share : null)
+                .completionTokens(usage != null ? usage.completionTokens() / share : null)
+                .verifiedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .build();
+    }
+
+    private GptVerificationResponseDTO parseFailure(Exception e) {
+        return GptVerificationResponseDTO.builder()
+                .success(false)
+                .verificationResult("REJECTED")
+                .errorMessage("응답 파싱 실패: " + e.getMessage())
+                .errorClass(e.getClass().getSimpleName())
+                .verifiedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .build();
+    }
+
+    /**
+     * 응답에서 판정이 담긴 메시지를 꺼냅니다.
      * 
      * @param gptResponse GPT API 응답
-     * @return 추출된 신뢰도 (0.0 ~ 1.0)
+     * @return 첫 번째 응답 메시지
+     * @throws IllegalArgumentException 응답이 비었거나, 모델이 거절했거나, 출력이 잘린 경우
      */
-    private Double extractConfidence(String gptResponse) {
-        try {
-            // "confidence": 0.8 형태에서 숫자 추출
-            int confidenceIndex = gptResponse.toLowerCase().indexOf("\"confidence\":");
-            if (confidenceIndex != -1) {
-                String confidencePart = gptResponse.substring(confidenceIndex);
-                int startIndex = confidencePart.indexOf(":");
-                int endIndex = confidencePart.indexOf(",");
-                if (endIndex == -1) endIndex = confidencePart.indexOf("}");
-                
-                if (startIndex != -1 && endIndex != -1) {
-                    String confidenceStr = confidencePart.substring(startIndex + 1, endIndex).trim();
-                    double confidence = Double.parseDouble(confidenceStr);
-                    
-                    // 신뢰도 범위 검증 (0.0 ~ 1.0)
-                    if (confidence >= 0.0 && confidence <= 1.0) {
-                        return confidence;
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.warn("신뢰도 추출 실패, 기본값 사용", e);
+    private ChatCompletionResponseDTO.Message extractMessage(ChatCompletionResponseDTO gptResponse) {
+        if (gptResponse == null || gptResponse.choices() == null || gptResponse.choices().isEmpty()) {
+            throw new IllegalArgumentException("응답에 choices가 없습니다.");
         }
         
-        // 기본값 반환
-        return 0.5;
+        ChatCompletionResponseDTO.Choice choice = gptResponse.choices().get(0);
+        ChatCompletionResponseDTO.Message message = choice.message();
+        if (message == null) {
+            throw new IllegalArgumentException("응답에 message가 없습니다.");
+        }
+        if (message.refusal() != null) {
+            throw new IllegalArgumentException("모델이 응답을 거절했습니다: " + message.refusal());
+        }
+        if (!"stop".equals(choice.finishReason())) {
+            throw new IllegalArgumentException("응답이 정상 종료되지 않았습니다: finish_reason=" + choice.finishReason());
+        }
+        if (message.content() == null || message.content().isBlank()) {
+            throw new IllegalArgumentException("응답 본문이 비어 있습니다.");
+        }
+        return message;
     }
 
     /**
-     * 검증 성공 시 지급할 포인트를 반환합니다.
+     * 판정 JSON을 엄격하게 읽는 리더를 반환합니다.
+     * 알 수 없는 필드, 대소문자가 다른 결과 값, JSON 뒤에 이어지는 텍스트를 모두 오류로 처리합니다.
      * 
-     * @return 지급할 포인트
+     * @return 판정 DTO 리더
+     */
+    private ObjectReader verdictReader() {
+        return strictReader(CleanupVerdictDTO.class);
+    }
+
+    private ObjectReader batchVerdictReader() {
+        return strictReader(CleanupBatchVerdictDTO.class);
+    }
+
+    private ObjectReader strictReader(Class<?> type) {
+        return objectMapper.readerFor(type)
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                        DeserializationFeature.FAIL_ON_TRAILING_TOKENS,
+                        DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES);
+    }
+
+    /**
+     * 선택된 사진들의 원본 내용 해시를 계산합니다.
      */
-    public Integer getPointsReward() {
-        return pointsReward;
+    private List<String> contentHashes(List<VerificationImageSelector.SelectedImage> images) throws IOException {
+        List<String> hashes = new java.util.ArrayList<>(images.size());
+        for (VerificationImageSelector.SelectedImage image : images) {
+            hashes.add(imageValidationService.hashImageContent(image.photo().getImagePath()));
+        }
+        return hashes;
+    }
+
+    /**
+     * 검증 요청에 보낼 BEFORE/AFTER 파생 이미지 묶음과 인코딩 프로필
+     */
+    private record ImageSet(List<Path> before, List<Path> after, AdaptiveImageEncoder.Profile profile) {
+
+        /**
+         * 한 쪽이라도 2장 이상이면 멀티 이미지 요청
+         */
+        boolean isMultiImage() {
+            return before.size() > 1 || after.size() > 1;
+        }
+
+        /**
+         * 전송 순서(BEFORE 전체 → AFTER 전체)대로 이어 붙인 목록
+         */
+        List<Path> all() {
+            return java.util.stream.Stream.concat(before.stream(), after.stream()).toList();
+        }
     }
 }
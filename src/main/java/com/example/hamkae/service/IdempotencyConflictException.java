@@ -0,0 +1,16 @@
+package com.example.hamkae.service;
+
+/**
+ * 멱등성 키를 사용할 수 없을 때 발생하는 예외
+ * 같은 키의 요청이 아직 처리 중이거나, 같은 키로 내용이 다른 요청을 보낸 경우 발생하며 409 Conflict로 응답합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.IdempotencyRecord;
+import com.example.hamkae.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 멱등 실행 서비스
+ * 키를 먼저 별도 트랜잭션으로 처리 중(IN_PROGRESS) 상태로 등록해 같은 키의 동시 요청을 막고,
+ * 작업과 응답 저장은 한 트랜잭션으로 묶어 작업이 커밋되면 응답도 반드시 남도록 합니다.
+ * 작업이 실패하면 키를 지워 같은 키로 다시 시도할 수 있게 하고, 서버 중단으로 처리 중 상태에 남은 키는 일정 시간 후 다시 가져갑니다.
+ * 응답 저장과 키 삭제는 등록 시 기록한 처리 시작 일시(lockedAt)가 그대로일 때만 성공하므로,
+ * 처리가 오래 걸려 다른 요청이 키를 다시 가져간 경우 늦게 끝난 요청의 작업은 롤백됩니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    /**
+     * Idempotency-Key 헤더 최대 길이
+     */
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate requiresNewTransaction;
+
+    /**
+     * 저장된 응답 보관 시간 (시간)
+     */
+    @Value("${idempotency.ttl-hours:24}")
+    private Long ttlHours;
+
+    /**
+     * 처리 중 상태로 이 시간(초)보다 오래 남은 키는 중단된 요청으로 보고 다시 가져감
+     */
+    @Value("${idempotency.in-progress-timeout-seconds:60}")
+    private Long inProgressTimeoutSeconds;
+
+    public IdempotencyService(IdempotencyRecordRepository recordRepository, ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 작업을 멱등하게 실행합니다.
+     * 키가 없으면 그대로 실행하고, 이미 완료된 키면 작업을 실행하지 않고 저장된 응답을 반환합니다.
+     *
+     * @param userId 요청한 사용자 ID
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 멱등 처리 안 함)
+     * @param fingerprint 요청 내용 식별 문자열 (같은 키로 다른 요청을 보냈는지 확인)
+     * @param responseType 응답 타입 (저장된 응답 복원용)
+     * @param action 실제 작업 (트랜잭션 안에서 실행됨)
+     * @return 작업 결과와 재사용 여부
+     * @throws IdempotencyConflictException 같은 키의 요청이 처리 중이거나 요청 내용이 다른 경우
+     * @throws IllegalArgumentException 키가 너무 긴 경우
+     */
+    public <T> IdempotentResult<T> execute(Long userId, String idempotencyKey, String fingerprint,
+                                           Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Reservation reservation = reserve(userId, key, hash(fingerprint));
+        IdempotencyRecord record = reservation.record();
+        if (!reservation.owned()) {
+            log.info("멱등성 키 재요청, 저장된 응답 반환: userId={}, key={}", userId, key);
+            return new IdempotentResult<>(deserialize(record.getResponseBody(), responseType), true);
+        }
+
+        try {
+            T response = transaction.execute(status -> {
+                T value = action.get();
+                if (recordRepository.complete(record.getId(), reservation.lockedAt(), serialize(value)) == 0) {
+                    // 처리가 오래 걸려 다른 요청이 키를 다시 가져감, 작업을 롤백해 중복 실행을 막음
+                    throw new IdempotencyConflictException("같은 Idempotency-Key의 요청이 다시 처리되고 있어 이 요청을 취소했습니다.");
+                }
+                return value;
+            });
+            return new IdempotentResult<>(response, false);
+        } catch (RuntimeException e) {
+            // 작업이 롤백되었으므로 키를 지워 같은 키로 다시 시도할 수 있게 함 (다른 요청이 가져간 키는 남겨 둠)
+            requiresNewTransaction.executeWithoutResult(status ->
+                    recordRepository.release(record.getId(), reservation.lockedAt()));
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 멱등성 키를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}",
+               initialDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        Integer deleted = requiresNewTransaction.execute(status -> recordRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("만료된 멱등성 키 정리: {}건", deleted);
+        }
+    }
+
+    /**
+     * 키를 처리 중 상태로 등록하거나, 이미 있는 키의 상태를 확인합니다.
+     *
+     * @return 이 요청이 처리할 키(owned) 또는 저장된 응답이 있는 완료된 키
+     * @throws IdempotencyConflictException 같은 키의 요청이 처리 중이거나 요청 내용이 다른 경우
+     */
+    private Reservation reserve(Long userId, String key, String requestHash) {
+        // DB에 저장되는 정밀도(마이크로초)에 맞춰, 응답 저장/키 삭제 시 같은 값으로 비교할 수 있게 함
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime expiresAt = now.plusHours(ttlHours);
+        try {
+            return new Reservation(requiresNewTransaction.execute(status -> recordRepository.saveAndFlush(
+                    IdempotencyRecord.builder()
+                            .userId(userId)
+                            .idempotencyKey(key)
+                            .requestHash(requestHash)
+                            .status(IdempotencyRecord.Status.IN_PROGRESS)
+                            .lockedAt(now)
+                            .expiresAt(expiresAt)
+                            .build())), true, now);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키가 이미 있음
+        }
+
+        Reservation existing = requiresNewTransaction.execute(status -> {
+            IdempotencyRecord found = recordRepository.findByUserIdAndIdempotencyKey(userId, key).orElse(null);
+            if (found == null) {
+                return null;
+            }
+            if (recordRepository.reclaim(found.getId(), requestHash, now,
+                    now.minusSeconds(inProgressTimeoutSeconds), expiresAt) > 0) {
+                log.warn("만료되었거나 중단된 멱등성 키를 다시 사용: userId={}, key={}", userId, key);
+                return new Reservation(found, true, now);
+            }
+            return new Reservation(found, false, null);
+        });
+        if (existing == null) {
+            // 조회 직전에 실패한 요청이나 만료 정리가 키를 지운 경우
+            throw new IdempotencyConflictException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (existing.owned()) {
+            return existing;
+        }
+        if (!existing.record().getRequestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key로 내용이 다른 요청을 보낼 수 없습니다.");
+        }
+        if (existing.record().getStatus() != IdempotencyRecord.Status.COMPLETED) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return existing;
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static String hash(String fingerprint) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 멱등 실행 결과
+     *
+     * @param response 응답
+     * @param replayed 작업을 실행하지 않고 저장된 응답을 반환했는지 여부
+     */
+    public record IdempotentResult<T>(T response, boolean replayed) {
+    }
+
+    /**
+     * 키 등록 결과
+     *
+     * @param record 멱등성 키
+     * @param owned 이 요청이 키를 등록(또는 다시 가져가)서 작업을 실행해야 하는지 여부
+     * @param lockedAt 이 요청이 기록한 처리 시작 일시 (owned일 때만 값이 있음)
+     */
+    private record Reservation(IdempotencyRecord record, boolean owned, LocalDateTime lockedAt) {
+    }
+}
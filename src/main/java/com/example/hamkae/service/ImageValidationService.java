@@ -7,13 +7,18 @@ import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
-import java.util.UUID;
+import java.util.HexFormat;
 
 /**
  * 이미지 품질 검증 및 전처리를 위한 서비스 클래스
@@ -34,6 +39,9 @@ public class ImageValidationService {
     @Value("${app.upload.dir}")
     private String uploadDir;
 
+    // AI 검증 전송용 파생 이미지 디렉토리 (업로드 디렉토리 기준)
+    private static final String DERIVATIVE_DIR = ".derivatives";
+
     // 최소 이미지 해상도 (모바일 친화적)
     private static final int MIN_WIDTH = 320;
     private static final int MIN_HEIGHT = 240;
@@ -213,6 +221,7 @@ public class ImageValidationService {
     /**
      * 이미지를 Base64로 인코딩합니다.
      * GPT Vision API에 전달하기 위해 사용됩니다.
+     * 검증 요청은 {@link #resolveDerivativePath(String)}의 파일을 직접 스트리밍하므로, 이 메서드는 문자열이 꼭 필요한 경우에만 사용합니다.
      * 
      * @param imagePath 이미지 파일 경로
      * @return Base64로 인코딩된 이미지 문자열
@@ -220,32 +229,8 @@ public class ImageValidationService {
      */
     public String encodeImageToBase64(String imagePath) throws IOException {
         try {
-            // 파일 경로에서 실제 파일 읽기
-            // imagePath는 "/images/2025/08/17/filename.jpg" 형태
-            // 실제 파일은 환경 변수로 설정된 경로에 저장됨
-            String relativePath = imagePath.replace("/images/", "");
-            Path fullPath = Paths.get(uploadDir, relativePath);
-            File file = fullPath.toFile();
-            
-            if (!file.exists()) {
-                log.warn("이미지 파일을 찾을 수 없습니다: {}", fullPath);
-                throw new IOException("이미지 파일을 찾을 수 없습니다: " + imagePath);
-            }
-
-            // 이미지 압축 및 최적화
-            BufferedImage originalImage = ImageIO.read(file);
-            if (originalImage == null) {
-                throw new IOException("이미지를 읽을 수 없습니다: " + imagePath);
-            }
-            
-            // 색상 공간을 RGB로 강제 변환
-            BufferedImage rgbImage = convertToRGB(originalImage);
-            
-            // 이미지 크기 조정 (최대 800x600으로 제한)
-            BufferedImage resizedImage = resizeImage(rgbImage, 800, 600);
-            
-            // 압축된 이미지를 Base64로 인코딩
-            String base64Image = encodeBufferedImageToBase64(resizedImage, "jpg", 0.7f);
+            Path derivativePath = resolveDerivativePath(imagePath);
+            String base64Image = Base64.getEncoder().encodeToString(Files.readAllBytes(derivativePath));
             
             log.debug("이미지 Base64 인코딩 완료: {} -> {} bytes (압축됨)", imagePath, base64Image.length());
             return base64Image;
@@ -256,6 +241,128 @@ public class ImageValidationService {
         }
     }
 
+    /**
+     * AI 검증 전송용 축소 이미지(파생 파일)의 경로를 반환합니다.
+     * 원본을 RGB로 변환하고 최대 800x600, JPEG 품질 0.7로 줄인 파일을 업로드 디렉토리의 .derivatives 아래에 한 번만 만들어 두며,
+     * 이후 요청은 원본 디코딩 없이 이 파일을 그대로 읽습니다.
+     * 
+     * @param imagePath 이미지 접근 경로 (예: /images/2025/08/17/filename.jpg)
+     * @return 파생 파일 경로
+     * @throws IOException 원본 읽기 또는 파생 파일 생성 실패 시
+     */
+    public Path resolveDerivativePath(String imagePath) throws IOException {
+        return createDerivative(imagePath, Paths.get(uploadDir, DERIVATIVE_DIR), resolveImagePath(imagePath), 800, 600, 0.7f);
+    }
+
+    /**
+     * 지정한 크기/품질의 AI 검증 전송용 파생 파일 경로를 반환합니다.
+     * 변형마다 .derivatives/{variant} 아래에 한 번만 만들어 두며, 기본 파생 파일(최대 800x600, 품질 0.7)보다 작고
+     * 품질이 같거나 낮은 변형은 원본 대신 기본 파생 파일을 줄여 만들어 큰 원본을 다시 디코딩하지 않습니다.
+     * 
+     * @param imagePath 이미지 접근 경로 (예: /images/2025/08/17/filename.jpg)
+     * @param variant 변형 디렉토리 이름 (예: 512q60)
+     * @param maxWidth 최대 너비
+     * @param maxHeight 최대 높이
+     * @param quality JPEG 품질 (0.0 ~ 1.0)
+     * @return 파생 파일 경로
+     * @throws IOException 원본 읽기 또는 파생 파일 생성 실패 시
+     */
+    public Path resolveDerivativePath(String imagePath, String variant, int maxWidth, int maxHeight, float quality) throws IOException {
+        boolean fromStandard = maxWidth <= 800 && maxHeight <= 600 && quality <= 0.7f;
+        Path sourcePath = fromStandard ? resolveDerivativePath(imagePath) : resolveImagePath(imagePath);
+        return createDerivative(imagePath, Paths.get(uploadDir, DERIVATIVE_DIR, variant), sourcePath, maxWidth, maxHeight, quality);
+    }
+
+    private Path createDerivative(String imagePath, Path derivativeRoot, Path sourcePath,
+                                  int maxWidth, int maxHeight, float quality) throws IOException {
+        String relativePath = imagePath.replace("/images/", "");
+        Path derivativePath = derivativeRoot.resolve(relativePath + ".jpg");
+        if (Files.exists(derivativePath)) {
+            return derivativePath;
+        }
+
+        if (!Files.exists(sourcePath)) {
+            log.warn("이미지 파일을 찾을 수 없습니다: {}", sourcePath);
+            throw new IOException("이미지 파일을 찾을 수 없습니다: " + imagePath);
+        }
+
+        // 이미지 압축 및 최적화
+        BufferedImage originalImage = ImageIO.read(sourcePath.toFile());
+        if (originalImage == null) {
+            throw new IOException("이미지를 읽을 수 없습니다: " + imagePath);
+        }
+        
+        // 색상 공간을 RGB로 강제 변환
+        BufferedImage rgbImage = convertToRGB(originalImage);
+        
+        // 이미지 크기 조정 (최대 크기 제한)
+        BufferedImage resizedImage = resizeImage(rgbImage, maxWidth, maxHeight);
+
+        // 임시 파일에 쓴 뒤 이동하여, 동시에 생성하더라도 다른 요청이 쓰다 만 파일을 읽지 않도록 함
+        Files.createDirectories(derivativePath.getParent());
+        Path tempPath = Files.createTempFile(derivativePath.getParent(), "derivative-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempPath)) {
+                writeJpeg(resizedImage, out, quality);
+            }
+            try {
+                Files.move(tempPath, derivativePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, derivativePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+
+        log.debug("AI 검증용 파생 이미지 생성: {} -> {} ({}x{}, q{}, {} bytes)",
+                imagePath, derivativePath, maxWidth, maxHeight, quality, Files.size(derivativePath));
+        return derivativePath;
+    }
+
+    /**
+     * 저장된 이미지 파일 내용의 SHA-256 해시를 계산합니다.
+     * 파일을 스트리밍으로 읽으므로 전체 내용을 메모리에 올리지 않습니다.
+     * 
+     * @param imagePath 이미지 접근 경로 (예: /images/2025/08/17/filename.jpg)
+     * @return 16진수 해시 문자열 (64자)
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public String hashImageContent(String imagePath) throws IOException {
+        Path fullPath = resolveImagePath(imagePath);
+        if (!Files.exists(fullPath)) {
+            throw new IOException("이미지 파일을 찾을 수 없습니다: " + imagePath);
+        }
+
+        MessageDigest digest = newSha256();
+        try (InputStream in = Files.newInputStream(fullPath)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 이미지 접근 경로를 실제 저장 경로로 변환합니다.
+     * 
+     * @param imagePath 이미지 접근 경로 (예: /images/2025/08/17/filename.jpg)
+     * @return 업로드 디렉토리 기준 실제 파일 경로
+     */
+    public Path resolveImagePath(String imagePath) {
+        String relativePath = imagePath.replace("/images/", "");
+        return Paths.get(uploadDir, relativePath);
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
     /**
      * 이미지 색상 공간을 RGB로 변환합니다.
      * 
@@ -318,37 +425,26 @@ public class ImageValidationService {
     }
 
     /**
-     * BufferedImage를 Base64로 인코딩합니다.
+     * BufferedImage를 JPEG로 인코딩하여 스트림에 씁니다.
      * 
      * @param image 인코딩할 이미지
-     * @param format 이미지 형식 (jpg, png 등)
+     * @param out 출력 스트림
      * @param quality 품질 (0.0 ~ 1.0)
-     * @return Base64로 인코딩된 이미지 문자열
      * @throws IOException 인코딩 실패 시
      */
-    private String encodeBufferedImageToBase64(BufferedImage image, String format, float quality) throws IOException {
-        try (java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream()) {
-            // JPEG 품질 설정
-            if ("jpg".equalsIgnoreCase(format) || "jpeg".equalsIgnoreCase(format)) {
-                javax.imageio.ImageWriteParam param = ImageIO.getImageWritersByFormatName("jpeg").next().getDefaultWriteParam();
-                if (param.canWriteCompressed()) {
-                    param.setCompressionMode(javax.imageio.ImageWriteParam.MODE_EXPLICIT);
-                    param.setCompressionQuality(quality);
-                }
-                
-                javax.imageio.ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
-                javax.imageio.stream.ImageOutputStream ios = ImageIO.createImageOutputStream(baos);
-                writer.setOutput(ios);
-                writer.write(null, new javax.imageio.IIOImage(image, null, null), param);
-                writer.dispose();
-                ios.close();
-            } else {
-                // PNG 등 다른 형식
-                ImageIO.write(image, format, baos);
-            }
-            
-            byte[] imageBytes = baos.toByteArray();
-            return Base64.getEncoder().encodeToString(imageBytes);
+    private void writeJpeg(BufferedImage image, OutputStream out, float quality) throws IOException {
+        javax.imageio.ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        javax.imageio.ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(javax.imageio.ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+        }
+
+        try (javax.imageio.stream.ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new javax.imageio.IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
         }
     }
 
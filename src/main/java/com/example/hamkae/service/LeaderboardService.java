@@ -0,0 +1,351 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.PointHistory;
+import com.example.hamkae.domain.User;
+import com.example.hamkae.event.PointsChangedEvent;
+import com.example.hamkae.repository.PointHistoryRepository;
+import com.example.hamkae.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포인트 리더보드 서비스
+ * 전체 기간(현재 보유 포인트)과 주간(이번 주 월요일 0시 이후 적립 포인트) 순위를 메모리의 순위 스킵 리스트로 유지하여,
+ * 상위 K명과 내 순위를 데이터베이스 정렬 없이 O(log n)에 조회합니다.
+ * 시작 시 사용자 잔액과 원장으로 재구성하고, 이후에는 원장 기록 커밋 후 발행되는 {@link PointsChangedEvent}로 갱신합니다.
+ * 커밋 후 이벤트는 순서가 보장되지 않으므로, 전체 기간은 더 나중 원장 순번의 잔액으로만 덮어쓰고,
+ * 주간은 재구성에 포함된 원장 순번 이후의 적립을 순번별로 한 번씩만 더합니다.
+ * 이벤트는 이 서버에서 커밋된 변동만 전달되므로, 여러 서버로 운영하면 다른 서버의 변동은 주기적 재구성으로 반영됩니다.
+ * 재구성은 잠금 없이 새 순위 구조를 만든 뒤 짧은 잠금 안에서 교체하므로, 재구성 중에도 조회와 이벤트 반영이 막히지 않습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    /**
+     * 재구성 시 한 번에 읽는 사용자 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Board allTime = new Board();
+    private Board weekly = new Board();
+    private volatile LocalDateTime weekStart = currentWeekStart();
+
+    /**
+     * 재구성 중 도착한 이벤트 (재구성 중이 아니면 null, 교체 직후 새 순위 구조에 다시 반영)
+     */
+    private List<PointsChangedEvent> pendingEvents;
+
+    /**
+     * 리더보드 집계 기간
+     */
+    public enum Period {
+        ALL_TIME,   // 전체 기간 (현재 보유 포인트)
+        WEEKLY      // 이번 주 적립 포인트
+    }
+
+    /**
+     * 사용자 잔액과 이번 주 원장으로 리더보드를 재구성합니다.
+     * 데이터베이스를 읽는 동안에는 잠금 없이 새 순위 구조를 만들고, 그동안 도착한 이벤트는 기존 순위에 반영하면서 따로 모아 둡니다.
+     * 교체할 때만 쓰기 잠금을 잡고 모아 둔 이벤트를 새 순위 구조에 다시 반영하며,
+     * 조회에 이미 포함된 원장 순번의 이벤트는 순번 비교로 무시되므로 두 번 반영되지 않습니다.
+     * 시작 시 한 번 실행하고, 다른 서버의 변동과 놓친 이벤트를 반영하기 위해 주기적으로 다시 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${leaderboard.rebuild-interval-ms:600000}",
+               initialDelayString = "${leaderboard.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Board newAllTime = new Board();
+            long afterId = 0L;
+            List<UserRepository.ScoreRow> rows;
+            do {
+                rows = userRepository.findScoreRows(afterId, Limit.of(REBUILD_BATCH_SIZE));
+                for (UserRepository.ScoreRow row : rows) {
+                    newAllTime.set(row.getUserId(), longValue(row.getScore()), longValue(row.getSequence()));
+                    afterId = row.getUserId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+
+            Board newWeekly = new Board();
+            LocalDateTime newWeekStart = currentWeekStart();
+            for (UserRepository.ScoreRow row : pointHistoryRepository.sumEarnedPointsByUserSince(newWeekStart)) {
+                newWeekly.set(row.getUserId(), longValue(row.getScore()), longValue(row.getSequence()));
+            }
+
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                replayed = pendingEvents.size();
+                for (PointsChangedEvent event : pendingEvents) {
+                    apply(newAllTime, newWeekly, newWeekStart, event);
+                }
+                allTime = newAllTime;
+                weekly = newWeekly;
+                weekStart = newWeekStart;
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("리더보드 재구성 완료: 전체 {}명, 주간 {}명, 재구성 중 이벤트 {}건, {}ms",
+                    newAllTime.ranking.size(), newWeekly.ranking.size(), replayed, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("리더보드 재구성 실패", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 원장 기록이 커밋되면 리더보드에 반영합니다.
+     * 전체 기간은 변동 직후 잔액으로 덮어쓰고, 주간은 이번 주 적립분만 더합니다.
+     * 같은 사용자의 이벤트가 원장 순번과 다른 순서로 도착해도 결과가 같습니다.
+     *
+     * @param event 포인트 변동 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPointsChanged(PointsChangedEvent event) {
+        ensureCurrentWeek();
+        lock.writeLock().lock();
+        try {
+            apply(allTime, weekly, weekStart, event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 포인트 변동 하나를 순위 구조에 반영합니다. (쓰기 잠금 안에서 호출)
+     */
+    private static void apply(Board allTime, Board weekly, LocalDateTime weekStart, PointsChangedEvent event) {
+        long sequence = event.getLedgerSequence() != null ? event.getLedgerSequence() : 0L;
+        allTime.set(event.getUserId(), event.getBalance(), sequence);
+        if (event.getType() == PointHistory.PointType.EARNED
+                && (event.getOccurredAt() == null || !event.getOccurredAt().isBefore(weekStart))) {
+            weekly.add(event.getUserId(), event.getPoints(), sequence);
+        }
+    }
+
+    /**
+     * 상위 K명을 조회합니다. 점수가 같으면 같은 순위를 부여합니다.
+     *
+     * @param period 집계 기간
+     * @param limit 조회할 인원 수
+     * @return 순위 목록 (순위 오름차순)
+     */
+    public List<LeaderboardEntry> getTop(Period period, int limit) {
+        ensureCurrentWeek();
+        List<long[]> top;
+        lock.readLock().lock();
+        try {
+            top = board(period).ranking.top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(top.stream().map(entry -> entry[1]).toList())) {
+            names.put(user.getId(), user.getName());
+        }
+        List<LeaderboardEntry> result = new ArrayList<>(top.size());
+        int rank = 0;
+        long previousScore = Long.MIN_VALUE;
+        for (int i = 0; i < top.size(); i++) {
+            long score = top.get(i)[0];
+            long userId = top.get(i)[1];
+            if (score != previousScore) {
+                rank = i + 1;
+                previousScore = score;
+            }
+            result.add(new LeaderboardEntry(rank, userId, names.get(userId), score));
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 순위를 조회합니다.
+     *
+     * @param period 집계 기간
+     * @param user 조회할 사용자
+     * @return 사용자의 순위 (점수가 없으면 순위는 null, 점수는 0)
+     */
+    public LeaderboardEntry getRank(Period period, User user) {
+        ensureCurrentWeek();
+        lock.readLock().lock();
+        try {
+            Board board = board(period);
+            Board.Entry entry = board.entries.get(user.getId());
+            if (entry == null || entry.score() <= 0) {
+                return new LeaderboardEntry(null, user.getId(), user.getName(), 0L);
+            }
+            int rank = board.ranking.countBefore(entry.score(), Long.MIN_VALUE) + 1;
+            return new LeaderboardEntry(rank, user.getId(), user.getName(), entry.score());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위에 오른 사용자 수를 조회합니다.
+     *
+     * @param period 집계 기간
+     * @return 점수가 있는 사용자 수
+     */
+    public int getRankedCount(Period period) {
+        ensureCurrentWeek();
+        lock.readLock().lock();
+        try {
+            return board(period).ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Board board(Period period) {
+        return period == Period.WEEKLY ? weekly : allTime;
+    }
+
+    /**
+     * 주가 바뀌었으면 주간 순위를 비웁니다.
+     */
+    private void ensureCurrentWeek() {
+        LocalDateTime current = currentWeekStart();
+        if (current.equals(weekStart)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!current.equals(weekStart)) {
+                log.info("주간 리더보드 초기화: {} -> {}", weekStart, current);
+                weekly.clear();
+                weekStart = current;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static LocalDateTime currentWeekStart() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+    }
+
+    private static long longValue(Number number) {
+        return number != null ? number.longValue() : 0L;
+    }
+
+    /**
+     * 리더보드 순위 항목
+     *
+     * @param rank 순위 (1부터, 동점은 같은 순위, 순위가 없으면 null)
+     * @param userId 사용자 ID
+     * @param name 사용자 이름
+     * @param score 점수
+     */
+    public record LeaderboardEntry(Integer rank, Long userId, String name, long score) {
+    }
+
+    /**
+     * 한 기간의 순위 구조
+     * 사용자별 점수와 기준 원장 순번을 함께 보관하며, 점수가 0 이하인 사용자는 순번만 남기고 순위에서 뺍니다.
+     * 기준 순번은 덮어쓰기({@link #set})에서는 마지막으로 반영한 순번, 증분({@link #add})에서는 재구성에 포함된 마지막 순번입니다.
+     */
+    private static final class Board {
+
+        private final RankedSkipList ranking = new RankedSkipList();
+        private final Map<Long, Entry> entries = new HashMap<>();
+
+        /**
+         * 재구성 이후 증분으로 반영한 원장 순번 (사용자별, 재구성/초기화 시 비움)
+         */
+        private final Map<Long, Set<Long>> appliedSequences = new HashMap<>();
+
+        /**
+         * 점수를 덮어씁니다. 이미 더 나중 원장 순번이 반영되어 있으면 무시합니다.
+         */
+        void set(long userId, long score, long sequence) {
+            Entry current = entries.get(userId);
+            if (current != null && current.sequence() > sequence) {
+                return;
+            }
+            place(userId, current, new Entry(score, sequence));
+        }
+
+        /**
+         * 점수에 증분을 더합니다.
+         * 재구성에 포함된 원장 순번 이하이거나 이미 더한 순번이면 무시하고, 그 밖의 순번은 도착 순서와 관계없이 한 번씩 더합니다.
+         */
+        void add(long userId, long delta, long sequence) {
+            Entry current = entries.get(userId);
+            long rebuiltThrough = current != null ? current.sequence() : 0L;
+            if (sequence <= rebuiltThrough
+                    || !appliedSequences.computeIfAbsent(userId, id -> new HashSet<>()).add(sequence)) {
+                return;
+            }
+            place(userId, current, new Entry((current != null ? current.score() : 0L) + delta, rebuiltThrough));
+        }
+
+        void clear() {
+            ranking.clear();
+            entries.clear();
+            appliedSequences.clear();
+        }
+
+        private void place(long userId, Entry current, Entry next) {
+            if (current != null && current.score() > 0) {
+                ranking.delete(current.score(), userId);
+            }
+            if (next.score() > 0) {
+                ranking.insert(next.score(), userId);
+            }
+            entries.put(userId, next);
+        }
+
+        private record Entry(long score, long sequence) {
+        }
+    }
+}
@@ -5,15 +5,22 @@ import com.example.hamkae.domain.Photo;
 import com.example.hamkae.domain.User;
 import com.example.hamkae.DTO.MarkerRequestDTO;
 import com.example.hamkae.DTO.MarkerResponseDTO;
+import com.example.hamkae.event.MarkerDeletedEvent;
+import com.example.hamkae.event.MarkerRegisteredEvent;
+import com.example.hamkae.event.PhotoUploadedEvent;
 import com.example.hamkae.repository.MarkerRepository;
 import com.example.hamkae.repository.PhotoRepository;
 import com.example.hamkae.repository.UserRepository;
+import com.example.hamkae.repository.VerificationAttemptRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 
@@ -32,8 +39,9 @@ public class MarkerService {
 
     private final MarkerRepository markerRepository;
     private final UserRepository userRepository;
-    private final FileUploadService fileUploadService;
     private final PhotoRepository photoRepository;
+    private final VerificationAttemptRepository verificationAttemptRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 마커를 등록합니다.
@@ -56,6 +64,7 @@ public class MarkerService {
                 .build();
 
         Marker savedMarker = markerRepository.save(marker);
+        eventPublisher.publishEvent(new MarkerRegisteredEvent(savedMarker.getId(), userId));
         return savedMarker.getId();
     }
 
@@ -94,6 +103,7 @@ public class MarkerService {
         // 마커에 사진 추가 (양방향 관계 설정)
         marker.addPhoto(photo);
         markerRepository.save(marker);
+        eventPublisher.publishEvent(new PhotoUploadedEvent(markerId, userId, type.name()));
 
         return photo.getId();
     }
@@ -138,7 +148,7 @@ public class MarkerService {
 
     /**
      * 마커를 완전히 삭제합니다 (제보자만 가능).
-     * 마커와 연결된 모든 사진의 로컬 파일도 함께 삭제됩니다.
+     * 마커와 연결된 사진과 검증 시도 기록도 함께 삭제되며, 사진의 로컬 파일은 커밋 후 삭제됩니다.
      * 
      * @param markerId 삭제할 마커 ID
      * @param userId 삭제를 요청한 사용자 ID
@@ -154,22 +164,23 @@ public class MarkerService {
         }
 
         try {
-            // 연결된 사진들의 로컬 파일 삭제
-            List<String> deletedFiles = new ArrayList<>();
+            // 사진 파일은 삭제가 커밋된 뒤 지움 (롤백되면 파일이 남아 있어야 함)
+            List<String> imagePaths = new ArrayList<>();
+            Set<Long> affectedUserIds = new HashSet<>();
+            affectedUserIds.add(userId);
             for (Photo photo : marker.getPhotos()) {
-                String imagePath = photo.getImagePath();
-                if (fileUploadService.deleteImage(imagePath)) {
-                    deletedFiles.add(imagePath);
-                    log.info("사진 파일 삭제 완료: {}", imagePath);
-                } else {
-                    log.warn("사진 파일 삭제 실패: {}", imagePath);
-                }
+                affectedUserIds.add(photo.getUser().getId());
+                imagePaths.add(photo.getImagePath());
             }
 
+            // 검증 시도 기록은 마커를 참조하므로 먼저 삭제
+            int deletedAttempts = verificationAttemptRepository.deleteByMarkerId(markerId);
+
             // 마커와 연결된 모든 사진 삭제 (CASCADE로 자동 삭제됨)
             markerRepository.delete(marker);
+            eventPublisher.publishEvent(new MarkerDeletedEvent(markerId, affectedUserIds, imagePaths));
             
-            log.info("마커 완전 삭제 완료: ID={}, 삭제된 사진 파일 수={}", markerId, deletedFiles.size());
+            log.info("마커 완전 삭제 완료: ID={}, 사진 수={}, 검증 시도 기록 수={}", markerId, imagePaths.size(), deletedAttempts);
             
         } catch (Exception e) {
             log.error("마커 삭제 중 오류 발생: markerId={}", markerId, e);
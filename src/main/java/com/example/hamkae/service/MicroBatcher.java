@@ -0,0 +1,134 @@
+package com.example.hamkae.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 구간 동안 들어온 요청을 모아 한 번에 처리하는 마이크로 배처
+ * 첫 요청이 들어온 뒤 window가 지나거나 maxSize개가 모이면 즉시 묶어서 처리하고,
+ * 결과를 요청 순서대로 각 호출자의 Future에 돌려줍니다.
+ *
+ * @param <I> 요청 타입
+ * @param <O> 결과 타입
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class MicroBatcher<I, O> implements AutoCloseable {
+
+    private final String name;
+    private final int maxSize;
+    private final Duration window;
+    private final Function<List<I>, List<O>> batchFunction;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService flushExecutor;
+
+    private final Object lock = new Object();
+    private List<Pending<I, O>> pending = new ArrayList<>();
+    private ScheduledFuture<?> windowTimer;
+
+    /**
+     * @param name 배처 이름 (스레드 이름과 로그에 사용)
+     * @param maxSize 한 번에 처리할 최대 요청 수
+     * @param window 첫 요청 이후 최대 대기 시간
+     * @param batchFunction 요청 목록을 받아 같은 순서의 결과 목록을 반환하는 함수 (블로킹 허용)
+     */
+    public MicroBatcher(String name, int maxSize, Duration window, Function<List<I>, List<O>> batchFunction) {
+        this.name = name;
+        this.maxSize = Math.max(1, maxSize);
+        this.window = window;
+        this.batchFunction = batchFunction;
+        this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name(name + "-timer").daemon().factory());
+        this.flushExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-flush-", 0).factory());
+    }
+
+    /**
+     * 요청을 다음 배치에 추가합니다.
+     *
+     * @param item 요청
+     * @return 배치 처리 후 완료되는 결과 Future
+     */
+    public CompletableFuture<O> submit(I item) {
+        Pending<I, O> request = new Pending<>(item, new CompletableFuture<>());
+        List<Pending<I, O>> ready = null;
+        synchronized (lock) {
+            pending.add(request);
+            if (pending.size() >= maxSize) {
+                ready = drain();
+            } else if (pending.size() == 1) {
+                windowTimer = timer.schedule(this::flushOnWindow, window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return request.future();
+    }
+
+    @Override
+    public void close() {
+        List<Pending<I, O>> remaining;
+        synchronized (lock) {
+            remaining = drain();
+        }
+        if (!remaining.isEmpty()) {
+            dispatch(remaining);
+        }
+        timer.shutdownNow();
+        flushExecutor.shutdown();
+    }
+
+    private void flushOnWindow() {
+        List<Pending<I, O>> ready;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ready = drain();
+        }
+        dispatch(ready);
+    }
+
+    private List<Pending<I, O>> drain() {
+        List<Pending<I, O>> drained = pending;
+        pending = new ArrayList<>();
+        if (windowTimer != null) {
+            windowTimer.cancel(false);
+            windowTimer = null;
+        }
+        return drained;
+    }
+
+    private void dispatch(List<Pending<I, O>> batch) {
+        flushExecutor.execute(() -> flush(batch));
+    }
+
+    private void flush(List<Pending<I, O>> batch) {
+        try {
+            log.debug("[{}] 배치 처리: {}건", name, batch.size());
+            List<O> results = batchFunction.apply(batch.stream().map(Pending::item).toList());
+            if (results.size() != batch.size()) {
+                throw new IllegalStateException("배치 결과 수가 요청 수와 다릅니다: " + results.size() + " != " + batch.size());
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (Throwable e) {
+            batch.forEach(request -> request.future().completeExceptionally(e));
+        }
+    }
+
+    private record Pending<I, O>(I item, CompletableFuture<O> future) {
+    }
+}
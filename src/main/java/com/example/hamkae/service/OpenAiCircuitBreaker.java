@@ -0,0 +1,106 @@
+package com.example.hamkae.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * OpenAI 호출을 위한 회로 차단기
+ * 일시적 장애(5xx, 429, 네트워크 오류)가 연속으로 발생하면 일정 시간 동안 호출을 차단하여
+ * 실패가 확실한 요청에 스레드를 낭비하지 않도록 합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class OpenAiCircuitBreaker {
+
+    /**
+     * 회로 차단기 상태
+     */
+    public enum State {
+        CLOSED,     // 정상 (호출 허용)
+        OPEN,       // 차단 (호출 거부)
+        HALF_OPEN   // 복구 확인 중 (단일 시험 호출만 허용)
+    }
+
+    /**
+     * 회로를 여는 연속 실패 횟수
+     */
+    @Value("${openai.api.circuit-breaker.failure-threshold:5}")
+    private Integer failureThreshold;
+
+    /**
+     * 회로가 열린 뒤 시험 호출을 허용하기까지의 대기 시간 (밀리초)
+     */
+    @Value("${openai.api.circuit-breaker.open-duration-ms:30000}")
+    private Long openDurationMs;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile long openedAt;
+
+    /**
+     * 호출 허용 여부를 확인합니다.
+     * OPEN 상태에서 대기 시간이 지나면 HALF_OPEN으로 전환하고 한 건의 시험 호출만 허용합니다.
+     *
+     * @return 호출 가능하면 true
+     */
+    public boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                return false;
+            }
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                log.info("OpenAI 회로 차단기 HALF_OPEN 전환: 시험 호출 허용");
+            }
+        }
+        return probeInFlight.compareAndSet(false, true);
+    }
+
+    /**
+     * 호출 성공(또는 서비스 가용성과 무관한 실패)을 기록합니다.
+     */
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        probeInFlight.set(false);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("OpenAI 회로 차단기 CLOSED 전환: 호출 정상화");
+        }
+    }
+
+    /**
+     * 일시적 장애로 인한 호출 실패를 기록합니다.
+     * 시험 호출이 실패하거나 연속 실패가 임계치에 도달하면 회로를 엽니다.
+     */
+    public void onFailure() {
+        probeInFlight.set(false);
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("OpenAI 회로 차단기 OPEN 전환: 연속 실패 {}회, {}ms 동안 호출 차단", failures, openDurationMs);
+            }
+        }
+    }
+
+    /**
+     * 현재 회로 상태를 반환합니다.
+     *
+     * @return 회로 상태
+     */
+    public State getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.hamkae.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * OpenAI Chat Completions 요청 본문을 스트리밍으로 작성하는 컴포넌트
+ * 이미지를 Base64 문자열로 만들지 않고, 파생 이미지 파일을 읽으면서 바로 Base64로 인코딩해
+ * WebClient가 제공하는 (풀링된) DataBuffer에 JSON과 함께 기록합니다.
+ * 요청 1건당 힙 사용량이 이미지 크기와 무관하게 버퍼 몇 개 수준으로 유지됩니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenAiRequestWriter {
+
+    /**
+     * DataBuffer 하나에 채울 최대 바이트 수
+     */
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * 파일 읽기(블로킹)를 이벤트 루프 밖에서 수행하기 위한 실행기
+     */
+    private static final Executor WRITER_EXECUTOR = task -> Schedulers.boundedElastic().schedule(task);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이미지 비교 검증 요청 본문을 생성합니다.
+     * 재시도 시마다 다시 구독되므로 파일을 처음부터 다시 읽어 전송합니다.
+     *
+     * @param model 모델명
+     * @param maxTokens 최대 출력 토큰 수
+     * @param responseFormat 응답 형식 (response_format 값)
+     * @param systemPrompt 시스템 프롬프트
+     * @param userText 사용자 메시지 텍스트
+     * @param images 전송할 이미지 파일 목록 (순서대로 전송)
+     * @param detail 이미지 해상도 수준 (low/high/auto)
+     * @return WebClient 요청 본문
+     */
+    public BodyInserter<Object, ClientHttpRequest> visionRequest(String model, int maxTokens, Object responseFormat,
+                                                                String systemPrompt, String userText,
+                                                                List<Path> images, String detail) {
+        return (request, context) -> request.writeWith(DataBufferUtils.outputStreamPublisher(
+                out -> writeVisionRequest(out, model, maxTokens, responseFormat, systemPrompt, userText, images, detail),
+                request.bufferFactory(), WRITER_EXECUTOR, CHUNK_SIZE));
+    }
+
+    private void writeVisionRequest(OutputStream out, String model, int maxTokens, Object responseFormat,
+                                    String systemPrompt, String userText, List<Path> images, String detail) {
+        try (JsonGenerator json = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("model", model);
+            json.writeNumberField("temperature", 0);
+            json.writeNumberField("max_tokens", maxTokens);
+            json.writeObjectField("response_format", responseFormat);
+
+            json.writeArrayFieldStart("messages");
+
+            json.writeStartObject();
+            json.writeStringField("role", "system");
+            json.writeStringField("content", systemPrompt);
+            json.writeEndObject();
+
+            json.writeStartObject();
+            json.writeStringField("role", "user");
+            json.writeArrayFieldStart("content");
+            json.writeStartObject();
+            json.writeStringField("type", "text");
+            json.writeStringField("text", userText);
+            json.writeEndObject();
+            for (Path image : images) {
+                json.writeStartObject();
+                json.writeStringField("type", "image_url");
+                json.writeObjectFieldStart("image_url");
+                json.writeFieldName("url");
+                writeDataUrl(json, out, image);
+                json.writeStringField("detail", detail);
+                json.writeEndObject();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+
+            json.writeEndArray();
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("OpenAI 요청 본문 작성 실패", e);
+        }
+    }
+
+    /**
+     * 이미지 파일을 data URL 문자열 값으로 기록합니다.
+     * Base64 문자는 JSON 이스케이프가 필요 없으므로 생성기를 거치지 않고 출력 스트림에 직접 씁니다.
+     */
+    private void writeDataUrl(JsonGenerator json, OutputStream out, Path image) throws IOException {
+        json.writeRawValue("\"data:image/jpeg;base64,");
+        json.flush();
+        try (InputStream in = Files.newInputStream(image);
+             OutputStream base64 = Base64.getEncoder().wrap(new NonClosingOutputStream(out))) {
+            in.transferTo(base64);
+        }
+        json.writeRaw('"');
+    }
+
+    /**
+     * Base64 인코더를 닫을 때(패딩 기록) 하위 스트림까지 닫히지 않도록 막는 래퍼
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
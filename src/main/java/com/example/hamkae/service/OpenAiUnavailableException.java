@@ -0,0 +1,20 @@
+package com.example.hamkae.service;
+
+/**
+ * OpenAI API를 일시적으로 사용할 수 없을 때 발생하는 예외
+ * 재시도 소진 또는 회로 차단 시 발생하며, 검증 결과를 거부가 아닌 재시도 대기(RETRY_LATER)로 처리하기 위해 사용됩니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class OpenAiUnavailableException extends RuntimeException {
+
+    public OpenAiUnavailableException(String message) {
+        super(message);
+    }
+
+    public OpenAiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
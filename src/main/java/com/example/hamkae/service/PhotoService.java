@@ -155,8 +155,10 @@ public class PhotoService {
         photoInfo.put("verification_status", photo.getVerificationStatus().name());
         photoInfo.put("created_at", photo.getCreatedAt());
         
-        if (photo.getGptResponse() != null) {
-            photoInfo.put("gpt_response", photo.getGptResponse());
+        if (photo.getVerificationAttemptId() != null) {
+            photoInfo.put("verification_confidence", photo.getVerificationConfidence());
+            photoInfo.put("verification_reason", photo.getVerificationReason());
+            photoInfo.put("verification_attempt_id", photo.getVerificationAttemptId());
         }
         
         return photoInfo;
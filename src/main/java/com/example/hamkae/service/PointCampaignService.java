@@ -0,0 +1,285 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.PointCampaignRequestDTO;
+import com.example.hamkae.domain.PointCampaign;
+import com.example.hamkae.event.PointCampaignStartedEvent;
+import com.example.hamkae.repository.PointCampaignGrantRepository;
+import com.example.hamkae.repository.PointCampaignRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 포인트 지급 캠페인 서비스
+ * 캠페인 실행은 두 단계로 나뉩니다.
+ * 1. 대상 선정: 기간/지역 조건의 승인된 청소 인증을 사용자별로 집계하는 INSERT ... SELECT 한 문장으로 지급 내역을 만듭니다.
+ * 2. 지급: 지급 대기 내역을 일정 건수씩 읽어, 한 트랜잭션에서 내역을 지급 완료로 바꾸고 {@link PointLedgerBatchWriter}로 원장에 기록하고 진행 상황을 더합니다.
+ * 묶음마다 커밋하므로 중간에 멈추면 지급 대기 내역만 남고, 다시 실행하거나 중단 감지 작업이 가져가면 그 지점부터 이어서 지급합니다.
+ * 엔티티는 캠페인 한 건만 읽으며, 사용자와 지급 내역은 프로젝션과 배치 SQL로만 다룹니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PointCampaignService {
+
+    private static final BigDecimal MIN_LAT = BigDecimal.valueOf(-90);
+    private static final BigDecimal MAX_LAT = BigDecimal.valueOf(90);
+    private static final BigDecimal MIN_LNG = BigDecimal.valueOf(-180);
+    private static final BigDecimal MAX_LNG = BigDecimal.valueOf(180);
+
+    private final PointCampaignRepository campaignRepository;
+    private final PointCampaignGrantRepository grantRepository;
+    private final PointLedgerBatchWriter pointLedgerBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 한 트랜잭션에서 지급하는 최대 인원
+     */
+    @Value("${points.campaign.chunk-size:500}")
+    private Integer chunkSize;
+
+    /**
+     * 실행 중 상태로 이 시간(초) 동안 진행 기록이 없으면 중단된 것으로 보고 다시 실행
+     */
+    @Value("${points.campaign.stale-timeout-seconds:600}")
+    private Long staleTimeoutSeconds;
+
+    public PointCampaignService(PointCampaignRepository campaignRepository,
+                                PointCampaignGrantRepository grantRepository,
+                                PointLedgerBatchWriter pointLedgerBatchWriter,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.campaignRepository = campaignRepository;
+        this.grantRepository = grantRepository;
+        this.pointLedgerBatchWriter = pointLedgerBatchWriter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 캠페인을 생성합니다. (실행 대기 상태)
+     *
+     * @param request 캠페인 생성 요청 정보
+     * @return 생성된 캠페인
+     * @throws IllegalArgumentException 기간, 지역 범위나 지급 포인트가 잘못된 경우
+     */
+    @Transactional
+    public PointCampaign createCampaign(PointCampaignRequestDTO request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("캠페인 이름을 입력해주세요.");
+        }
+        if (request.getPeriodStart() == null || request.getPeriodEnd() == null
+                || !request.getPeriodStart().isBefore(request.getPeriodEnd())) {
+            throw new IllegalArgumentException("캠페인 기간이 올바르지 않습니다.");
+        }
+        int pointsPerUser = request.getPointsPerUser() != null ? request.getPointsPerUser() : 0;
+        int pointsPerCleanup = request.getPointsPerCleanup() != null ? request.getPointsPerCleanup() : 0;
+        int bonusPercent = request.getBonusPercentOfEarned() != null ? request.getBonusPercentOfEarned() : 0;
+        if (pointsPerUser < 0 || pointsPerCleanup < 0 || bonusPercent < 0
+                || pointsPerUser + pointsPerCleanup + bonusPercent == 0) {
+            throw new IllegalArgumentException("지급 포인트는 0 이상이어야 하며, 하나 이상은 양수여야 합니다.");
+        }
+
+        PointCampaign campaign = PointCampaign.builder()
+                .name(request.getName().trim())
+                .periodStart(request.getPeriodStart())
+                .periodEnd(request.getPeriodEnd())
+                .minLat(request.getMinLat())
+                .maxLat(request.getMaxLat())
+                .minLng(request.getMinLng())
+                .maxLng(request.getMaxLng())
+                .addressKeyword(request.getAddressKeyword() != null && !request.getAddressKeyword().isBlank()
+                        ? request.getAddressKeyword().trim() : null)
+                .pointsPerUser(pointsPerUser)
+                .pointsPerCleanup(pointsPerCleanup)
+                .bonusPercentOfEarned(bonusPercent)
+                .status(PointCampaign.CampaignStatus.PENDING)
+                .grantedUsers(0)
+                .grantedPoints(0L)
+                .build();
+        boolean anyBound = campaign.getMinLat() != null || campaign.getMaxLat() != null
+                || campaign.getMinLng() != null || campaign.getMaxLng() != null;
+        if (anyBound && !campaign.hasBoundingBox()) {
+            throw new IllegalArgumentException("지역 범위는 위도/경도 최솟값과 최댓값을 모두 입력해야 합니다.");
+        }
+
+        PointCampaign saved = campaignRepository.save(campaign);
+        log.info("포인트 캠페인 생성: campaignId={}, 이름={}, 기간={} ~ {}",
+                saved.getId(), saved.getName(), saved.getPeriodStart(), saved.getPeriodEnd());
+        return saved;
+    }
+
+    /**
+     * 캠페인을 조회합니다.
+     *
+     * @param campaignId 캠페인 ID
+     * @return 캠페인
+     * @throws IllegalArgumentException 캠페인이 없는 경우
+     */
+    public PointCampaign getCampaign(Long campaignId) {
+        return campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalArgumentException("캠페인을 찾을 수 없습니다: " + campaignId));
+    }
+
+    /**
+     * 캠페인 실행을 시작합니다. 실패한 캠페인이면 남은 대상부터 이어서 지급합니다.
+     * 실행 권한을 가져간 뒤 커밋되면 백그라운드에서 실행됩니다.
+     *
+     * @param campaignId 캠페인 ID
+     * @throws IllegalArgumentException 캠페인이 없는 경우
+     * @throws IllegalStateException 이미 실행 중이거나 완료된 경우
+     */
+    @Transactional
+    public void start(Long campaignId) {
+        getCampaign(campaignId);
+        String runToken = claim(campaignId);
+        if (runToken == null) {
+            throw new IllegalStateException("이미 실행 중이거나 완료된 캠페인입니다.");
+        }
+        eventPublisher.publishEvent(new PointCampaignStartedEvent(campaignId, runToken));
+    }
+
+    /**
+     * 실행 중인 채로 진행 기록이 끊긴 캠페인을 가져와 이어서 실행합니다.
+     * 실행은 {@link #start}와 같이 커밋 후 백그라운드에서 하므로, 큰 캠페인도 다른 주기 작업을 막지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${points.campaign.resume-interval-ms:60000}",
+               initialDelayString = "${points.campaign.resume-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void resumeStalled() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(staleTimeoutSeconds);
+        for (Long campaignId : campaignRepository.findStalledIds(staleBefore)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                String runToken = claim(campaignId);
+                if (runToken != null) {
+                    log.warn("중단된 캠페인 이어서 실행: campaignId={}", campaignId);
+                    eventPublisher.publishEvent(new PointCampaignStartedEvent(campaignId, runToken));
+                }
+            });
+        }
+    }
+
+    /**
+     * 캠페인 대상 선정과 지급을 수행합니다. 실행 권한을 가진 실행에서만 호출합니다.
+     * 실패하면 캠페인을 실패 상태로 남기고, 이미 지급한 묶음은 유지됩니다.
+     *
+     * @param campaignId 캠페인 ID
+     * @param runToken 실행 토큰
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void run(Long campaignId, String runToken) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            PointCampaign campaign = getCampaign(campaignId);
+            if (campaign.getSelectedUsers() == null) {
+                selectEligibleUsers(campaign, runToken);
+            }
+
+            int chunks = 0;
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> grantChunk(campaign, runToken)))) {
+                chunks++;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (campaignRepository.complete(campaignId, runToken, LocalDateTime.now()) == 0) {
+                    throw new IllegalStateException("캠페인 실행 권한을 잃었습니다.");
+                }
+            });
+            PointCampaign completed = getCampaign(campaignId);
+            log.info("포인트 캠페인 완료: campaignId={}, 지급 {}명/{}pt, 이번 실행 {}묶음, {}ms",
+                    campaignId, completed.getGrantedUsers(), completed.getGrantedPoints(), chunks,
+                    System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            log.error("포인트 캠페인 실행 실패: campaignId={}", campaignId, e);
+            String error = e.getMessage() != null && e.getMessage().length() > 500
+                    ? e.getMessage().substring(0, 500) : e.getMessage();
+            transactionTemplate.executeWithoutResult(status ->
+                    campaignRepository.fail(campaignId, runToken, error, LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * 대상 사용자를 선정해 지급 내역을 만들고, 선정 결과를 같은 트랜잭션에 기록합니다.
+     */
+    private void selectEligibleUsers(PointCampaign campaign, String runToken) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            boolean bounded = campaign.hasBoundingBox();
+            int inserted = grantRepository.insertEligibleGrants(campaign.getId(),
+                    campaign.getPeriodStart(), campaign.getPeriodEnd(),
+                    bounded ? campaign.getMinLat() : MIN_LAT, bounded ? campaign.getMaxLat() : MAX_LAT,
+                    bounded ? campaign.getMinLng() : MIN_LNG, bounded ? campaign.getMaxLng() : MAX_LNG,
+                    campaign.getAddressKeyword() != null ? campaign.getAddressKeyword().trim() : "",
+                    campaign.getPointsPerUser(), campaign.getPointsPerCleanup(), campaign.getBonusPercentOfEarned(),
+                    now);
+            PointCampaignGrantRepository.GrantTotals totals = grantRepository.sumByCampaignId(campaign.getId());
+            if (campaignRepository.recordSelection(campaign.getId(), runToken, totals.getUsers().intValue(),
+                    totals.getPoints().longValue(), now) == 0) {
+                throw new IllegalStateException("캠페인 실행 권한을 잃었거나 이미 대상이 선정되었습니다.");
+            }
+            log.info("캠페인 대상 선정: campaignId={}, {}명, 지급 예정 {}pt",
+                    campaign.getId(), inserted, totals.getPoints());
+        });
+    }
+
+    /**
+     * 지급 대기 내역 한 묶음을 지급합니다.
+     *
+     * @return 지급할 내역이 있었으면 true
+     */
+    private boolean grantChunk(PointCampaign campaign, String runToken) {
+        List<PointCampaignGrantRepository.PendingGrant> pending =
+                grantRepository.findPendingGrants(campaign.getId(), Limit.of(Math.max(1, chunkSize)));
+        if (pending.isEmpty()) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(pending.size());
+        List<PointLedgerBatchWriter.PointGrant> grants = new ArrayList<>(pending.size());
+        for (PointCampaignGrantRepository.PendingGrant grant : pending) {
+            ids.add(grant.getId());
+            if (grant.getPoints() > 0) {
+                grants.add(new PointLedgerBatchWriter.PointGrant(grant.getUserId(), grant.getPoints()));
+            }
+        }
+        // 지급 대기 상태인 내역만 지급 완료로 바뀌므로, 겹친 실행이 있으면 여기서 롤백되어 같은 사용자에게 두 번 지급하지 않음
+        if (grantRepository.markGranted(ids, now) != ids.size()) {
+            throw new IllegalStateException("다른 실행이 같은 캠페인 내역을 지급했습니다.");
+        }
+        PointLedgerBatchWriter.BatchResult result = pointLedgerBatchWriter.earnAll(grants, campaign.getName());
+        if (campaignRepository.recordProgress(campaign.getId(), runToken, result.appliedGrants(),
+                result.totalPoints(), now) == 0) {
+            throw new IllegalStateException("캠페인 실행 권한을 잃었습니다.");
+        }
+        log.debug("캠페인 지급 묶음 완료: campaignId={}, {}명, {}pt",
+                campaign.getId(), result.appliedGrants(), result.totalPoints());
+        return true;
+    }
+
+    private String claim(Long campaignId) {
+        String runToken = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = campaignRepository.claim(campaignId, runToken, now, now.minusSeconds(staleTimeoutSeconds));
+        return claimed > 0 ? runToken : null;
+    }
+}
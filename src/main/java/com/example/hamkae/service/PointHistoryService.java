@@ -1,11 +1,13 @@
 package com.example.hamkae.service;
 
+import com.example.hamkae.DTO.CursorPageResponseDTO;
 import com.example.hamkae.domain.PointHistory;
-import com.example.hamkae.domain.Photo;
 import com.example.hamkae.domain.User;
 import com.example.hamkae.repository.PointHistoryRepository;
+import com.example.hamkae.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +16,7 @@ import java.util.List;
 
 /**
  * 포인트 이력 관련 비즈니스 로직을 처리하는 서비스 클래스
- * 포인트 적립, 사용, 조회 등의 기능을 제공합니다.
+ * 포인트 이력과 통계 조회 기능을 제공합니다. (적립/사용 기록은 {@link PointLedgerService})
  * 
  * @author 윤준하
  * @version 1.0
@@ -27,61 +29,27 @@ import java.util.List;
 public class PointHistoryService {
 
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerService pointLedgerService;
+    private final PointMonthlyRollupService monthlyRollupService;
 
     /**
-     * 포인트 적립 이력을 생성하고 저장합니다.
-     * 
-     * @param user 포인트를 적립할 사용자
-     * @param points 적립할 포인트 수량
-     * @param description 적립 사유
-     * @param relatedPhoto 관련 사진 (선택사항)
-     * @return 생성된 포인트 이력
-     */
-    @Transactional
-    public PointHistory createEarnedHistory(User user, Integer points, String description, Photo relatedPhoto) {
-        log.info("포인트 적립 이력 생성: 사용자={}, 포인트={}, 사유={}", user.getUsername(), points, description);
-        
-        PointHistory history = PointHistory.createEarnedHistory(user, points, description, relatedPhoto);
-        PointHistory savedHistory = pointHistoryRepository.save(history);
-        
-        // User 엔티티에도 이력 추가
-        user.addPointHistory(savedHistory);
-        
-        log.info("포인트 적립 이력 생성 완료: ID={}", savedHistory.getId());
-        return savedHistory;
-    }
-
-    /**
-     * 포인트 사용 이력을 생성하고 저장합니다.
-     * 
-     * @param user 포인트를 사용할 사용자
-     * @param points 사용할 포인트 수량
-     * @param description 사용 사유
-     * @return 생성된 포인트 이력
-     */
-    @Transactional
-    public PointHistory createUsedHistory(User user, Integer points, String description) {
-        log.info("포인트 사용 이력 생성: 사용자={}, 포인트={}, 사유={}", user.getUsername(), points, description);
-        
-        PointHistory history = PointHistory.createUsedHistory(user, points, description);
-        PointHistory savedHistory = pointHistoryRepository.save(history);
-        
-        // User 엔티티에도 이력 추가
-        user.addPointHistory(savedHistory);
-        
-        log.info("포인트 사용 이력 생성 완료: ID={}", savedHistory.getId());
-        return savedHistory;
-    }
-
-    /**
-     * 특정 사용자의 포인트 이력을 최신순으로 조회합니다.
+     * 특정 사용자의 포인트 이력을 커서 위치부터 최신순으로 한 페이지 조회합니다.
+     * 다음 페이지 존재 여부를 알 수 있도록 페이지 크기보다 한 건 더 조회합니다.
      * 
      * @param user 조회할 사용자
-     * @return 포인트 이력 목록 (최신순)
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 포인트 이력 목록 (최신순, 최대 size + 1건)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
      */
-    public List<PointHistory> getPointHistoriesByUser(User user) {
-        log.debug("사용자 포인트 이력 조회: 사용자={}", user.getUsername());
-        return pointHistoryRepository.findByUserOrderByCreatedAtDesc(user);
+    public List<PointHistory> getPointHistoryPage(User user, String cursor, int size) {
+        log.debug("사용자 포인트 이력 조회: 사용자={}, 커서={}, 크기={}", user.getUsername(), cursor, size);
+        CursorPageResponseDTO.Cursor position = CursorPageResponseDTO.Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        if (position == null) {
+            return pointHistoryRepository.findByUserIdOrderByCreatedAtDescIdDesc(user.getId(), limit);
+        }
+        return pointHistoryRepository.findPageAfter(user.getId(), position.createdAt(), position.id(), limit);
     }
 
     /**
@@ -118,7 +86,7 @@ public class PointHistoryService {
      */
     public Integer getTotalEarnedPoints(User user) {
         log.debug("사용자 총 적립 포인트 조회: 사용자={}", user.getUsername());
-        return pointHistoryRepository.getTotalEarnedPointsByUser(user);
+        return pointLedgerService.head(user.getId()).getLifetimeEarned();
     }
 
     /**
@@ -129,11 +97,12 @@ public class PointHistoryService {
      */
     public Integer getTotalUsedPoints(User user) {
         log.debug("사용자 총 사용 포인트 조회: 사용자={}", user.getUsername());
-        return pointHistoryRepository.getTotalUsedPointsByUser(user);
+        return pointLedgerService.head(user.getId()).getLifetimeUsed();
     }
 
     /**
      * 특정 사용자의 월별 포인트 적립 통계를 조회합니다.
+     * 월간 집계 행 하나만 읽으므로 이력이 늘어나도 조회 비용이 일정합니다.
      * 
      * @param user 조회할 사용자
      * @param year 조회할 연도
@@ -142,23 +111,25 @@ public class PointHistoryService {
      */
     public Integer getMonthlyEarnedPoints(User user, int year, int month) {
         log.debug("사용자 월별 적립 포인트 조회: 사용자={}, 연도={}, 월={}", user.getUsername(), year, month);
-        return pointHistoryRepository.getMonthlyEarnedPoints(user, year, month);
+        return monthlyRollupService.getMonthlyEarnedPoints(user.getId(), year, month);
     }
 
     /**
      * 특정 사용자의 최근 N개 포인트 이력을 조회합니다.
      * 
      * @param user 조회할 사용자
-     * @param limit 조회할 개수
+     * @param limit 조회할 개수 (최대 {@value CursorPageResponseDTO#MAX_SIZE}개)
      * @return 최근 포인트 이력 목록
      */
     public List<PointHistory> getRecentPointHistories(User user, int limit) {
         log.debug("사용자 최근 포인트 이력 조회: 사용자={}, 개수={}", user.getUsername(), limit);
-        return pointHistoryRepository.findRecentPointHistories(user, limit);
+        return pointHistoryRepository.findByUserIdOrderByCreatedAtDescIdDesc(
+                user.getId(), Limit.of(CursorPageResponseDTO.normalizeSize(limit)));
     }
 
     /**
      * 사용자의 포인트 적립과 사용 통계를 조회합니다.
+     * 원장의 최신 상태(사용자 행)만 읽으므로 이력 건수와 관계없이 한 번의 조회로 끝납니다.
      * 
      * @param user 조회할 사용자
      * @return 포인트 통계 정보를 담은 객체
@@ -166,15 +137,13 @@ public class PointHistoryService {
     public PointStatistics getPointStatistics(User user) {
         log.debug("사용자 포인트 통계 조회: 사용자={}", user.getUsername());
         
-        Integer totalEarned = getTotalEarnedPoints(user);
-        Integer totalUsed = getTotalUsedPoints(user);
-        Integer currentPoints = user.getPoints();
+        UserRepository.LedgerHead head = pointLedgerService.head(user.getId());
         
         return PointStatistics.builder()
-                .totalEarned(totalEarned)
-                .totalUsed(totalUsed)
-                .currentPoints(currentPoints)
-                .availablePoints(currentPoints)
+                .totalEarned(head.getLifetimeEarned())
+                .totalUsed(head.getLifetimeUsed())
+                .currentPoints(head.getPoints())
+                .availablePoints(head.getPoints())
                 .build();
     }
 
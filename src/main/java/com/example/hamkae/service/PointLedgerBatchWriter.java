@@ -0,0 +1,215 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.PointBalanceSnapshot;
+import com.example.hamkae.domain.PointHistory;
+import com.example.hamkae.event.PointsChangedEvent;
+import com.example.hamkae.repository.PointBalanceSnapshotRepository;
+import com.example.hamkae.repository.PointLedgerBatchRepository;
+import com.example.hamkae.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 포인트 대량 적립 배치 기록기
+ * 캠페인 보너스처럼 많은 사용자에게 한 번에 적립할 때, 사용자마다 엔티티를 읽고 저장하는 대신
+ * 한 묶음(chunk)의 사용자 행을 ID 순으로 한 번에 잠그고, 잔액/원장 순번은 메모리에서 계산한 뒤
+ * 사용자 행 갱신, 원장 추가, 월간 집계 증분을 각각 한 번의 JDBC 배치로 기록합니다.
+ * 원장 순번/변동 직후 잔액/스냅샷/포인트 변동 이벤트는 {@link PointLedgerService}의 단건 적립과 같은 규칙을 따릅니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PointLedgerBatchWriter {
+
+    private final PointLedgerBatchRepository batchRepository;
+    private final PointLedgerService pointLedgerService;
+    private final PointMonthlyRollupService monthlyRollupService;
+    private final PointBalanceSnapshotRepository snapshotRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 한 트랜잭션에서 처리하는 최대 적립 건수
+     */
+    @Value("${points.batch.chunk-size:500}")
+    private Integer chunkSize;
+
+    /**
+     * 스냅샷을 남기는 원장 순번 간격
+     */
+    @Value("${points.ledger.snapshot-interval:100}")
+    private Integer snapshotInterval;
+
+    public PointLedgerBatchWriter(PointLedgerBatchRepository batchRepository, PointLedgerService pointLedgerService,
+                                  PointMonthlyRollupService monthlyRollupService,
+                                  PointBalanceSnapshotRepository snapshotRepository, UserRepository userRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager) {
+        this.batchRepository = batchRepository;
+        this.pointLedgerService = pointLedgerService;
+        this.monthlyRollupService = monthlyRollupService;
+        this.snapshotRepository = snapshotRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 여러 사용자에게 포인트를 적립합니다.
+     * 묶음마다 별도 트랜잭션으로 커밋하므로, 중간에 실패하면 앞서 커밋한 묶음은 유지되고 이후 묶음은 적용되지 않습니다.
+     *
+     * @param grants 적립 목록 (같은 사용자가 여러 번 있으면 각각 원장에 기록)
+     * @param description 적립 사유
+     * @return 적립 결과
+     * @throws IllegalArgumentException 적립 포인트가 양수가 아닌 항목이 있는 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult earnAllInChunks(List<PointGrant> grants, String description) {
+        validate(grants);
+        long startedAt = System.currentTimeMillis();
+        int size = Math.max(1, chunkSize);
+        int applied = 0;
+        int points = 0;
+        List<Long> skipped = new ArrayList<>();
+        for (int from = 0; from < grants.size(); from += size) {
+            List<PointGrant> chunk = grants.subList(from, Math.min(from + size, grants.size()));
+            BatchResult result = transactionTemplate.execute(status -> write(chunk, description));
+            applied += result.appliedGrants();
+            points += result.totalPoints();
+            skipped.addAll(result.skippedUserIds());
+        }
+        log.info("포인트 대량 적립 완료: 요청 {}건, 적립 {}건, 총 {}pt, 없는 사용자 {}명, {}ms",
+                grants.size(), applied, points, skipped.size(), System.currentTimeMillis() - startedAt);
+        return new BatchResult(applied, points, skipped);
+    }
+
+    /**
+     * 한 묶음의 적립을 현재 트랜잭션에 기록합니다. (캠페인처럼 진행 상태를 같은 트랜잭션에 남겨야 하는 호출자용)
+     * 같은 트랜잭션의 영속성 컨텍스트에 이미 올라온 User 엔티티의 잔액은 갱신되지 않습니다.
+     *
+     * @param grants 적립 목록
+     * @param description 적립 사유
+     * @return 적립 결과
+     * @throws IllegalArgumentException 적립 포인트가 양수가 아닌 항목이 있는 경우
+     */
+    @Transactional
+    public BatchResult earnAll(List<PointGrant> grants, String description) {
+        validate(grants);
+        return write(grants, description);
+    }
+
+    private BatchResult write(List<PointGrant> grants, String description) {
+        if (grants.isEmpty()) {
+            return new BatchResult(0, 0, List.of());
+        }
+        TreeSet<Long> userIds = new TreeSet<>();
+        for (PointGrant grant : grants) {
+            userIds.add(grant.userId());
+        }
+        Map<Long, PointLedgerBatchRepository.LedgerRow> rows = batchRepository.lockLedgerRows(userIds);
+
+        // 원장에 처음 기록하는 사용자는 이전 이력부터 이관해 순번이 겹치지 않게 함 (이미 잠근 행이라 대기 없음)
+        for (PointLedgerBatchRepository.LedgerRow row : List.copyOf(rows.values())) {
+            if (row.ledgerSequence() == 0L) {
+                pointLedgerService.migrate(row.userId());
+                UserRepository.LedgerHead head = pointLedgerService.head(row.userId());
+                rows.put(row.userId(), new PointLedgerBatchRepository.LedgerRow(row.userId(), head.getPoints(),
+                        head.getLedgerSequence(), head.getLifetimeEarned(), head.getLifetimeUsed()));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PointLedgerBatchRepository.EarnedEntry> entries = new ArrayList<>(grants.size());
+        Map<Long, PointLedgerBatchRepository.LedgerRow> changed = new LinkedHashMap<>();
+        Map<Long, Integer> earnedByUser = new LinkedHashMap<>();
+        List<PointBalanceSnapshot> snapshots = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        int totalPoints = 0;
+        for (PointGrant grant : grants) {
+            PointLedgerBatchRepository.LedgerRow row = rows.get(grant.userId());
+            if (row == null) {
+                skipped.add(grant.userId());
+                continue;
+            }
+            PointLedgerBatchRepository.LedgerRow next = row.earn(grant.points());
+            rows.put(grant.userId(), next);
+            changed.put(grant.userId(), next);
+            earnedByUser.merge(grant.userId(), grant.points(), Integer::sum);
+            entries.add(new PointLedgerBatchRepository.EarnedEntry(
+                    grant.userId(), next.ledgerSequence(), grant.points(), next.points()));
+            if (snapshotInterval > 0 && next.ledgerSequence() % snapshotInterval == 0) {
+                snapshots.add(PointBalanceSnapshot.builder()
+                        .user(userRepository.getReferenceById(grant.userId()))
+                        .sequence(next.ledgerSequence())
+                        .balance(next.points())
+                        .lifetimeEarned(next.lifetimeEarned())
+                        .lifetimeUsed(next.lifetimeUsed())
+                        .build());
+            }
+            totalPoints += grant.points();
+        }
+        if (entries.isEmpty()) {
+            return new BatchResult(0, 0, skipped);
+        }
+
+        batchRepository.updateLedgerRows(changed.values(), now);
+        batchRepository.insertEarnedEntries(entries, description, now);
+        monthlyRollupService.recordEarnedBatch(earnedByUser, now);
+        if (!snapshots.isEmpty()) {
+            snapshotRepository.saveAll(snapshots);
+        }
+        for (PointLedgerBatchRepository.EarnedEntry entry : entries) {
+            eventPublisher.publishEvent(new PointsChangedEvent(entry.userId(), PointHistory.PointType.EARNED,
+                    entry.points(), entry.balanceAfter(), entry.sequence(), now));
+        }
+        if (!skipped.isEmpty()) {
+            log.warn("포인트 대량 적립 중 없는 사용자 건너뜀: {}", skipped);
+        }
+        return new BatchResult(entries.size(), totalPoints, skipped);
+    }
+
+    private static void validate(List<PointGrant> grants) {
+        for (PointGrant grant : grants) {
+            if (grant.userId() == null || grant.points() <= 0) {
+                throw new IllegalArgumentException("적립 대상 사용자와 양수 포인트가 필요합니다: " + grant);
+            }
+        }
+    }
+
+    /**
+     * 한 사용자에게 적립할 포인트
+     *
+     * @param userId 사용자 ID
+     * @param points 적립 포인트 (양수)
+     */
+    public record PointGrant(Long userId, int points) {
+    }
+
+    /**
+     * 대량 적립 결과
+     *
+     * @param appliedGrants 원장에 기록한 적립 건수
+     * @param totalPoints 적립한 총 포인트
+     * @param skippedUserIds 존재하지 않아 건너뛴 사용자 ID
+     */
+    public record BatchResult(int appliedGrants, int totalPoints, List<Long> skippedUserIds) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.repository.PointHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 원장 도입 전 포인트 이력을 원장으로 이관하는 컴포넌트
+ * 애플리케이션이 준비되면 순번 없는 이력이 남은 사용자를 사용자 ID 순으로 나누어 읽어 한 명씩 이관합니다.
+ * 이관 전에 포인트가 변경되는 사용자는 {@link PointLedgerService}가 기록 직전에 먼저 이관하므로, 이 작업은 조회 통계를 채우기 위한 것입니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedgerMigration {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerService pointLedgerService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateUnsequencedHistories() {
+        long afterUserId = 0L;
+        int migratedUsers = 0;
+        List<Long> userIds;
+        do {
+            userIds = pointHistoryRepository.findUserIdsWithUnsequencedEntries(afterUserId, Limit.of(BATCH_SIZE));
+            for (Long userId : userIds) {
+                try {
+                    if (pointLedgerService.migrate(userId) > 0) {
+                        migratedUsers++;
+                    }
+                } catch (Exception e) {
+                    log.error("포인트 이력 원장 이관 실패: userId={}", userId, e);
+                }
+                afterUserId = userId;
+            }
+        } while (userIds.size() == BATCH_SIZE);
+
+        if (migratedUsers > 0) {
+            log.info("포인트 이력 원장 이관 완료: 사용자 {}명", migratedUsers);
+        }
+    }
+}
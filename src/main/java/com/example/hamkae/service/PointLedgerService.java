@@ -0,0 +1,380 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.Photo;
+import com.example.hamkae.domain.PointBalanceSnapshot;
+import com.example.hamkae.domain.PointHistory;
+import com.example.hamkae.domain.User;
+import com.example.hamkae.event.PointsChangedEvent;
+import com.example.hamkae.repository.PointBalanceSnapshotRepository;
+import com.example.hamkae.repository.PointHistoryRepository;
+import com.example.hamkae.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 포인트 원장 서비스
+ * 포인트 잔액 변경의 유일한 경로로, 잔액/원장 순번/누적 적립·사용을 사용자 행의 조건부 UPDATE 한 문장으로 바꾸고
+ * 같은 트랜잭션에서 point_history에 순번과 변동 직후 잔액을 담은 원장을 추가합니다.
+ * 사용자 행의 값은 원장의 최신 상태이므로 잔액과 통계 조회는 원장 합계를 다시 계산하지 않고 한 행만 읽으며,
+ * 일정 순번마다 스냅샷을 남겨 두어 잔액이 원장과 어긋났을 때 마지막 스냅샷 이후의 원장만 다시 적용해 재구성합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PointLedgerService {
+
+    /**
+     * 원장 재구성 시 한 번에 읽는 원장 수
+     */
+    private static final int REPLAY_CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointBalanceSnapshotRepository snapshotRepository;
+    private final PointMonthlyRollupService monthlyRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 스냅샷을 남기는 원장 순번 간격
+     */
+    @Value("${points.ledger.snapshot-interval:100}")
+    private Integer snapshotInterval;
+
+    /**
+     * 포인트를 적립합니다.
+     *
+     * @param user 적립받을 사용자 (메모리의 잔액도 갱신됨)
+     * @param points 적립할 포인트 (양수)
+     * @param description 적립 사유
+     * @param relatedPhoto 관련 사진 (선택사항, 있으면 사진당 한 번만 적립)
+     * @return 추가된 원장 (이미 적립한 사진이면 기존 원장)
+     * @throws IllegalArgumentException 포인트가 양수가 아닌 경우
+     */
+    @Transactional
+    public PointHistory earn(User user, int points, String description, Photo relatedPhoto) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("적립할 포인트는 양수여야 합니다: " + points);
+        }
+        if (relatedPhoto != null) {
+            // 사용자 행을 먼저 잠가 같은 사진의 적립을 직렬화한 뒤 이미 적립했는지 확인 (유니크 제약은 최종 방어선)
+            lock(user.getId());
+            PointHistory existing = pointHistoryRepository.findByEarnedPhotoId(relatedPhoto.getId()).orElse(null);
+            if (existing != null) {
+                log.warn("이미 적립한 사진, 중복 적립 생략: userId={}, photoId={}, historyId={}",
+                        user.getId(), relatedPhoto.getId(), existing.getId());
+                return existing;
+            }
+        }
+        UserRepository.LedgerHead head = append(user, points, points, 0);
+        return record(user, PointHistory.createEarnedHistory(user, points, description, relatedPhoto,
+                head.getLedgerSequence(), head.getPoints()), head);
+    }
+
+    /**
+     * 청소 인증 포인트를 적립합니다.
+     * 사용자 행을 잠근 뒤 저장된 마지막 청소 날짜와 연속 청소 일수로 활동 상태를 계산해 적립 포인트를 정하고,
+     * 잔액/원장 상태와 청소 활동 상태를 같은 UPDATE 문에서 기록하므로 동시에 인증해도 오늘 첫 청소 보너스는 한 번만 적용됩니다.
+     *
+     * @param user 적립받을 사용자 (메모리의 잔액도 갱신됨)
+     * @param photo 인증 사진 (사진당 한 번만 적립)
+     * @param description 적립 사유
+     * @param today 청소 인증 날짜
+     * @param calculator 활동 상태로 적립 포인트를 계산하는 함수 (DB를 조회하지 않아야 함)
+     * @return 적립 결과 (이미 적립한 사진이면 계산 결과 없이 기존 원장, 적립할 포인트가 없으면 원장 없음)
+     */
+    @Transactional
+    public CleanupEarning earnCleanup(User user, Photo photo, String description, LocalDate today,
+                                      Function<PointRules.Activity, PointRules.PointAward> calculator) {
+        lock(user.getId());
+        PointHistory existing = pointHistoryRepository.findByEarnedPhotoId(photo.getId()).orElse(null);
+        if (existing != null) {
+            log.warn("이미 적립한 사진, 중복 적립 생략: userId={}, photoId={}, historyId={}",
+                    user.getId(), photo.getId(), existing.getId());
+            return new CleanupEarning(null, existing);
+        }
+
+        UserRepository.CleanupStreakRow streak = userRepository.findCleanupStreakById(user.getId())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + user.getId()));
+        PointRules.Activity activity = PointRules.Activity.of(streak.getLastCleanupDate(), streak.getStreakDays(), today);
+        PointRules.PointAward award = calculator.apply(activity);
+        if (award.points() <= 0) {
+            return new CleanupEarning(award, null);
+        }
+
+        migrateIfFirstEntry(user);
+        userRepository.appendCleanupLedger(user.getId(), award.points(), today, activity.streakDays(), LocalDateTime.now());
+        UserRepository.LedgerHead head = syncHead(user);
+        return new CleanupEarning(award, record(user, PointHistory.createEarnedHistory(user, award.points(), description,
+                photo, head.getLedgerSequence(), head.getPoints()), head));
+    }
+
+    /**
+     * 포인트를 사용합니다. 잔액 확인과 차감을 한 문장으로 수행하므로 동시에 사용해도 잔액이 음수가 되지 않습니다.
+     *
+     * @param user 사용할 사용자 (메모리의 잔액도 갱신됨)
+     * @param points 사용할 포인트 (양수)
+     * @param description 사용 사유
+     * @return 추가된 원장
+     * @throws IllegalArgumentException 포인트가 양수가 아닌 경우
+     * @throws IllegalStateException 보유 포인트가 부족한 경우
+     */
+    @Transactional
+    public PointHistory spend(User user, int points, String description) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("사용할 포인트는 양수여야 합니다: " + points);
+        }
+        UserRepository.LedgerHead head = append(user, -points, 0, points);
+        return record(user, PointHistory.createUsedHistory(user, points, description,
+                head.getLedgerSequence(), head.getPoints()), head);
+    }
+
+    /**
+     * 잔액을 지정한 값으로 맞춥니다. (테스트/관리자용)
+     * 사용자 행을 잠근 뒤 현재 잔액과의 차이를 조정(ADJUSTED) 원장으로 기록하므로, 동시에 들어온 적립/사용이 유실되지 않습니다.
+     *
+     * @param user 조정할 사용자 (메모리의 잔액도 갱신됨)
+     * @param points 새 잔액 (0 이상)
+     * @param description 조정 사유
+     * @return 조정 직전의 잔액
+     * @throws IllegalArgumentException 잔액이 음수인 경우
+     */
+    @Transactional
+    public int adjustTo(User user, int points, String description) {
+        if (points < 0) {
+            throw new IllegalArgumentException("포인트는 0 이상이어야 합니다.");
+        }
+        lock(user.getId());
+        migrateUnsequencedEntries(user.getId());
+        int current = head(user.getId()).getPoints();
+        int delta = points - current;
+        if (delta == 0) {
+            return current;
+        }
+
+        UserRepository.LedgerHead head = append(user, delta, 0, 0);
+        record(user, PointHistory.createAdjustedHistory(user, delta, description,
+                head.getLedgerSequence(), head.getPoints()), head);
+        return current;
+    }
+
+    /**
+     * 마지막 스냅샷 이후의 원장을 순번대로 다시 적용해 잔액과 누적 적립/사용을 재구성합니다.
+     * 사용자 행의 값과 다르면 원장 기준으로 바로잡고, 새 스냅샷을 남깁니다.
+     *
+     * @param userId 사용자 ID
+     * @return 재구성 결과
+     */
+    @Transactional
+    public LedgerReplay rebuild(Long userId) {
+        lock(userId);
+        migrateUnsequencedEntries(userId);
+        UserRepository.LedgerHead before = head(userId);
+
+        PointBalanceSnapshot snapshot = snapshotRepository.findFirstByUserIdOrderBySequenceDesc(userId).orElse(null);
+        long fromSequence = snapshot != null ? snapshot.getSequence() : 0L;
+        long sequence = fromSequence;
+        int balance = snapshot != null ? snapshot.getBalance() : 0;
+        int earned = snapshot != null ? snapshot.getLifetimeEarned() : 0;
+        int used = snapshot != null ? snapshot.getLifetimeUsed() : 0;
+        int replayed = 0;
+
+        List<PointHistory> chunk;
+        do {
+            chunk = pointHistoryRepository.findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(
+                    userId, sequence, Limit.of(REPLAY_CHUNK_SIZE));
+            for (PointHistory entry : chunk) {
+                if (entry.getSequence() != sequence + 1) {
+                    log.warn("포인트 원장 순번 누락: userId={}, 기대={}, 실제={}", userId, sequence + 1, entry.getSequence());
+                }
+                balance += entry.getPoints();
+                if (entry.getType() == PointHistory.PointType.EARNED) {
+                    earned += entry.getPoints();
+                } else if (entry.getType() == PointHistory.PointType.USED) {
+                    used += entry.getAbsolutePoints();
+                }
+                if (entry.getBalanceAfter() != null && entry.getBalanceAfter() != balance) {
+                    log.warn("포인트 원장 잔액 불일치: userId={}, 순번={}, 기록={}, 재계산={}",
+                            userId, entry.getSequence(), entry.getBalanceAfter(), balance);
+                }
+                sequence = entry.getSequence();
+                replayed++;
+            }
+        } while (chunk.size() == REPLAY_CHUNK_SIZE);
+
+        boolean repaired = before.getPoints() != balance || before.getLedgerSequence() != sequence
+                || before.getLifetimeEarned() != earned || before.getLifetimeUsed() != used;
+        if (repaired) {
+            log.warn("포인트 잔액을 원장 기준으로 재구성: userId={}, 잔액 {} -> {}, 순번 {} -> {}",
+                    userId, before.getPoints(), balance, before.getLedgerSequence(), sequence);
+            userRepository.restoreLedger(userId, balance, sequence, earned, used, LocalDateTime.now());
+            eventPublisher.publishEvent(new PointsChangedEvent(userId, PointHistory.PointType.ADJUSTED,
+                    balance - before.getPoints(), balance, sequence, LocalDateTime.now()));
+        }
+        if (sequence > fromSequence) {
+            saveSnapshot(userId, sequence, balance, earned, used);
+        }
+        return new LedgerReplay(userId, fromSequence, sequence, replayed, balance, earned, used, repaired);
+    }
+
+    /**
+     * 원장 도입 전 이력에 순번을 부여하고 사용자 행의 원장 상태를 맞춥니다. (원장이 이미 시작된 사용자는 건너뜀)
+     * 이력을 모두 적용한 잔액이 현재 잔액과 다르면(이력 없이 바뀐 잔액) 차이를 조정 원장으로 남겨 원장과 잔액을 일치시킵니다.
+     *
+     * @param userId 사용자 ID
+     * @return 순번을 부여한 이력 수
+     */
+    @Transactional
+    public int migrate(Long userId) {
+        lock(userId);
+        return migrateUnsequencedEntries(userId);
+    }
+
+    /**
+     * 사용자의 최신 원장 상태를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 잔액, 마지막 원장 순번, 누적 적립/사용
+     * @throws RuntimeException 사용자를 찾을 수 없는 경우
+     */
+    public UserRepository.LedgerHead head(Long userId) {
+        return userRepository.findLedgerHeadById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+    }
+
+    /**
+     * 잔액과 원장 상태를 한 문장으로 바꾸고, 바뀐 상태를 읽어 엔티티에 반영합니다.
+     * 원장에 처음 기록하는 사용자면 먼저 이전 이력을 이관하여 순번이 겹치지 않게 합니다.
+     */
+    private UserRepository.LedgerHead append(User user, int delta, int earned, int used) {
+        migrateIfFirstEntry(user);
+        if (userRepository.appendLedger(user.getId(), delta, earned, used, LocalDateTime.now()) == 0) {
+            int current = head(user.getId()).getPoints();
+            throw new IllegalStateException("보유 포인트가 부족합니다. 현재: " + current + ", 필요: " + (-delta));
+        }
+        return syncHead(user);
+    }
+
+    private void migrateIfFirstEntry(User user) {
+        if (user.getLedgerSequence() == null || user.getLedgerSequence() == 0L) {
+            lock(user.getId());
+            migrateUnsequencedEntries(user.getId());
+        }
+    }
+
+    private UserRepository.LedgerHead syncHead(User user) {
+        UserRepository.LedgerHead head = head(user.getId());
+        user.syncLedger(head.getPoints(), head.getLedgerSequence(), head.getLifetimeEarned(), head.getLifetimeUsed());
+        return head;
+    }
+
+    /**
+     * 원장을 저장하고 월간 집계에 반영한 뒤, 스냅샷 간격에 해당하는 순번이면 스냅샷을 남깁니다.
+     * 포인트 변동 이벤트는 커밋 후 리스너가 받도록 발행합니다.
+     */
+    private PointHistory record(User user, PointHistory entry, UserRepository.LedgerHead head) {
+        PointHistory saved = pointHistoryRepository.save(entry);
+        user.addPointHistory(saved);
+        monthlyRollupService.recordLedgerEntry(saved);
+        eventPublisher.publishEvent(new PointsChangedEvent(user.getId(), saved.getType(), saved.getPoints(),
+                head.getPoints(), head.getLedgerSequence(), saved.getCreatedAt()));
+        if (snapshotInterval > 0 && head.getLedgerSequence() % snapshotInterval == 0) {
+            saveSnapshot(user.getId(), head.getLedgerSequence(), head.getPoints(),
+                    head.getLifetimeEarned(), head.getLifetimeUsed());
+        }
+        return saved;
+    }
+
+    private int migrateUnsequencedEntries(Long userId) {
+        UserRepository.LedgerHead head = head(userId);
+        if (head.getLedgerSequence() != 0L) {
+            return 0;
+        }
+        List<PointHistory> legacy = pointHistoryRepository.findByUserIdAndSequenceIsNullOrderByIdAsc(userId);
+        if (legacy.isEmpty() && head.getPoints() == 0) {
+            return 0;
+        }
+
+        long sequence = 0;
+        int balance = 0;
+        int earned = 0;
+        int used = 0;
+        for (PointHistory entry : legacy) {
+            balance += entry.getPoints();
+            if (entry.getType() == PointHistory.PointType.EARNED) {
+                earned += entry.getPoints();
+            } else if (entry.getType() == PointHistory.PointType.USED) {
+                used += entry.getAbsolutePoints();
+            }
+            entry.assignLedgerPosition(++sequence, balance);
+        }
+        pointHistoryRepository.saveAll(legacy);
+
+        if (balance != head.getPoints()) {
+            int delta = head.getPoints() - balance;
+            balance = head.getPoints();
+            pointHistoryRepository.save(PointHistory.createAdjustedHistory(userRepository.getReferenceById(userId), delta,
+                    "원장 이관 보정 (이력 없이 변경된 잔액)", ++sequence, balance));
+        }
+        userRepository.restoreLedger(userId, balance, sequence, earned, used, LocalDateTime.now());
+        saveSnapshot(userId, sequence, balance, earned, used);
+
+        log.info("포인트 이력 원장 이관: userId={}, {}건, 마지막 순번={}, 잔액={}", userId, legacy.size(), sequence, balance);
+        return legacy.size();
+    }
+
+    private void lock(Long userId) {
+        if (userRepository.lockForLedger(userId, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
+        }
+    }
+
+    private void saveSnapshot(Long userId, long sequence, int balance, int earned, int used) {
+        snapshotRepository.save(PointBalanceSnapshot.builder()
+                .user(userRepository.getReferenceById(userId))
+                .sequence(sequence)
+                .balance(balance)
+                .lifetimeEarned(earned)
+                .lifetimeUsed(used)
+                .build());
+    }
+
+    /**
+     * 청소 인증 적립 결과
+     *
+     * @param award 적립 포인트 계산 결과 (이미 적립한 사진이면 null)
+     * @param history 추가된 원장 (이미 적립한 사진이면 기존 원장, 적립할 포인트가 없으면 null)
+     */
+    public record CleanupEarning(PointRules.PointAward award, PointHistory history) {
+    }
+
+    /**
+     * 원장 재구성 결과
+     *
+     * @param userId 사용자 ID
+     * @param fromSequence 재구성을 시작한 스냅샷 순번 (스냅샷이 없으면 0)
+     * @param toSequence 마지막으로 적용한 원장 순번
+     * @param replayedEntries 다시 적용한 원장 수
+     * @param balance 재구성한 잔액
+     * @param lifetimeEarned 재구성한 누적 적립 포인트
+     * @param lifetimeUsed 재구성한 누적 사용 포인트
+     * @param repaired 사용자 행의 값이 원장과 달라 바로잡았는지 여부
+     */
+    public record LedgerReplay(Long userId, long fromSequence, long toSequence, int replayedEntries,
+                               int balance, int lifetimeEarned, int lifetimeUsed, boolean repaired) {
+    }
+}
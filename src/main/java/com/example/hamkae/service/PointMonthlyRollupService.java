@@ -0,0 +1,180 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.PointHistory;
+import com.example.hamkae.domain.PointMonthlyRollup;
+import com.example.hamkae.domain.Reward;
+import com.example.hamkae.repository.PointHistoryRepository;
+import com.example.hamkae.repository.PointLedgerBatchRepository;
+import com.example.hamkae.repository.PointMonthlyRollupRepository;
+import com.example.hamkae.repository.RewardRepository;
+import com.example.hamkae.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 월간 포인트 집계 서비스
+ * 원장과 상품권 교환이 기록되는 트랜잭션 안에서 해당 월 집계 행에 증분을 더하고, 월별 통계는 이 행 하나만 읽습니다.
+ * 집계 행이 없는 달은 그 달의 첫 기록 시점에 반개구간 범위 합계로 행을 만들고,
+ * 기록이 한 번도 없었던 달(도입 전 이력)은 같은 범위 합계로 바로 응답합니다.
+ * 기록은 항상 사용자 행을 잠근 원장 트랜잭션 안에서 일어나므로 같은 사용자의 집계 행을 동시에 만들지 않습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PointMonthlyRollupService {
+
+    private final PointMonthlyRollupRepository rollupRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final RewardRepository rewardRepository;
+    private final UserRepository userRepository;
+    private final PointLedgerBatchRepository batchRepository;
+
+    /**
+     * 원장 한 건을 해당 월 집계에 반영합니다. (조정 원장은 적립/사용 통계에 포함하지 않음)
+     *
+     * @param entry 저장된 원장
+     */
+    @Transactional
+    public void recordLedgerEntry(PointHistory entry) {
+        if (entry.getType() == PointHistory.PointType.EARNED) {
+            accumulate(entry.getUser().getId(), entry.getCreatedAt(), entry.getPoints(), 0, 0);
+        } else if (entry.getType() == PointHistory.PointType.USED) {
+            accumulate(entry.getUser().getId(), entry.getCreatedAt(), 0, entry.getAbsolutePoints(), 0);
+        }
+    }
+
+    /**
+     * 배치로 추가한 적립 원장을 사용자별 합계로 해당 월 집계에 반영합니다.
+     * 집계 행이 있는 사용자는 한 번의 JDBC 배치로 더하고, 이 달의 첫 기록인 사용자들은 범위 합계로 한 문장에 행을 만듭니다.
+     *
+     * @param earnedByUser 사용자 ID별 적립 포인트
+     * @param at 적립일시
+     */
+    @Transactional
+    public void recordEarnedBatch(Map<Long, Integer> earnedByUser, LocalDateTime at) {
+        if (earnedByUser.isEmpty()) {
+            return;
+        }
+        YearMonth period = YearMonth.from(at);
+        LocalDate periodStart = period.atDay(1);
+        Set<Long> existing = new HashSet<>(batchRepository.findUsersWithMonthlyRollup(earnedByUser.keySet(), periodStart));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Integer> increments = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : earnedByUser.entrySet()) {
+            if (existing.contains(entry.getKey())) {
+                increments.put(entry.getKey(), entry.getValue());
+            } else {
+                missing.add(entry.getKey());
+            }
+        }
+        if (!increments.isEmpty()) {
+            batchRepository.accumulateMonthlyEarned(increments, periodStart, now);
+        }
+        if (!missing.isEmpty()) {
+            int created = batchRepository.insertMonthlyRollups(missing, periodStart, now);
+            log.debug("월간 포인트 집계 일괄 생성: {}명, 기간={}", created, period);
+        }
+    }
+
+    /**
+     * 승인된 상품권 교환 한 건을 해당 월 집계에 반영합니다.
+     *
+     * @param reward 저장된 상품권 교환
+     */
+    @Transactional
+    public void recordReward(Reward reward) {
+        if (reward.getStatus() == Reward.RewardStatus.APPROVED) {
+            accumulate(reward.getUser().getId(), reward.getCreatedAt(), 0, 0, reward.getPointsUsed());
+        }
+    }
+
+    /**
+     * 사용자의 월간 적립 포인트를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param year 연도
+     * @param month 월
+     * @return 해당 월의 총 적립 포인트
+     */
+    public Integer getMonthlyEarnedPoints(Long userId, int year, int month) {
+        YearMonth period = YearMonth.of(year, month);
+        return rollupRepository.findByUserIdAndPeriodStart(userId, period.atDay(1))
+                .map(PointMonthlyRollup::getEarnedPoints)
+                .orElseGet(() -> sumEarned(userId, period));
+    }
+
+    /**
+     * 사용자의 월간 상품권 교환 포인트를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param year 연도
+     * @param month 월
+     * @return 해당 월의 총 사용 포인트 (승인된 교환만)
+     */
+    public Integer getMonthlyRewardPoints(Long userId, int year, int month) {
+        YearMonth period = YearMonth.of(year, month);
+        return rollupRepository.findByUserIdAndPeriodStart(userId, period.atDay(1))
+                .map(PointMonthlyRollup::getRewardPoints)
+                .orElseGet(() -> sumRewards(userId, period));
+    }
+
+    private void accumulate(Long userId, LocalDateTime at, int earned, int used, int reward) {
+        LocalDateTime now = LocalDateTime.now();
+        YearMonth period = YearMonth.from(at != null ? at : now);
+        LocalDate periodStart = period.atDay(1);
+        if (rollupRepository.accumulate(userId, periodStart, earned, used, reward, now) > 0) {
+            return;
+        }
+
+        // 이 달의 첫 기록: 방금 저장된 건을 포함한 범위 합계로 집계 행을 만듦
+        create(userId, period);
+    }
+
+    private void create(Long userId, YearMonth period) {
+        rollupRepository.save(PointMonthlyRollup.builder()
+                .user(userRepository.getReferenceById(userId))
+                .periodStart(period.atDay(1))
+                .earnedPoints(sumEarned(userId, period))
+                .usedPoints(-pointHistoryRepository.sumPointsByTypeBetween(
+                        userId, PointHistory.PointType.USED, start(period), end(period)))
+                .rewardPoints(sumRewards(userId, period))
+                .build());
+        log.debug("월간 포인트 집계 생성: userId={}, 기간={}", userId, period);
+    }
+
+    private Integer sumEarned(Long userId, YearMonth period) {
+        return pointHistoryRepository.sumPointsByTypeBetween(
+                userId, PointHistory.PointType.EARNED, start(period), end(period));
+    }
+
+    private Integer sumRewards(Long userId, YearMonth period) {
+        return rewardRepository.sumApprovedPointsBetween(userId, start(period), end(period));
+    }
+
+    private static LocalDateTime start(YearMonth period) {
+        return period.atDay(1).atStartOfDay();
+    }
+
+    private static LocalDateTime end(YearMonth period) {
+        return period.plusMonths(1).atDay(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.PointRuleSetRequestDTO;
+import com.example.hamkae.domain.Marker;
+import com.example.hamkae.domain.PointRuleSet;
+import com.example.hamkae.repository.PointRuleSetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 청소 인증 포인트 규칙 엔진
+ * 적용 중인 규칙은 컴파일된 불변 객체({@link PointRules}) 하나를 AtomicReference로 들고 있어,
+ * 규칙 교체는 참조 하나를 바꾸는 원자적 연산이고 적립 계산은 잠금 없이 메모리에서만 수행됩니다.
+ * 규칙은 설정 파일(points.rules.*)에서 시작하며, DB에 규칙 세트가 등록되면 주기적으로 확인해 최신 버전으로 교체합니다.
+ * 오늘 첫 청소/연속 청소 규칙에 필요한 활동 상태는 사용자 행에 유지되는 값을 호출하는 쪽이 넘겨주므로, 계산 중에 DB를 조회하지 않습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class PointRuleEngine {
+
+    private final PointRuleSetRepository ruleSetRepository;
+    private final PointRules.Definition configDefinition;
+    private final AtomicReference<PointRules> current;
+
+    public PointRuleEngine(PointRuleSetRepository ruleSetRepository,
+                           @Value("${ai.verification.points.reward:5000}") int basePoints,
+                           @Value("${points.rules.confidence-bands:0.8=1000}") String confidenceBands,
+                           @Value("${points.rules.first-of-day-bonus:0}") int firstOfDayBonus,
+                           @Value("${points.rules.streak-bonuses:}") String streakBonuses,
+                           @Value("${points.rules.district-multipliers:}") String districtMultipliers,
+                           @Value("${points.rules.marker-age-bonuses:}") String markerAgeBonuses) {
+        this.ruleSetRepository = ruleSetRepository;
+        this.configDefinition = new PointRules.Definition(basePoints, confidenceBands, firstOfDayBonus,
+                streakBonuses, districtMultipliers, markerAgeBonuses);
+        // 설정 파일 규칙이 잘못되었으면 기동 시점에 실패
+        this.current = new AtomicReference<>(PointRules.compile(0, configDefinition));
+    }
+
+    /**
+     * 현재 적용 중인 규칙을 반환합니다.
+     *
+     * @return 컴파일된 규칙
+     */
+    public PointRules current() {
+        return current.get();
+    }
+
+    /**
+     * 청소 인증 적립 포인트를 계산합니다. DB를 조회하지 않습니다.
+     *
+     * @param marker 청소한 마커
+     * @param confidence AI 검증 신뢰도
+     * @param now 적립 시각
+     * @param activity 사용자의 오늘 첫 청소 여부와 연속 청소 일수
+     * @return 계산 결과
+     */
+    public PointRules.PointAward evaluateCleanup(Marker marker, Double confidence, LocalDateTime now,
+                                                 PointRules.Activity activity) {
+        long markerAgeHours = marker.getCreatedAt() != null
+                ? Math.max(0, Duration.between(marker.getCreatedAt(), now).toHours()) : 0;
+        return current.get().evaluate(confidence, marker.getAddress(), markerAgeHours,
+                activity.firstOfDay(), activity.streakDays());
+    }
+
+    /**
+     * 새 규칙 세트를 검증해 등록하고 곧바로 적용합니다. 다른 노드는 다음 확인 주기에 적용합니다.
+     *
+     * @param request 규칙 등록 요청 정보 (기본 포인트가 없으면 설정값 사용)
+     * @param username 등록한 관리자 아이디
+     * @return 적용된 규칙
+     * @throws IllegalArgumentException 규칙 형식이나 값이 잘못된 경우
+     */
+    public PointRules register(PointRuleSetRequestDTO request, String username) {
+        PointRules.Definition definition = new PointRules.Definition(request.getBasePoints(),
+                trimToNull(request.getConfidenceBands()), request.getFirstOfDayBonus(),
+                trimToNull(request.getStreakBonuses()), trimToNull(request.getDistrictMultipliers()),
+                trimToNull(request.getMarkerAgeBonuses()));
+        // 저장하기 전에 컴파일해 잘못된 규칙이 DB에 남지 않도록 함
+        PointRules.compile(0, withConfigBase(definition));
+
+        PointRuleSet saved = ruleSetRepository.save(PointRuleSet.builder()
+                .basePoints(definition.basePoints())
+                .confidenceBands(definition.confidenceBands())
+                .firstOfDayBonus(definition.firstOfDayBonus())
+                .streakBonuses(definition.streakBonuses())
+                .districtMultipliers(definition.districtMultipliers())
+                .markerAgeBonuses(definition.markerAgeBonuses())
+                .createdBy(username)
+                .build());
+        PointRules applied = apply(PointRules.compile(saved.getId(), withConfigBase(definition)));
+        log.warn("포인트 규칙 등록: version={}, 등록자={}", saved.getId(), username);
+        return applied;
+    }
+
+    /**
+     * DB에 더 새로운 규칙 세트가 있으면 컴파일해 교체합니다.
+     * 컴파일에 실패하면 기존 규칙을 그대로 사용합니다.
+     */
+    @Scheduled(fixedDelayString = "${points.rules.reload-interval-ms:30000}")
+    public void reload() {
+        try {
+            Long latestId = ruleSetRepository.findLatestId();
+            if (latestId == null || latestId <= current.get().version()) {
+                return;
+            }
+            PointRuleSet ruleSet = ruleSetRepository.findById(latestId).orElse(null);
+            if (ruleSet == null) {
+                return;
+            }
+            PointRules.Definition definition = new PointRules.Definition(ruleSet.getBasePoints(),
+                    ruleSet.getConfidenceBands(), ruleSet.getFirstOfDayBonus(), ruleSet.getStreakBonuses(),
+                    ruleSet.getDistrictMultipliers(), ruleSet.getMarkerAgeBonuses());
+            PointRules applied = apply(PointRules.compile(latestId, withConfigBase(definition)));
+            log.info("포인트 규칙 갱신: version={}", applied.version());
+        } catch (Exception e) {
+            log.error("포인트 규칙 갱신 실패 (기존 규칙 유지): version={}", current.get().version(), e);
+        }
+    }
+
+    /**
+     * 규칙을 교체합니다. 주기적 확인과 등록이 겹쳐도 더 낮은 버전으로 되돌아가지 않습니다.
+     */
+    private PointRules apply(PointRules rules) {
+        return current.accumulateAndGet(rules, (existing, candidate) ->
+                candidate.version() >= existing.version() ? candidate : existing);
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private PointRules.Definition withConfigBase(PointRules.Definition definition) {
+        if (definition.basePoints() != null) {
+            return definition;
+        }
+        return new PointRules.Definition(configDefinition.basePoints(), definition.confidenceBands(),
+                definition.firstOfDayBonus(), definition.streakBonuses(), definition.districtMultipliers(),
+                definition.markerAgeBonuses());
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.hamkae.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 컴파일된 청소 인증 포인트 규칙 (불변)
+ * 규칙 정의 문자열을 한 번만 파싱해 임계값/포인트 배열로 바꿔 두므로, 적립 포인트 계산은 배열 탐색과 정수 연산만으로 끝납니다.
+ * 규칙을 바꿀 때는 새 인스턴스를 컴파일해 통째로 교체하며({@link PointRuleEngine}), 계산 중인 스레드는 항상 한 버전의 규칙만 봅니다.
+ * <p>
+ * 적립 포인트 = (기본 포인트 + 신뢰도 구간 보너스 + 오늘 첫 청소 보너스 + 연속 청소 보너스 + 마커 경과 시간 보너스) × 지역 배율
+ * <ul>
+ *     <li>신뢰도 구간: "0.8=1000,0.95=2000" (신뢰도 이상=보너스, 해당하는 가장 높은 구간 하나만 적용)</li>
+ *     <li>연속 청소: "3=500,7=1500" (연속 일수 이상=보너스, 오늘 포함)</li>
+ *     <li>지역 배율: "성북구=150" (마커 주소 키워드=배율 %, 여러 개가 맞으면 가장 높은 배율)</li>
+ *     <li>마커 경과 시간: "72=500" (신고 후 경과 시간 이상=보너스)</li>
+ * </ul>
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PointRules {
+
+    /**
+     * 연속 청소 규칙의 최대 일수
+     */
+    public static final int MAX_STREAK_DAYS = 60;
+
+    private static final int MAX_MULTIPLIER_PERCENT = 1000;
+
+    private final long version;
+    private final Definition definition;
+    private final int basePoints;
+    private final int firstOfDayBonus;
+    private final Tiers confidenceBands;
+    private final Tiers streakBonuses;
+    private final Tiers markerAgeBonuses;
+    private final String[] districtKeywords;
+    private final int[] districtPercents;
+
+    private PointRules(long version, Definition definition, int basePoints, int firstOfDayBonus,
+                       Tiers confidenceBands, Tiers streakBonuses, Tiers markerAgeBonuses,
+                       String[] districtKeywords, int[] districtPercents) {
+        this.version = version;
+        this.definition = definition;
+        this.basePoints = basePoints;
+        this.firstOfDayBonus = firstOfDayBonus;
+        this.confidenceBands = confidenceBands;
+        this.streakBonuses = streakBonuses;
+        this.markerAgeBonuses = markerAgeBonuses;
+        this.districtKeywords = districtKeywords;
+        this.districtPercents = districtPercents;
+    }
+
+    /**
+     * 규칙 정의를 컴파일합니다.
+     *
+     * @param version 규칙 버전 (설정 파일 규칙은 0, DB 규칙은 규칙 세트 ID)
+     * @param definition 규칙 정의
+     * @return 컴파일된 규칙
+     * @throws IllegalArgumentException 규칙 형식이나 값이 잘못된 경우
+     */
+    public static PointRules compile(long version, Definition definition) {
+        int basePoints = nonNegative(definition.basePoints(), "기본 포인트");
+        int firstOfDayBonus = nonNegative(definition.firstOfDayBonus(), "오늘 첫 청소 보너스");
+
+        // 신뢰도는 백만분율 정수로 바꿔 다른 구간 규칙과 같은 정수 비교로 처리
+        Tiers confidenceBands = Tiers.parse(definition.confidenceBands(), "신뢰도 구간", key -> {
+            BigDecimal confidence = new BigDecimal(key);
+            if (confidence.signum() < 0 || confidence.compareTo(BigDecimal.ONE) > 0) {
+                throw new IllegalArgumentException("신뢰도는 0 이상 1 이하여야 합니다: " + key);
+            }
+            return confidence.movePointRight(6).longValue();
+        });
+        Tiers streakBonuses = Tiers.parse(definition.streakBonuses(), "연속 청소", key -> {
+            long days = Long.parseLong(key);
+            if (days < 1 || days > MAX_STREAK_DAYS) {
+                throw new IllegalArgumentException("연속 일수는 1 이상 " + MAX_STREAK_DAYS + " 이하여야 합니다: " + key);
+            }
+            return days;
+        });
+        Tiers markerAgeBonuses = Tiers.parse(definition.markerAgeBonuses(), "마커 경과 시간", key -> {
+            long hours = Long.parseLong(key);
+            if (hours < 0) {
+                throw new IllegalArgumentException("경과 시간은 0 이상이어야 합니다: " + key);
+            }
+            return hours;
+        });
+
+        Map<String, String> districts = parsePairs(definition.districtMultipliers(), "지역 배율");
+        String[] districtKeywords = new String[districts.size()];
+        int[] districtPercents = new int[districts.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : districts.entrySet()) {
+            int percent = parseInt(entry.getValue(), "지역 배율");
+            if (percent < 0 || percent > MAX_MULTIPLIER_PERCENT) {
+                throw new IllegalArgumentException("지역 배율은 0 이상 " + MAX_MULTIPLIER_PERCENT + "% 이하여야 합니다: " + entry.getKey());
+            }
+            districtKeywords[i] = entry.getKey();
+            districtPercents[i] = percent;
+            i++;
+        }
+
+        return new PointRules(version, definition, basePoints, firstOfDayBonus,
+                confidenceBands, streakBonuses, markerAgeBonuses, districtKeywords, districtPercents);
+    }
+
+    /**
+     * 청소 인증 적립 포인트를 계산합니다. DB를 조회하지 않으며 결과 객체 외에는 할당하지 않습니다.
+     *
+     * @param confidence AI 검증 신뢰도 (없으면 null)
+     * @param address 마커 주소 (없으면 null)
+     * @param markerAgeHours 마커 신고 후 경과 시간
+     * @param firstOfDay 오늘 첫 청소 인증인지 여부
+     * @param streakDays 오늘을 포함한 연속 청소 일수
+     * @return 계산 결과
+     */
+    public PointAward evaluate(Double confidence, String address, long markerAgeHours,
+                               boolean firstOfDay, int streakDays) {
+        int confidenceBonus = confidence != null ? confidenceBands.lookup(Math.round(confidence * 1_000_000)) : 0;
+        int activityBonus = (firstOfDay ? firstOfDayBonus : 0) + streakBonuses.lookup(streakDays);
+        int ageBonus = markerAgeBonuses.lookup(markerAgeHours);
+
+        int multiplierPercent = 100;
+        if (address != null && districtKeywords.length > 0) {
+            int best = -1;
+            for (int i = 0; i < districtKeywords.length; i++) {
+                if (districtPercents[i] > best && address.contains(districtKeywords[i])) {
+                    best = districtPercents[i];
+                }
+            }
+            if (best >= 0) {
+                multiplierPercent = best;
+            }
+        }
+
+        long subtotal = (long) basePoints + confidenceBonus + activityBonus + ageBonus;
+        int total = (int) Math.min(Integer.MAX_VALUE, subtotal * multiplierPercent / 100);
+        return new PointAward(total, basePoints, confidenceBonus, activityBonus, ageBonus, multiplierPercent, version);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int basePoints() {
+        return basePoints;
+    }
+
+    public Definition definition() {
+        return definition;
+    }
+
+    /**
+     * 규칙 정의 (설정 파일 또는 DB 규칙 세트의 원본 값)
+     */
+    public record Definition(Integer basePoints, String confidenceBands, Integer firstOfDayBonus,
+                             String streakBonuses, String districtMultipliers, String markerAgeBonuses) {
+    }
+
+    /**
+     * 청소 인증 시점의 활동 상태 (오늘 첫 청소/연속 청소 규칙용)
+     *
+     * @param firstOfDay 오늘 첫 청소 인증인지 여부
+     * @param streakDays 오늘을 포함한 연속 청소 일수
+     */
+    public record Activity(boolean firstOfDay, int streakDays) {
+
+        /**
+         * 사용자 행에 저장된 마지막 청소 날짜와 연속 청소 일수로 이번 청소 인증의 활동 상태를 계산합니다.
+         * 마지막 청소가 오늘이면 연속 일수를 그대로, 어제면 하루 늘리고, 그 전이거나 없으면 1일부터 다시 셉니다.
+         *
+         * @param lastCleanupDate 마지막 청소 인증 날짜 (없으면 null)
+         * @param streakDays 마지막 청소 인증 날짜까지의 연속 청소 일수
+         * @param today 이번 청소 인증 날짜
+         * @return 이번 청소 인증의 활동 상태
+         */
+        public static Activity of(LocalDate lastCleanupDate, int streakDays, LocalDate today) {
+            if (lastCleanupDate == null || lastCleanupDate.isBefore(today.minusDays(1))) {
+                return new Activity(true, 1);
+            }
+            if (lastCleanupDate.isBefore(today)) {
+                return new Activity(true, Math.max(1, streakDays) + 1);
+            }
+            return new Activity(false, Math.max(1, streakDays));
+        }
+    }
+
+    /**
+     * 적립 포인트 계산 결과
+     *
+     * @param points 적립 포인트
+     * @param basePoints 기본 포인트
+     * @param confidenceBonus 신뢰도 구간 보너스
+     * @param activityBonus 오늘 첫 청소 + 연속 청소 보너스
+     * @param markerAgeBonus 마커 경과 시간 보너스
+     * @param multiplierPercent 적용된 지역 배율 (%)
+     * @param ruleVersion 계산에 사용한 규칙 버전
+     */
+    public record PointAward(int points, int basePoints, int confidenceBonus, int activityBonus,
+                             int markerAgeBonus, int multiplierPercent, long ruleVersion) {
+    }
+
+    private static int nonNegative(Integer value, String name) {
+        if (value == null) {
+            return 0;
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException(name + "는 0 이상이어야 합니다: " + value);
+        }
+        return value;
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * "키=값,키=값" 형식을 선언 순서대로 파싱합니다.
+     */
+    private static Map<String, String> parsePairs(String source, String name) {
+        Map<String, String> pairs = new LinkedHashMap<>();
+        if (source == null || source.isBlank()) {
+            return pairs;
+        }
+        for (String token : source.split(",")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            int separator = token.indexOf('=');
+            if (separator <= 0 || separator == token.length() - 1) {
+                throw new IllegalArgumentException(name + " 규칙 형식이 잘못되었습니다 (키=값): " + token.trim());
+            }
+            String key = token.substring(0, separator).trim();
+            if (pairs.put(key, token.substring(separator + 1).trim()) != null) {
+                throw new IllegalArgumentException(name + " 규칙에 같은 키가 두 번 있습니다: " + key);
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * 임계값 오름차순 구간 규칙. 값 이상인 가장 높은 임계값의 보너스 하나를 적용합니다.
+     */
+    private static final class Tiers {
+
+        private static final Tiers EMPTY = new Tiers(new long[0], new int[0]);
+
+        private final long[] thresholds;
+        private final int[] bonuses;
+
+        private Tiers(long[] thresholds, int[] bonuses) {
+            this.thresholds = thresholds;
+            this.bonuses = bonuses;
+        }
+
+        static Tiers parse(String source, String name, Function<String, Long> keyParser) {
+            Map<String, String> pairs = parsePairs(source, name);
+            if (pairs.isEmpty()) {
+                return EMPTY;
+            }
+            TreeMap<Long, Integer> sorted = new TreeMap<>();
+            for (Map.Entry<String, String> entry : pairs.entrySet()) {
+                long threshold;
+                try {
+                    threshold = keyParser.apply(entry.getKey());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(name + " 기준값이 숫자가 아닙니다: " + entry.getKey());
+                }
+                int bonus = parseInt(entry.getValue(), name);
+                if (bonus < 0) {
+                    throw new IllegalArgumentException(name + " 보너스는 0 이상이어야 합니다: " + entry.getValue());
+                }
+                if (sorted.put(threshold, bonus) != null) {
+                    throw new IllegalArgumentException(name + " 규칙에 같은 기준값이 두 번 있습니다: " + entry.getKey());
+                }
+            }
+            List<Map.Entry<Long, Integer>> entries = new ArrayList<>(sorted.entrySet());
+            long[] thresholds = new long[entries.size()];
+            int[] bonuses = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                thresholds[i] = entries.get(i).getKey();
+                bonuses[i] = entries.get(i).getValue();
+            }
+            return new Tiers(thresholds, bonuses);
+        }
+
+        int lookup(long value) {
+            // 구간은 많아야 수십 개라 뒤에서부터 선형 탐색
+            for (int i = thresholds.length - 1; i >= 0; i--) {
+                if (value >= thresholds[i]) {
+                    return bonuses[i];
+                }
+            }
+            return 0;
+        }
+    }
+}
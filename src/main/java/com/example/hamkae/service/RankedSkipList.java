@@ -0,0 +1,170 @@
+package com.example.hamkae.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 스킵 리스트 (order-statistic skip list)
+ * (점수 내림차순, 사용자 ID 오름차순)으로 정렬하며, 각 링크에 건너뛰는 노드 수(span)를 함께 저장해
+ * 삽입/삭제/순위 조회를 평균 O(log n), 상위 K개 조회를 O(log n + K)에 처리합니다.
+ * 동기화하지 않으므로 호출하는 쪽에서 읽기/쓰기 잠금을 관리해야 합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(Long.MAX_VALUE, Long.MIN_VALUE, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    /**
+     * 항목을 추가합니다. 같은 (점수, 사용자 ID)가 이미 있는지는 확인하지 않습니다.
+     */
+    void insert(long score, long userId) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && x.next[i].precedes(score, userId)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        Node node = new Node(score, userId, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * 항목을 삭제합니다.
+     *
+     * @return 삭제했으면 true, 없었으면 false
+     */
+    boolean delete(long score, long userId) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].precedes(score, userId)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        Node target = x.next[0];
+        if (target == null || target.score != score || target.userId != userId) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 정렬 순서에서 (점수, 사용자 ID)보다 앞에 있는 항목 수를 셉니다.
+     * 사용자 ID에 {@link Long#MIN_VALUE}를 넘기면 점수가 더 높은 항목 수가 됩니다.
+     */
+    int countBefore(long score, long userId) {
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].precedes(score, userId)) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * 앞에서부터 최대 limit개의 항목을 반환합니다.
+     *
+     * @return {점수, 사용자 ID} 배열 목록
+     */
+    List<long[]> top(int limit) {
+        List<long[]> result = new ArrayList<>(Math.min(limit, size));
+        for (Node x = head.next[0]; x != null && result.size() < limit; x = x.next[0]) {
+            result.add(new long[]{x.score, x.userId});
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    private static int randomLevel() {
+        int newLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (newLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    private static final class Node {
+        private final long score;
+        private final long userId;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(long score, long userId, int level) {
+            this.score = score;
+            this.userId = userId;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+
+        /**
+         * 이 노드가 (점수, 사용자 ID)보다 정렬 순서에서 앞에 있는지 여부
+         */
+        private boolean precedes(long otherScore, long otherUserId) {
+            return score > otherScore || (score == otherScore && userId < otherUserId);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.hamkae.service;
 
+import com.example.hamkae.DTO.CursorPageResponseDTO;
 import com.example.hamkae.domain.Reward;
 import com.example.hamkae.domain.RewardPin;
 import com.example.hamkae.domain.User;
 import com.example.hamkae.repository.RewardPinRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -118,14 +120,23 @@ public class RewardPinService {
     }
 
     /**
-     * 특정 사용자의 모든 핀번호를 조회합니다.
+     * 특정 사용자의 핀번호를 커서 위치부터 최신순으로 한 페이지 조회합니다.
+     * 커서는 핀번호와 1:1로 연결된 교환 요청의 (생성일시, ID)이며, 다음 페이지 존재 여부를 알 수 있도록 한 건 더 조회합니다.
      * 
      * @param user 조회할 사용자
-     * @return 핀번호 목록 (최신순)
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 핀번호 목록 (최신순, 최대 size + 1건)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
      */
-    public List<RewardPin> getPinsByUser(User user) {
-        log.debug("사용자 핀번호 목록 조회: 사용자={}", user.getUsername());
-        return rewardPinRepository.findByUserOrderByIssuedAtDesc(user);
+    public List<RewardPin> getPinPage(User user, String cursor, int size) {
+        log.debug("사용자 핀번호 목록 조회: 사용자={}, 커서={}, 크기={}", user.getUsername(), cursor, size);
+        CursorPageResponseDTO.Cursor position = CursorPageResponseDTO.Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        if (position == null) {
+            return rewardPinRepository.findFirstPageByUser(user.getId(), limit);
+        }
+        return rewardPinRepository.findPageByUserAfter(user.getId(), position.createdAt(), position.id(), limit);
     }
 
     /**
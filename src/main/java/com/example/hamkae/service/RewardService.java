@@ -1,10 +1,12 @@
 package com.example.hamkae.service;
 
+import com.example.hamkae.DTO.CursorPageResponseDTO;
 import com.example.hamkae.domain.Reward;
 import com.example.hamkae.domain.User;
 import com.example.hamkae.repository.RewardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,9 +28,9 @@ import java.util.List;
 public class RewardService {
 
     private final RewardRepository rewardRepository;
-    private final PointHistoryService pointHistoryService;
-    private final UserService userService;
+    private final PointLedgerService pointLedgerService;
     private final RewardPinService rewardPinService;
+    private final PointMonthlyRollupService monthlyRollupService;
 
     /**
      * 상품권 교환을 즉시 처리합니다. (관리자 승인 과정 없이 바로 핀번호 발급)
@@ -55,13 +57,8 @@ public class RewardService {
             throw new IllegalArgumentException("상품권 타입을 입력해주세요.");
         }
 
-        // 포인트 부족 검증
-        if (!user.hasEnoughPoints(pointsToUse)) {
-            throw new IllegalStateException("보유 포인트가 부족합니다. 현재: " + user.getPoints() + ", 필요: " + pointsToUse);
-        }
-
-        // 포인트 차감
-        user.usePoints(pointsToUse);
+        // 포인트 차감 및 원장 기록 (잔액 확인과 차감을 한 문장으로 수행, 부족하면 IllegalStateException)
+        pointLedgerService.spend(user, pointsToUse, "상품권 교환 완료: " + rewardType);
         
         // 상품권 교환 정보 생성 (즉시 승인 상태)
         Reward reward = Reward.builder()
@@ -85,15 +82,13 @@ public class RewardService {
             log.info("상품권 교환 및 핀번호 발급 완료: ID={}", savedReward.getId());
         } catch (Exception e) {
             log.error("핀번호 발급 실패: rewardId={}", savedReward.getId(), e);
-            // 핀번호 발급 실패 시 상품권 교환도 취소
-            user.addPoints(pointsToUse); // 포인트 복구
+            // 핀번호 발급 실패 시 상품권 교환도 취소 (포인트 차감과 원장은 같은 트랜잭션이므로 예외로 롤백되며 복구됨)
             rewardRepository.delete(savedReward);
             throw new RuntimeException("상품권 교환 중 오류가 발생했습니다. 다시 시도해주세요.", e);
         }
         
-        // 포인트 사용 이력 생성
-        pointHistoryService.createUsedHistory(user, pointsToUse, 
-                "상품권 교환 완료: " + rewardType);
+        // 월간 교환 통계 반영 (핀번호 발급까지 성공한 교환만)
+        monthlyRollupService.recordReward(savedReward);
         
         log.info("상품권 즉시 교환 완료: ID={}", savedReward.getId());
         return savedReward;
@@ -102,14 +97,23 @@ public class RewardService {
 
 
     /**
-     * 특정 사용자의 상품권 교환 요청을 최신순으로 조회합니다.
+     * 특정 사용자의 상품권 교환 요청을 커서 위치부터 최신순으로 한 페이지 조회합니다.
+     * 다음 페이지 존재 여부를 알 수 있도록 페이지 크기보다 한 건 더 조회합니다.
      * 
      * @param user 조회할 사용자
-     * @return 상품권 교환 요청 목록 (최신순)
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 상품권 교환 요청 목록 (최신순, 최대 size + 1건)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
      */
-    public List<Reward> getRewardsByUser(User user) {
-        log.debug("사용자 상품권 교환 요청 조회: 사용자={}", user.getUsername());
-        return rewardRepository.findByUserOrderByCreatedAtDesc(user);
+    public List<Reward> getRewardPage(User user, String cursor, int size) {
+        log.debug("사용자 상품권 교환 요청 조회: 사용자={}, 커서={}, 크기={}", user.getUsername(), cursor, size);
+        CursorPageResponseDTO.Cursor position = CursorPageResponseDTO.Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        if (position == null) {
+            return rewardRepository.findByUserIdOrderByCreatedAtDescIdDesc(user.getId(), limit);
+        }
+        return rewardRepository.findPageAfter(user.getId(), position.createdAt(), position.id(), limit);
     }
 
     /**
@@ -185,6 +189,7 @@ public class RewardService {
 
     /**
      * 특정 사용자의 월별 상품권 교환 통계를 조회합니다.
+     * 월간 집계 행 하나만 읽으므로 교환 이력이 늘어나도 조회 비용이 일정합니다.
      * 
      * @param user 조회할 사용자
      * @param year 조회할 연도
@@ -193,7 +198,7 @@ public class RewardService {
      */
     public Integer getMonthlyUsedPoints(User user, int year, int month) {
         log.debug("사용자 월별 사용 포인트 조회: 사용자={}, 연도={}, 월={}", user.getUsername(), year, month);
-        return rewardRepository.getMonthlyUsedPoints(user, year, month);
+        return monthlyRollupService.getMonthlyRewardPoints(user.getId(), year, month);
     }
 
     /**
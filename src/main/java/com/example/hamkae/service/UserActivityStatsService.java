@@ -0,0 +1,131 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.event.MarkerDeletedEvent;
+import com.example.hamkae.event.MarkerRegisteredEvent;
+import com.example.hamkae.event.PhotoUploadedEvent;
+import com.example.hamkae.event.PointsChangedEvent;
+import com.example.hamkae.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자 활동 통계 캐시 서비스
+ * 프로필/활동 요약에 쓰는 누적 적립/사용 포인트와 제보 마커, 업로드 사진, 상품권 교환, 핀번호 수를
+ * COUNT 프로젝션 한 문장으로 읽어 사용자별로 메모리에 캐시합니다. (크기와 TTL로 제한)
+ * 마커 등록/삭제, 사진 업로드, 포인트 변동(적립/교환/조정) 이벤트가 커밋되면 해당 사용자 항목을 무효화합니다.
+ * 커밋 후 증분을 더하는 방식은 그 사이에 새로 적재된 값에 같은 변동을 한 번 더 더할 수 있어, 무효화 후 다시 적재합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class UserActivityStatsService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, ActivityStats> cache;
+
+    public UserActivityStatsService(UserRepository userRepository,
+                                    @Value("${users.stats-cache.max-size:10000}") long maxSize,
+                                    @Value("${users.stats-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자의 활동 통계를 조회합니다. 캐시에 없으면 데이터베이스에서 읽어 적재합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 활동 통계
+     * @throws RuntimeException 사용자를 찾을 수 없는 경우
+     */
+    public ActivityStats get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * 사용자의 캐시된 활동 통계를 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    /**
+     * 마커 등록이 커밋되면 제보자의 통계를 무효화합니다.
+     *
+     * @param event 마커 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMarkerRegistered(MarkerRegisteredEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    /**
+     * 마커 삭제가 커밋되면 제보자와 사진을 올린 사용자들의 통계를 무효화합니다.
+     *
+     * @param event 마커 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMarkerDeleted(MarkerDeletedEvent event) {
+        cache.invalidateAll(event.getUserIds());
+    }
+
+    /**
+     * 사진 업로드가 커밋되면 업로드한 사용자의 통계를 무효화합니다.
+     *
+     * @param event 사진 업로드 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPhotoUploaded(PhotoUploadedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    /**
+     * 포인트 원장 기록이 커밋되면 통계를 무효화합니다.
+     * 상품권 교환은 차감, 교환 내역, 핀번호 발급이 한 트랜잭션이므로 이 이벤트 하나로 함께 반영됩니다.
+     *
+     * @param event 포인트 변동 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsChanged(PointsChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    private ActivityStats load(Long userId) {
+        UserRepository.ActivityStatsRow row = userRepository.findActivityStatsById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        log.debug("사용자 활동 통계 적재: userId={}", userId);
+        return new ActivityStats(row.getTotalEarnedPoints(), row.getTotalUsedPoints(),
+                row.getReportedMarkersCount().intValue(), row.getUploadedPhotosCount().intValue(),
+                row.getRewardExchangeCount().intValue(), row.getIssuedPinsCount().intValue());
+    }
+
+    /**
+     * 사용자 활동 통계 (불변)
+     *
+     * @param totalEarnedPoints 누적 적립 포인트
+     * @param totalUsedPoints 누적 사용 포인트
+     * @param reportedMarkersCount 제보한 마커 수
+     * @param uploadedPhotosCount 업로드한 사진 수
+     * @param rewardExchangeCount 상품권 교환 수
+     * @param issuedPinsCount 발급받은 핀번호 수
+     */
+    public record ActivityStats(int totalEarnedPoints, int totalUsedPoints, int reportedMarkersCount,
+                                int uploadedPhotosCount, int rewardExchangeCount, int issuedPinsCount) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.GptVerificationResponseDTO;
+import com.example.hamkae.domain.VerificationCacheEntry;
+import com.example.hamkae.repository.VerificationCacheEntryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 검증 결과 캐시 서비스
+ * 이미지 내용 해시 기반으로 검증 결과를 2단계(메모리 → DB)로 캐시하여
+ * 동일한 이미지 쌍이 OpenAI로 두 번 전송되지 않도록 합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class VerificationCacheService {
+
+    private final VerificationCacheEntryRepository cacheEntryRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Cache<String, VerificationCacheEntry> memoryCache;
+
+    public VerificationCacheService(VerificationCacheEntryRepository cacheEntryRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${ai.verification.cache.max-size:10000}") long maxSize,
+                                    @Value("${ai.verification.cache.expire-after-access-minutes:1440}") long expireAfterAccessMinutes) {
+        this.cacheEntryRepository = cacheEntryRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    /**
+     * 캐시된 검증 결과를 조회합니다.
+     * 메모리에 없으면 DB를 조회하고, 찾은 결과는 메모리에 적재합니다.
+     *
+     * @param key 캐시 키
+     * @return 캐시된 검증 결과 (없으면 empty)
+     */
+    public Optional<GptVerificationResponseDTO> get(CacheKey key) {
+        String digest = key.digest();
+        // 판단 근거 컬럼 길이(500자)를 넘으면 저장이 실패하므로 검증 시도 기록과 같이 잘라서 저장
+        String reason = result.getReason();
+        VerificationCacheEntry entry = memoryCache.getIfPresent(digest);
+        if (entry == null) {
+            entry = cacheEntryRepository.findByCacheKey(digest).orElse(null);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            memoryCache.put(digest, entry);
+        }
+
+        log.debug("검증 결과 캐시 적중: key={}", digest);
+        return Optional.of(GptVerificationResponseDTO.builder()
+                .success(true)
+                .verificationResult(entry.getVerificationResult())
+                .confidence(entry.getConfidence())
+                .reason(entry.getReason())
+                .gptResponse(entry.getGptResponse())
+                .verifiedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .build());
+    }
+
+    /**
+     * 성공한 검증 결과를 캐시에 저장합니다.
+     * DB 저장은 별도 트랜잭션으로 수행하여, 다른 노드와의 경합으로 인한 중복 키 오류가
+     * 호출자의 트랜잭션에 영향을 주지 않도록 합니다.
+     *
+     * @param key 캐시 키
+     * @param result 저장할 검증 결과 (성공한 결과만 저장)
+     */
+    public void put(CacheKey key, GptVerificationResponseDTO result) {
+        if (!result.isSuccess()) {
+            return;
+        }
+
+        String digest = key.digest();
+        // 판단 근거 컬럼 길이(500자)를 넘으면 저장이 실패하므로 검증 시도 기록과 같이 잘라서 저장
+        String reason = result.getReason();
+        VerificationCacheEntry entry = VerificationCacheEntry.builder()
+                .cacheKey(digest)
+                .beforeHash(key.beforeHash())
+                .afterHash(key.afterHash())
+                .model(key.model())
+                .promptVersion(key.promptVersion())
+                .verificationResult(result.getVerificationResult())
+                .confidence(result.getConfidence())
+                .reason(reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason)
+                .gptResponse(result.getGptResponse())
+                .build();
+        memoryCache.put(digest, entry);
+
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                if (cacheEntryRepository.findByCacheKey(digest).isEmpty()) {
+                    cacheEntryRepository.save(entry);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("검증 결과 캐시가 이미 저장되어 있습니다: key={}", digest);
+        } catch (Exception e) {
+            log.warn("검증 결과 캐시 DB 저장 실패: key={}", digest, e);
+        }
+    }
+
+    /**
+     * 여러 이미지의 내용 해시를 캐시 키 구성 요소 하나로 합칩니다.
+     * 이미지가 1장이면 해시를 그대로 사용하므로 단건 검증 시절의 캐시 항목과 호환됩니다.
+     *
+     * @param hashes 이미지 내용 해시 목록
+     * @return 합쳐진 해시 (64자)
+     */
+    public static String combineHashes(List<String> hashes) {
+        if (hashes.size() == 1) {
+            return hashes.get(0);
+        }
+        String joined = String.join(",", hashes.stream().sorted().toList());
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(joined.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 검증 결과 캐시 키
+     *
+     * @param beforeHash 청소 전 이미지 내용 해시 (여러 장이면 {@link #combineHashes(List)} 결과)
+     * @param afterHash 청소 후 이미지 내용 해시 (여러 장이면 {@link #combineHashes(List)} 결과)
+     * @param model 모델명
+     * @param promptVersion 프롬프트 버전
+     */
+    public record CacheKey(String beforeHash, String afterHash, String model, String promptVersion) {
+
+        /**
+         * 구성 요소 전체를 SHA-256으로 요약한 저장용 키를 반환합니다.
+         *
+         * @return 16진수 키 문자열 (64자)
+         */
+        public String digest() {
+            String raw = beforeHash + ":" + afterHash + ":" + model + ":" + promptVersion;
+            try {
+                MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(sha256.digest(raw.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.Photo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * AI 검증에 보낼 사진을 고르는 컴포넌트
+ * 마커에 사진이 여러 장이면 선명도(라플라시안 분산) 순으로 정렬한 뒤,
+ * 지각 해시(dHash)가 이미 고른 사진과 충분히 다른 사진만 최대 개수까지 고릅니다.
+ * 한 번의 모델 호출에 담는 이미지 수를 제한해 사진 수가 늘어도 요청 비용이 선형으로 늘지 않게 합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class VerificationImageSelector {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    /**
+     * 라플라시안 응답 절댓값이 이 값 이상인 픽셀을 윤곽(edge)으로 셈
+     */
+    private static final int EDGE_THRESHOLD = 32;
+
+    private final ImageValidationService imageValidationService;
+    private final Cache<Path, ImageFeatures> featureCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    /**
+     * 한 쪽(BEFORE 또는 AFTER)에서 보낼 최대 사진 수
+     */
+    private final int maxPerSide;
+
+    /**
+     * 이 값 이하의 해밍 거리를 가진 사진은 같은 장면으로 보고 제외
+     */
+    private final int duplicateHammingDistance;
+
+    public VerificationImageSelector(ImageValidationService imageValidationService,
+                                     @Value("${ai.verification.multi-image.max-per-side:3}") int maxPerSide,
+                                     @Value("${ai.verification.multi-image.duplicate-hamming-distance:10}") int duplicateHammingDistance) {
+        this.imageValidationService = imageValidationService;
+        this.maxPerSide = Math.max(1, maxPerSide);
+        this.duplicateHammingDistance = duplicateHammingDistance;
+    }
+
+    /**
+     * 검증에 보낼 사진을 고릅니다.
+     * 선명한 사진부터 고르며, 이미 고른 사진과 거의 같은 사진은 건너뜁니다.
+     *
+     * @param photos 후보 사진 목록 (같은 마커, 같은 타입)
+     * @return 선택된 사진 (선명도 내림차순, 최소 1장)
+     * @throws IOException 파생 이미지 생성 또는 읽기 실패 시
+     */
+    public List<SelectedImage> select(List<Photo> photos) throws IOException {
+        List<SelectedImage> candidates = new ArrayList<>(photos.size());
+        for (Photo photo : photos) {
+            Path derivative = imageValidationService.resolveDerivativePath(photo.getImagePath());
+            candidates.add(new SelectedImage(photo, derivative, features(derivative)));
+        }
+        if (candidates.size() <= 1) {
+            return candidates;
+        }
+
+        candidates.sort(Comparator.comparingDouble((SelectedImage image) -> image.features().sharpness()).reversed());
+
+        List<SelectedImage> selected = new ArrayList<>(maxPerSide);
+        for (SelectedImage candidate : candidates) {
+            if (selected.size() >= maxPerSide) {
+                break;
+            }
+            boolean duplicate = selected.stream().anyMatch(chosen ->
+                    Long.bitCount(chosen.features().dHash() ^ candidate.features().dHash()) <= duplicateHammingDistance);
+            if (!duplicate) {
+                selected.add(candidate);
+            }
+        }
+
+        log.debug("검증용 사진 선택: 후보 {}장 -> {}장", candidates.size(), selected.size());
+        return selected;
+    }
+
+    private ImageFeatures features(Path derivative) throws IOException {
+        ImageFeatures cached = featureCache.getIfPresent(derivative);
+        if (cached != null) {
+            return cached;
+        }
+
+        BufferedImage image = ImageIO.read(derivative.toFile());
+        if (image == null) {
+            throw new IOException("이미지를 읽을 수 없습니다: " + derivative);
+        }
+        ImageFeatures features = laplacianFeatures(image, differenceHash(image));
+        featureCache.put(derivative, features);
+        return features;
+    }
+
+    /**
+     * 그레이스케일 라플라시안 응답의 분산과 윤곽 밀도를 한 번에 계산합니다.
+     * 분산이 클수록 윤곽이 뚜렷한(흔들림/초점 흐림이 적은) 사진이고,
+     * 윤곽 밀도(윤곽 픽셀 비율)가 높을수록 물체가 많은 복잡한 장면입니다.
+     */
+    private static ImageFeatures laplacianFeatures(BufferedImage image, long dHash) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width < 3 || height < 3) {
+            return new ImageFeatures(0.0, 0.0, dHash);
+        }
+
+        int[] gray = toGray(image.getRGB(0, 0, width, height, null, 0, width));
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        long edges = 0;
+        long count = 0;
+        for (int y = 1; y < height - 1; y++) {
+            int row = y * width;
+            for (int x = 1; x < width - 1; x++) {
+                int i = row + x;
+                int laplacian = gray[i - width] + gray[i + width] + gray[i - 1] + gray[i + 1] - 4 * gray[i];
+                sum += laplacian;
+                sumSquares += (double) laplacian * laplacian;
+                if (Math.abs(laplacian) >= EDGE_THRESHOLD) {
+                    edges++;
+                }
+                count++;
+            }
+        }
+        double mean = sum / count;
+        return new ImageFeatures(sumSquares / count - mean * mean, (double) edges / count, dHash);
+    }
+
+    /**
+     * 64비트 차이 해시(dHash)를 계산합니다. 9x8로 축소한 그레이스케일에서 가로로 이웃한 픽셀의 밝기 비교 결과를 비트로 씁니다.
+     */
+    private static long differenceHash(BufferedImage image) {
+        BufferedImage small = new BufferedImage(HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = small.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(image, 0, 0, HASH_WIDTH, HASH_HEIGHT, null);
+        g2d.dispose();
+
+        int[] gray = toGray(small.getRGB(0, 0, HASH_WIDTH, HASH_HEIGHT, null, 0, HASH_WIDTH));
+        long hash = 0L;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                hash <<= 1;
+                if (gray[y * HASH_WIDTH + x] < gray[y * HASH_WIDTH + x + 1]) {
+                    hash |= 1L;
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static int[] toGray(int[] rgb) {
+        int[] gray = new int[rgb.length];
+        for (int i = 0; i < rgb.length; i++) {
+            int r = (rgb[i] >> 16) & 0xff;
+            int g = (rgb[i] >> 8) & 0xff;
+            int b = rgb[i] & 0xff;
+            gray[i] = (r * 299 + g * 587 + b * 114) / 1000;
+        }
+        return gray;
+    }
+
+    /**
+     * 사진 선택에 쓰는 특징값
+     *
+     * @param sharpness 선명도 (라플라시안 분산)
+     * @param edgeDensity 윤곽 밀도 (0.0 ~ 1.0, 장면 복잡도/물체 밀도의 근사값)
+     * @param dHash 64비트 지각 해시
+     */
+    public record ImageFeatures(double sharpness, double edgeDensity, long dHash) {
+    }
+
+    /**
+     * 선택된 사진
+     *
+     * @param photo 사진
+     * @param derivative 전송할 파생 이미지 경로
+     * @param features 특징값
+     */
+    public record SelectedImage(Photo photo, Path derivative, ImageFeatures features) {
+    }
+}
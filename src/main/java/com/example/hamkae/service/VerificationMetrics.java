@@ -0,0 +1,234 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.ChatCompletionResponseDTO;
+import com.example.hamkae.DTO.GptVerificationResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 검증 파이프라인의 지연/비용 지표를 기록하는 컴포넌트
+ * 단계별 소요 시간, OpenAI 토큰 사용량, 판정 결과 비율, 스케줄러 큐 상태를 Micrometer로 기록하며
+ * Actuator의 /actuator/prometheus 로 노출됩니다.
+ *
+ * <ul>
+ *     <li>hamkae.verification.stage (timer, stage/outcome): 단계별 소요 시간</li>
+ *     <li>hamkae.verification.duration (timer, result/source): 검증 1건 전체 소요 시간</li>
+ *     <li>hamkae.verification.results (counter, result/source): 판정 결과 수 (APPROVED/REJECTED/RETRY_LATER/ERROR)</li>
+ *     <li>hamkae.openai.tokens (counter, type/model): 입력/출력 토큰 수</li>
+ *     <li>hamkae.openai.retries (counter): OpenAI 호출 재시도 횟수</li>
+ *     <li>hamkae.verification.scheduler.queued / in.flight (gauge, priority): 우선순위별 대기/실행 작업 수</li>
+ *     <li>hamkae.verification.shadow.comparisons (counter, model/detail/agreement): 섀도 판정 비교 결과 수</li>
+ *     <li>hamkae.verification.shadow.latency (timer, model/detail): 섀도 모델 호출 소요 시간</li>
+ *     <li>hamkae.verification.shadow.skipped (counter, reason): 한도/큐 초과로 건너뛴 섀도 검증 수</li>
+ *     <li>hamkae.verification.image.profile (counter, profile): 모델 호출에 사용한 전송 이미지 프로필 수</li>
+ *     <li>hamkae.verification.escalations (counter, outcome): high detail 재확인 결과 수</li>
+ * </ul>
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class VerificationMetrics {
+
+    /**
+     * 검증 단계
+     */
+    public enum Stage {
+        /**
+         * 원본 이미지 읽기 (내용 해시, 선명도/지각 해시 계산)
+         */
+        IMAGE_LOAD("image_load"),
+        /**
+         * 전송용 파생 이미지 생성 (디코딩, 축소, JPEG 재인코딩)
+         */
+        ENCODE("encode"),
+        /**
+         * OpenAI 왕복 (요청 본문 스트리밍과 재시도 대기 포함)
+         */
+        HTTP("http"),
+        /**
+         * 응답 파싱
+         */
+        PARSE("parse"),
+        /**
+         * 검증 결과 반영 트랜잭션
+         */
+        PERSIST("persist");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 예외를 던질 수 있는 측정 대상 작업
+     */
+    @FunctionalInterface
+    public interface StageTask<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Counter retryCounter;
+
+    public VerificationMetrics(MeterRegistry meterRegistry, VerificationScheduler verificationScheduler) {
+        this.meterRegistry = meterRegistry;
+        this.retryCounter = Counter.builder("hamkae.openai.retries")
+                .description("OpenAI 호출 재시도 횟수")
+                .register(meterRegistry);
+
+        for (VerificationScheduler.Priority priority : VerificationScheduler.Priority.values()) {
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("hamkae.verification.scheduler.queued", verificationScheduler, s -> s.getQueueDepth(priority))
+                    .description("우선순위별 대기 중인 검증 작업 수")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            Gauge.builder("hamkae.verification.scheduler.in.flight", verificationScheduler, s -> s.getInFlight(priority))
+                    .description("우선순위별 실행 중인 검증 작업 수")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 시간 측정을 시작합니다.
+     *
+     * @return 측정 샘플
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 단계 소요 시간을 기록합니다.
+     *
+     * @param sample {@link #start()}로 시작한 샘플
+     * @param stage 단계
+     * @param success 단계 성공 여부
+     */
+    public void stopStage(Timer.Sample sample, Stage stage, boolean success) {
+        sample.stop(Timer.builder("hamkae.verification.stage")
+                .description("AI 검증 단계별 소요 시간")
+                .tag("stage", stage.tag)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry));
+    }
+
+    /**
+     * 작업을 실행하며 단계 소요 시간을 기록합니다. 예외가 나면 실패로 기록하고 그대로 던집니다.
+     *
+     * @param stage 단계
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public <T, E extends Exception> T time(Stage stage, StageTask<T, E> task) throws E {
+        Timer.Sample sample = start();
+        boolean success = false;
+        try {
+            T result = task.call();
+            success = true;
+            return result;
+        } finally {
+            stopStage(sample, stage, success);
+        }
+    }
+
+    /**
+     * 검증 1건의 전체 소요 시간과 판정 결과를 기록합니다.
+     *
+     * @param sample 검증 시작 시점에 시작한 샘플
+     * @param result 검증 결과
+     * @param source 결과 출처 (cache 또는 model)
+     */
+    public void recordResult(Timer.Sample sample, GptVerificationResponseDTO result, String source) {
+        String outcome = resultTag(result);
+        sample.stop(Timer.builder("hamkae.verification.duration")
+                .description("AI 검증 1건의 전체 소요 시간")
+                .tag("result", outcome)
+                .tag("source", source)
+                .register(meterRegistry));
+        meterRegistry.counter("hamkae.verification.results", "result", outcome, "source", source).increment();
+    }
+
+    /**
+     * 응답의 usage 블록에서 토큰 사용량을 기록합니다.
+     *
+     * @param response Chat Completions 응답
+     * @param model 요청한 모델명
+     */
+    public void recordUsage(ChatCompletionResponseDTO response, String model) {
+        if (response == null || response.usage() == null) {
+            return;
+        }
+        meterRegistry.counter("hamkae.openai.tokens", "type", "prompt", "model", model)
+                .increment(response.usage().promptTokens());
+        meterRegistry.counter("hamkae.openai.tokens", "type", "completion", "model", model)
+                .increment(response.usage().completionTokens());
+    }
+
+    /**
+     * OpenAI 호출 재시도 1회를 기록합니다.
+     */
+    public void recordRetry() {
+        retryCounter.increment();
+    }
+
+    /**
+     * 섀도 판정 비교 결과를 기록합니다.
+     *
+     * @param model 섀도 모델명
+     * @param detail 섀도 이미지 해상도 수준
+     * @param agreement agree, disagree 또는 error
+     * @param latencyMs 섀도 모델 호출 소요 시간 (밀리초)
+     */
+    public void recordShadowComparison(String model, String detail, String agreement, long latencyMs) {
+        meterRegistry.counter("hamkae.verification.shadow.comparisons",
+                "model", model, "detail", detail, "agreement", agreement).increment();
+        Timer.builder("hamkae.verification.shadow.latency")
+                .description("섀도 모델 호출 소요 시간")
+                .tag("model", model)
+                .tag("detail", detail)
+                .register(meterRegistry)
+                .record(java.time.Duration.ofMillis(latencyMs));
+    }
+
+    /**
+     * 건너뛴 섀도 검증을 기록합니다.
+     *
+     * @param reason budget(섀도 호출 한도 초과) 또는 queue(스케줄러 큐 포화)
+     */
+    public void recordShadowSkipped(String reason) {
+        meterRegistry.counter("hamkae.verification.shadow.skipped", "reason", reason).increment();
+    }
+
+    /**
+     * 모델 호출에 사용한 전송 이미지 프로필을 기록합니다.
+     *
+     * @param profile 프로필 이름
+     */
+    public void recordImageProfile(String profile) {
+        meterRegistry.counter("hamkae.verification.image.profile", "profile", profile).increment();
+    }
+
+    /**
+     * high detail 재확인 결과를 기록합니다.
+     *
+     * @param outcome confirmed(판정 유지), changed(판정 변경) 또는 failed(재확인 실패, low detail 판정 사용)
+     */
+    public void recordEscalation(String outcome) {
+        meterRegistry.counter("hamkae.verification.escalations", "outcome", outcome).increment();
+    }
+
+    private static String resultTag(GptVerificationResponseDTO result) {
+        if (result.isSuccess()) {
+            return result.getVerificationResult();
+        }
+        return "RETRY_LATER".equals(result.getVerificationResult()) ? "RETRY_LATER" : "ERROR";
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.hamkae.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 우선순위 기반 AI 검증 작업 스케줄러
+ * 검증 작업을 우선순위 클래스별 큐에 넣고, 가중치 기반 공정 분배(smooth weighted round-robin)로 꺼내 실행합니다.
+ * 클래스별 동시 실행 수 상한을 두어 관리자 재검증이나 대량 재검증이 쌓여도 사용자 첫 검증이 작업자를 독점당하지 않도록 합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class VerificationScheduler {
+
+    /**
+     * 검증 작업 우선순위 클래스
+     */
+    public enum Priority {
+        /**
+         * 사용자가 청소 인증 사진을 올린 직후의 첫 검증 (화면에서 결과를 기다림)
+         */
+        INTERACTIVE,
+        /**
+         * 관리자가 요청한 수동 검증
+         */
+        MANUAL,
+        /**
+         * 대량 재검증, 보류 건 재처리 등 급하지 않은 작업
+         */
+        BULK
+    }
+
+    private final Map<Priority, JobClass> jobClasses = new EnumMap<>(Priority.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dispatchable = lock.newCondition();
+    private final List<Thread> workers = new ArrayList<>();
+    private final int workerCount;
+    private volatile boolean running;
+
+    public VerificationScheduler(
+            @Value("${ai.verification.scheduler.workers:10}") int workerCount,
+            @Value("${ai.verification.scheduler.queue-capacity:10000}") int queueCapacity,
+            @Value("${ai.verification.scheduler.interactive.weight:6}") int interactiveWeight,
+            @Value("${ai.verification.scheduler.interactive.max-concurrency:10}") int interactiveMaxConcurrency,
+            @Value("${ai.verification.scheduler.manual.weight:3}") int manualWeight,
+            @Value("${ai.verification.scheduler.manual.max-concurrency:3}") int manualMaxConcurrency,
+            @Value("${ai.verification.scheduler.bulk.weight:1}") int bulkWeight,
+            @Value("${ai.verification.scheduler.bulk.max-concurrency:2}") int bulkMaxConcurrency) {
+        this.workerCount = Math.max(1, workerCount);
+        jobClasses.put(Priority.INTERACTIVE, new JobClass(Priority.INTERACTIVE, interactiveWeight, interactiveMaxConcurrency, queueCapacity));
+        jobClasses.put(Priority.MANUAL, new JobClass(Priority.MANUAL, manualWeight, manualMaxConcurrency, queueCapacity));
+        jobClasses.put(Priority.BULK, new JobClass(Priority.BULK, bulkWeight, bulkMaxConcurrency, queueCapacity));
+    }
+
+    @PostConstruct
+    void startWorkers() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = Thread.ofPlatform()
+                    .name("verification-worker-" + i)
+                    .daemon()
+                    .start(this::runWorker);
+            workers.add(worker);
+        }
+        log.info("AI 검증 스케줄러 시작: 작업자 {}개", workerCount);
+    }
+
+    @PreDestroy
+    void stopWorkers() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 검증 작업을 우선순위 큐에 넣습니다.
+     *
+     * @param priority 우선순위 클래스
+     * @param task 실행할 작업
+     * @return 작업 결과 Future
+     * @throws RejectedExecutionException 해당 클래스의 큐가 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> submit(Priority priority, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        JobClass jobClass = jobClasses.get(priority);
+        lock.lock();
+        try {
+            if (jobClass.queue.size() >= jobClass.queueCapacity) {
+                throw new RejectedExecutionException(priority + " 검증 큐가 가득 찼습니다: " + jobClass.queue.size());
+            }
+            jobClass.queue.addLast(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            dispatchable.signal();
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    /**
+     * 클래스별 대기 중인 작업 수를 반환합니다.
+     *
+     * @param priority 우선순위 클래스
+     * @return 대기 작업 수
+     */
+    public int getQueueDepth(Priority priority) {
+        lock.lock();
+        try {
+            return jobClasses.get(priority).queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 클래스별 실행 중인 작업 수를 반환합니다.
+     *
+     * @param priority 우선순위 클래스
+     * @return 실행 중인 작업 수
+     */
+    public int getInFlight(Priority priority) {
+        lock.lock();
+        try {
+            return jobClasses.get(priority).inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            JobClass jobClass;
+            Runnable job;
+            lock.lock();
+            try {
+                while ((jobClass = selectNextClass()) == null) {
+                    dispatchable.await();
+                }
+                job = jobClass.queue.pollFirst();
+                jobClass.inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                job.run();
+            } finally {
+                lock.lock();
+                try {
+                    jobClass.inFlight--;
+                    // 동시 실행 상한 때문에 대기하던 작업이 있을 수 있으므로 다른 작업자를 깨움
+                    dispatchable.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * 대기 작업이 있고 동시 실행 상한에 걸리지 않은 클래스 중에서 다음에 실행할 클래스를 고릅니다.
+     * 가중치 비율대로 번갈아 선택되며, 낮은 우선순위도 굶지 않습니다. (lock을 보유한 상태에서 호출)
+     *
+     * @return 선택된 클래스 (실행 가능한 작업이 없으면 null)
+     */
+    private JobClass selectNextClass() {
+        JobClass selected = null;
+        int totalWeight = 0;
+        for (JobClass jobClass : jobClasses.values()) {
+            if (jobClass.queue.isEmpty() || jobClass.inFlight >= jobClass.maxConcurrency) {
+                continue;
+            }
+            jobClass.currentWeight += jobClass.weight;
+            totalWeight += jobClass.weight;
+            if (selected == null || jobClass.currentWeight > selected.currentWeight) {
+                selected = jobClass;
+            }
+        }
+        if (selected != null) {
+            selected.currentWeight -= totalWeight;
+        }
+        return selected;
+    }
+
+    /**
+     * 우선순위 클래스별 큐와 분배 상태 (lock으로 보호)
+     */
+    private static class JobClass {
+        final Priority priority;
+        final int weight;
+        final int maxConcurrency;
+        final int queueCapacity;
+        final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        int inFlight;
+        int currentWeight;
+
+        JobClass(Priority priority, int weight, int maxConcurrency, int queueCapacity) {
+            this.priority = priority;
+            this.weight = Math.max(1, weight);
+            this.maxConcurrency = Math.max(1, maxConcurrency);
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
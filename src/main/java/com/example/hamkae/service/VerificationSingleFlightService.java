@@ -0,0 +1,155 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.GptVerificationResponseDTO;
+import com.example.hamkae.repository.VerificationLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 마커 단위 AI 검증 단일 실행(single-flight) 서비스
+ * 같은 마커에 대한 검증이 동시에 요청되면 진행 중인 검증에 합류시켜 GPT 호출과 포인트 지급이 중복되지 않도록 합니다.
+ * 노드 내부는 진행 중인 작업 맵으로, 노드 간에는 DB 임대(verification_lease) 행으로 조정합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class VerificationSingleFlightService {
+
+    private final VerificationLeaseRepository leaseRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final ConcurrentHashMap<Long, CompletableFuture<GptVerificationResponseDTO>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 이 노드의 임대 소유자 식별자 (호스트명 + 기동 시 생성한 UUID)
+     */
+    private final String nodeId;
+
+    /**
+     * 임대 유효 시간 (초)
+     * 검증 1회에 걸리는 최대 시간(재시도 포함)보다 길어야 합니다.
+     */
+    @Value("${ai.verification.lease.ttl-seconds:300}")
+    private Long leaseTtlSeconds;
+
+    public VerificationSingleFlightService(VerificationLeaseRepository leaseRepository,
+                                           PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 마커 검증 작업을 단일 실행으로 수행합니다.
+     * 같은 노드에서 이미 진행 중이면 그 결과를 기다려 함께 반환하고,
+     * 다른 노드가 임대를 보유하고 있으면 실행하지 않고 empty를 반환합니다.
+     *
+     * @param markerId 마커 ID
+     * @param task 실제 검증 작업
+     * @return 검증 결과 (다른 노드에서 진행 중이거나 작업이 결과를 내지 않으면 empty)
+     */
+    public Optional<GptVerificationResponseDTO> execute(Long markerId, Supplier<GptVerificationResponseDTO> task) {
+        CompletableFuture<GptVerificationResponseDTO> flight = new CompletableFuture<>();
+        CompletableFuture<GptVerificationResponseDTO> existing = inFlight.putIfAbsent(markerId, flight);
+        if (existing != null) {
+            log.info("진행 중인 AI 검증에 합류: markerId={}", markerId);
+            return Optional.ofNullable(await(existing));
+        }
+
+        try {
+            if (!tryAcquireLease(markerId)) {
+                log.info("다른 노드에서 AI 검증 진행 중: markerId={}", markerId);
+                flight.complete(null);
+                return Optional.empty();
+            }
+
+            try {
+                GptVerificationResponseDTO result = task.get();
+                flight.complete(result);
+                return Optional.ofNullable(result);
+            } finally {
+                releaseLease(markerId);
+            }
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(markerId, flight);
+        }
+    }
+
+    /**
+     * 현재 이 노드에서 검증이 진행 중인지 확인합니다.
+     *
+     * @param markerId 마커 ID
+     * @return 진행 중이면 true
+     */
+    public boolean isInFlight(Long markerId) {
+        return inFlight.containsKey(markerId);
+    }
+
+    private GptVerificationResponseDTO await(CompletableFuture<GptVerificationResponseDTO> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean tryAcquireLease(Long markerId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(leaseTtlSeconds);
+        try {
+            Boolean acquired = requiresNewTransaction.execute(status -> {
+                if (leaseRepository.takeOver(markerId, nodeId, now, expiresAt) > 0) {
+                    return true;
+                }
+                if (leaseRepository.existsById(markerId)) {
+                    return false;
+                }
+                return leaseRepository.insert(markerId, nodeId, now, expiresAt) > 0;
+            });
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 순간에 임대 행을 먼저 생성한 경우
+            return false;
+        }
+    }
+
+    private void releaseLease(Long markerId) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> leaseRepository.release(markerId, nodeId));
+        } catch (Exception e) {
+            // 해제에 실패해도 만료 시각 이후 다른 노드가 회수할 수 있음
+            log.warn("AI 검증 임대 해제 실패: markerId={}", markerId, e);
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.ApiResponse;
+import com.example.hamkae.event.VerificationCompletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 검증 상태 롱 폴링 대기열을 관리하는 컴포넌트
+ * 상태 조회 요청을 {@link DeferredResult}로 보류해 두었다가, {@link VerificationCompletedEvent}가 발행되면
+ * 해당 마커를 기다리는 요청을 모두 한 번에 완료합니다. 대기 중에는 요청 스레드와 DB 조회를 쓰지 않습니다.
+ *
+ * 이벤트는 검증을 실행한 노드에서만 발행되므로, 다른 노드에서 검증이 끝난 경우 대기 요청은 시간 초과로 끝나고
+ * 클라이언트가 다시 요청할 때 최신 상태를 받습니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class VerificationStatusNotifier {
+
+    private final Map<Long, Set<DeferredResult<ResponseEntity<ApiResponse<Map<String, Object>>>>>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    /**
+     * 요청을 보류할 기본 시간 (밀리초)
+     */
+    private final long defaultTimeoutMs;
+
+    /**
+     * 클라이언트가 지정할 수 있는 최대 보류 시간 (밀리초)
+     */
+    private final long maxTimeoutMs;
+
+    /**
+     * 동시에 보류할 수 있는 최대 요청 수 (초과 시 보류하지 않고 즉시 현재 상태로 응답)
+     */
+    private final int maxWaiters;
+
+    public VerificationStatusNotifier(
+            @Value("${ai.verification.long-poll.timeout-ms:30000}") long defaultTimeoutMs,
+            @Value("${ai.verification.long-poll.max-timeout-ms:60000}") long maxTimeoutMs,
+            @Value("${ai.verification.long-poll.max-waiters:10000}") int maxWaiters) {
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+        this.maxWaiters = maxWaiters;
+    }
+
+    /**
+     * 마커의 검증 완료를 기다리는 요청을 등록합니다.
+     * 시간 초과 시 completed=false 응답으로 끝나며, 대기 인원이 가득 차면 null을 반환합니다.
+     * 등록 직후 호출자가 현재 상태를 한 번 확인해야 등록 전에 끝난 검증을 놓치지 않습니다.
+     *
+     * @param markerId 마커 ID
+     * @param timeoutMs 요청한 대기 시간 (null이면 기본값, 최대값으로 제한)
+     * @return 보류된 응답 (대기 인원 초과 시 null)
+     */
+    public DeferredResult<ResponseEntity<ApiResponse<Map<String, Object>>>> register(Long markerId, Long timeoutMs) {
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+            waiterCount.decrementAndGet();
+            log.warn("검증 상태 대기 인원 초과로 즉시 응답: markerId={}, 최대={}", markerId, maxWaiters);
+            return null;
+        }
+
+        long timeout = Math.min(timeoutMs != null && timeoutMs > 0 ? timeoutMs : defaultTimeoutMs, maxTimeoutMs);
+        Map<String, Object> pending = new HashMap<>();
+        pending.put("markerId", markerId);
+        pending.put("completed", false);
+        DeferredResult<ResponseEntity<ApiResponse<Map<String, Object>>>> deferred = new DeferredResult<>(timeout,
+                () -> ResponseEntity.ok(ApiResponse.success("검증이 아직 끝나지 않았습니다. 다시 요청해주세요.", pending)));
+
+        // 추가/제거를 키 단위로 원자적으로 수행해, 비워져 제거되는 집합에 새 요청이 들어가지 않도록 함
+        waiters.compute(markerId, (id, set) -> {
+            Set<DeferredResult<ResponseEntity<ApiResponse<Map<String, Object>>>>> markerWaiters =
+                    set != null ? set : ConcurrentHashMap.newKeySet();
+            markerWaiters.add(deferred);
+            return markerWaiters;
+        });
+        // 완료/시간 초과/연결 끊김 어느 경우든 대기열에서 제거
+        deferred.onCompletion(() -> waiters.computeIfPresent(markerId, (id, set) -> {
+            if (set.remove(deferred)) {
+                waiterCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        }));
+        return deferred;
+    }
+
+    /**
+     * 보류된 요청을 검증 상태로 완료합니다.
+     *
+     * @param deferred 보류된 응답
+     * @param status 검증 상태
+     */
+    public void complete(DeferredResult<ResponseEntity<ApiResponse<Map<String, Object>>>> deferred, Map<String, Object> status) {
+        status.put("completed", true);
+        deferred.setResult(ResponseEntity.ok(ApiResponse.success("검증 상태 조회 완료", status)));
+    }
+
+    /**
+     * 검증 완료 이벤트를 받아 해당 마커를 기다리는 요청을 모두 완료합니다.
+     *
+     * @param event 검증 완료 이벤트
+     */
+    @EventListener
+    public void onVerificationCompleted(VerificationCompletedEvent event) {
+        Set<DeferredResult<ResponseEntity<ApiResponse<Map<String, Object>>>>> markerWaiters = waiters.get(event.getMarkerId());
+        if (markerWaiters == null || markerWaiters.isEmpty()) {
+            return;
+        }
+
+        log.debug("검증 완료 알림: markerId={}, 대기 요청 {}건", event.getMarkerId(), markerWaiters.size());
+        for (DeferredResult<ResponseEntity<ApiResponse<Map<String, Object>>>> deferred : markerWaiters) {
+            complete(deferred, toStatus(event));
+        }
+    }
+
+    /**
+     * 현재 보류 중인 요청 수
+     */
+    public int getWaiterCount() {
+        return waiterCount.get();
+    }
+
+    private static Map<String, Object> toStatus(VerificationCompletedEvent event) {
+        // Map.of()는 null 값을 허용하지 않으므로 HashMap 사용
+        Map<String, Object> status = new HashMap<>();
+        status.put("markerId", event.getMarkerId());
+        status.put("verificationStatus", event.getVerificationStatus());
+        status.put("confidence", event.getConfidence());
+        status.put("reason", event.getReason());
+        status.put("verificationAttemptId", event.getVerificationAttemptId());
+        return status;
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.Photo;
+import com.example.hamkae.repository.PhotoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 멈춘 AI 검증을 다시 예약하는 주기 작업
+ * 비동기 검증이 실패하거나 유실되어 PENDING으로 남은 AFTER 사진, 외부 장애로 RETRY_LATER가 된 AFTER 사진을
+ * (createdAt, id) 키셋 순서로 조금씩 읽어 BULK 우선순위로 재검증을 예약합니다.
+ * 실행 1회당 예약 건수를 제한하고, 다음 실행은 이전 실행이 멈춘 위치부터 이어서 읽으므로
+ * 계속 실패하는 오래된 건이 새 건의 재처리를 막지 않습니다.
+ * 같은 마커를 다시 예약할 때마다 대기 시간을 두 배로 늘리고, 예약 횟수가 한도에 이르면
+ * 관리자 확인 대기(MANUAL_REVIEW)로 바꿔 더 이상 모델 호출과 스케줄러 용량을 쓰지 않게 합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class VerificationSweeper {
+
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PhotoRepository photoRepository;
+    private final AiVerificationTaskService aiVerificationTaskService;
+    private final VerificationSingleFlightService verificationSingleFlightService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 이 노드가 예약했지만 아직 끝나지 않은 마커 (같은 마커를 중복 예약하지 않기 위함)
+     */
+    private final Set<Long> scheduledMarkers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 상태별 키셋 커서 (실행 사이에 유지)
+     */
+    private final Map<Photo.VerificationStatus, Cursor> cursors = new EnumMap<>(Photo.VerificationStatus.class);
+
+    /**
+     * 이번 실행 중 검증 큐가 가득 차 예약을 거부당했는지 (다음 실행 시작 시 초기화)
+     */
+    private boolean queueFull;
+
+    @Value("${ai.verification.sweeper.enabled:true}")
+    private Boolean enabled;
+
+    /**
+     * 업로드 후 이 시간이 지나도록 검증이 끝나지 않은 사진만 재처리 (분)
+     */
+    @Value("${ai.verification.sweeper.stale-after-minutes:10}")
+    private Integer staleAfterMinutes;
+
+    /**
+     * 한 번에 읽는 사진 수
+     */
+    @Value("${ai.verification.sweeper.batch-size:50}")
+    private Integer batchSize;
+
+    /**
+     * 실행 1회당 최대 예약 마커 수
+     */
+    @Value("${ai.verification.sweeper.max-per-run:100}")
+    private Integer maxPerRun;
+
+    /**
+     * 마커당 최대 재검증 예약 횟수 (넘으면 관리자 확인 대기)
+     */
+    @Value("${ai.verification.sweeper.max-attempts:5}")
+    private Integer maxAttempts;
+
+    /**
+     * 첫 재예약 후 다음 재예약까지의 대기 시간 (분, 예약할 때마다 두 배)
+     */
+    @Value("${ai.verification.sweeper.backoff-minutes:10}")
+    private Integer backoffMinutes;
+
+    public VerificationSweeper(PhotoRepository photoRepository,
+                               AiVerificationTaskService aiVerificationTaskService,
+                               VerificationSingleFlightService verificationSingleFlightService,
+                               TransactionTemplate transactionTemplate) {
+        this.photoRepository = photoRepository;
+        this.aiVerificationTaskService = aiVerificationTaskService;
+        this.verificationSingleFlightService = verificationSingleFlightService;
+        this.transactionTemplate = transactionTemplate;
+        cursors.put(Photo.VerificationStatus.PENDING, new Cursor());
+        cursors.put(Photo.VerificationStatus.RETRY_LATER, new Cursor());
+    }
+
+    /**
+     * 멈춘 검증을 찾아 재검증을 예약합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.verification.sweeper.interval-ms:60000}",
+               initialDelayString = "${ai.verification.sweeper.initial-delay-ms:60000}")
+    public void sweep() {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int budget = maxPerRun;
+        queueFull = false;
+        for (Map.Entry<Photo.VerificationStatus, Cursor> entry : cursors.entrySet()) {
+            if (budget <= 0 || queueFull) {
+                break;
+            }
+            budget -= sweep(entry.getKey(), entry.getValue(), now, budget);
+        }
+
+        int scheduled = maxPerRun - budget;
+        if (scheduled > 0) {
+            log.info("멈춘 AI 검증 재예약: {}건 (대기 중 {}건)", scheduled, scheduledMarkers.size());
+        }
+    }
+
+    /**
+     * 한 상태의 멈춘 사진을 커서 위치부터 읽어 예산만큼 재검증을 예약합니다.
+     * 검증 큐가 가득 차면 거부된 사진 앞에서 커서를 멈추고 이번 실행을 끝냅니다.
+     *
+     * @return 예약한 마커 수
+     */
+    private int sweep(Photo.VerificationStatus status, Cursor cursor, LocalDateTime now, int budget) {
+        LocalDateTime staleBefore = now.minusMinutes(staleAfterMinutes);
+        int scheduled = 0;
+        while (scheduled < budget) {
+            List<PhotoRepository.StalePhoto> page = photoRepository.findStalePhotos(status, Photo.PhotoType.AFTER,
+                    staleBefore, now, cursor.createdAt, cursor.id, Limit.of(batchSize));
+            if (page.isEmpty()) {
+                // 끝까지 읽었으면 다음 실행은 처음부터
+                cursor.reset();
+                break;
+            }
+
+            for (PhotoRepository.StalePhoto photo : page) {
+                if (scheduled >= budget) {
+                    break;
+                }
+                int attempts = photo.getSweepRetryCount() != null ? photo.getSweepRetryCount() : 0;
+                if (attempts >= maxAttempts) {
+                    cursor.advance(photo.getCreatedAt(), photo.getId());
+                    giveUp(photo.getMarkerId(), attempts);
+                    continue;
+                }
+                ScheduleResult result = schedule(photo.getMarkerId());
+                if (result == ScheduleResult.REJECTED) {
+                    queueFull = true;
+                    return scheduled;
+                }
+                cursor.advance(photo.getCreatedAt(), photo.getId());
+                if (result == ScheduleResult.SCHEDULED) {
+                    recordAttempt(photo.getMarkerId(), attempts, now);
+                    scheduled++;
+                }
+            }
+
+            if (page.size() < batchSize) {
+                cursor.reset();
+                break;
+            }
+        }
+        return scheduled;
+    }
+
+    /**
+     * 마커 재검증을 BULK 우선순위로 예약합니다.
+     *
+     * @return 예약 결과
+     */
+    private ScheduleResult schedule(Long markerId) {
+        if (verificationSingleFlightService.isInFlight(markerId) || !scheduledMarkers.add(markerId)) {
+            return ScheduleResult.SKIPPED;
+        }
+        try {
+            aiVerificationTaskService.enqueueVerification(markerId, VerificationScheduler.Priority.BULK)
+                    .whenComplete((result, e) -> {
+                        scheduledMarkers.remove(markerId);
+                        if (e != null) {
+                            log.warn("멈춘 AI 검증 재처리 실패: markerId={}", markerId, e);
+                        }
+                    });
+            return ScheduleResult.SCHEDULED;
+        } catch (RejectedExecutionException e) {
+            scheduledMarkers.remove(markerId);
+            log.warn("검증 큐가 가득 차 재예약을 중단합니다: markerId={}", markerId);
+            return ScheduleResult.REJECTED;
+        }
+    }
+
+    /**
+     * 재예약 횟수를 기록하고 다음 예약 가능 시각을 지수적으로 늦춥니다.
+     *
+     * @param attempts 이번 예약 전까지의 예약 횟수
+     */
+    private void recordAttempt(Long markerId, int attempts, LocalDateTime now) {
+        LocalDateTime nextSweepAt = now.plusMinutes((long) backoffMinutes << Math.min(attempts, 20));
+        try {
+            transactionTemplate.executeWithoutResult(status -> photoRepository.recordSweepAttempt(markerId, nextSweepAt));
+        } catch (Exception e) {
+            log.warn("재검증 예약 횟수 기록 실패: markerId={}", markerId, e);
+        }
+    }
+
+    /**
+     * 재예약 한도를 넘은 마커의 검증 대기 사진을 관리자 확인 대기로 바꿉니다.
+     */
+    private void giveUp(Long markerId, int attempts) {
+        try {
+            int updated = transactionTemplate.execute(status -> photoRepository.markForManualReview(markerId,
+                    "AI 검증 재시도 " + attempts + "회 실패: 관리자 확인 필요"));
+            log.warn("AI 재검증 한도 초과, 관리자 확인 대기로 전환: markerId={}, 예약 횟수={}, 사진 {}장",
+                    markerId, attempts, updated);
+        } catch (Exception e) {
+            log.warn("관리자 확인 대기 전환 실패: markerId={}", markerId, e);
+        }
+    }
+
+    /**
+     * 재검증 예약 결과
+     */
+    private enum ScheduleResult {
+        /**
+         * 새로 예약함
+         */
+        SCHEDULED,
+        /**
+         * 이미 검증 중이거나 예약되어 건너뜀
+         */
+        SKIPPED,
+        /**
+         * 검증 큐가 가득 차 거부됨 (이번 실행 중단)
+         */
+        REJECTED
+    }
+
+    /**
+     * (createdAt, id) 키셋 커서
+     */
+    private static class Cursor {
+        LocalDateTime createdAt = CURSOR_START;
+        long id;
+
+        void advance(LocalDateTime createdAt, long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        void reset() {
+            advance(CURSOR_START, 0L);
+        }
+    }
+}
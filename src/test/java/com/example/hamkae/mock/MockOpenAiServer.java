@@ -0,0 +1,315 @@
+package com.example.hamkae.mock;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI Chat Completions API를 흉내 내는 로컬 테스트 서버
+ * 실제 OpenAI 할당량을 쓰지 않고 검증 파이프라인의 부하/지연을 측정하기 위해 사용합니다.
+ * openai.api.base-url(OPENAI_BASE_URL)을 이 서버의 주소로 바꾸면 OpenAiConfig의 WebClient가 이 서버로 요청합니다.
+ *
+ * <ul>
+ *     <li>지연: 로그정규 분포 (중앙값, 표준편차 σ). σ가 0이면 고정 지연</li>
+ *     <li>오류 주입: 요청마다 지정한 확률로 429 또는 503 응답</li>
+ *     <li>응답: 스크립트된 판정을 순서대로 반환하고, 소진되면 기본 판정 반환 (배치 요청이면 쌍마다 하나씩)</li>
+ * </ul>
+ *
+ * 단독 실행: {@code java MockOpenAiServer [port] [medianMs] [sigma] [rate429] [rate5xx]}
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MockOpenAiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentLinkedQueue<Verdict> script = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    private volatile Duration medianLatency = Duration.ZERO;
+    private volatile double latencySigma = 0.0;
+    private volatile double rate429 = 0.0;
+    private volatile double rate5xx = 0.0;
+    private volatile Verdict defaultVerdict = Verdict.approved(0.9);
+
+    private MockOpenAiServer(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.setExecutor(executor);
+        this.server.createContext("/v1/chat/completions", this::handleChatCompletion);
+    }
+
+    /**
+     * 임의의 빈 포트로 서버를 시작합니다.
+     *
+     * @return 시작된 서버
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public static MockOpenAiServer start() throws IOException {
+        return start(0);
+    }
+
+    /**
+     * 지정한 포트로 서버를 시작합니다.
+     *
+     * @param port 포트 (0이면 임의의 빈 포트)
+     * @return 시작된 서버
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public static MockOpenAiServer start(int port) throws IOException {
+        MockOpenAiServer mock = new MockOpenAiServer(port);
+        mock.server.start();
+        return mock;
+    }
+
+    /**
+     * openai.api.base-url에 지정할 서버 주소를 반환합니다.
+     *
+     * @return 서버 기본 URL (예: http://localhost:54321)
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 응답 지연 분포를 설정합니다.
+     *
+     * @param median 지연 중앙값
+     * @param sigma 로그정규 분포의 σ (0이면 고정 지연, 0.5 전후면 실제 API와 비슷한 꼬리)
+     * @return 이 서버
+     */
+    public MockOpenAiServer latency(Duration median, double sigma) {
+        this.medianLatency = median;
+        this.latencySigma = sigma;
+        return this;
+    }
+
+    /**
+     * 오류 응답 비율을 설정합니다.
+     *
+     * @param rate429 429 (Too Many Requests) 응답 확률 (0.0 ~ 1.0)
+     * @param rate5xx 503 (Service Unavailable) 응답 확률 (0.0 ~ 1.0)
+     * @return 이 서버
+     */
+    public MockOpenAiServer errors(double rate429, double rate5xx) {
+        this.rate429 = rate429;
+        this.rate5xx = rate5xx;
+        return this;
+    }
+
+    /**
+     * 이후 요청에 순서대로 반환할 판정을 추가합니다.
+     *
+     * @param verdicts 판정 목록
+     * @return 이 서버
+     */
+    public MockOpenAiServer script(Verdict... verdicts) {
+        script.addAll(List.of(verdicts));
+        return this;
+    }
+
+    /**
+     * 스크립트가 비었을 때 반환할 기본 판정을 설정합니다.
+     *
+     * @param verdict 기본 판정
+     * @return 이 서버
+     */
+    public MockOpenAiServer defaultVerdict(Verdict verdict) {
+        this.defaultVerdict = verdict;
+        return this;
+    }
+
+    /**
+     * 받은 요청 수 (오류 응답 포함)
+     */
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * 주입된 오류 응답 수
+     */
+    public long errorCount() {
+        return errorCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleChatCompletion(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try (exchange) {
+            // 요청 본문(스트리밍된 이미지 포함)은 끝까지 읽어야 클라이언트 전송이 완료됨
+            RequestShape shape;
+            try (InputStream body = exchange.getRequestBody()) {
+                shape = readRequestShape(body);
+            }
+
+            sleep(sampleLatency());
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rate429) {
+                errorCount.incrementAndGet();
+                respond(exchange, 429, Map.of("error", Map.of("type", "rate_limit_exceeded", "message", "mock rate limit")));
+                return;
+            }
+            if (roll < rate429 + rate5xx) {
+                errorCount.incrementAndGet();
+                respond(exchange, 503, Map.of("error", Map.of("type", "server_error", "message", "mock unavailable")));
+                return;
+            }
+
+            if (shape.batch()) {
+                List<Map<String, Object>> results = new ArrayList<>();
+                for (int i = 0; i < shape.imageCount() / 2; i++) {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("index", i);
+                    item.putAll(verdictJson(nextVerdict()));
+                    results.add(item);
+                }
+                respond(exchange, 200, chatCompletion(objectMapper.writeValueAsString(Map.of("results", results))));
+            } else {
+                respond(exchange, 200, chatCompletion(objectMapper.writeValueAsString(verdictJson(nextVerdict()))));
+            }
+        }
+    }
+
+    private Verdict nextVerdict() {
+        Verdict verdict = script.poll();
+        return verdict != null ? verdict : defaultVerdict;
+    }
+
+    private static Map<String, Object> verdictJson(Verdict verdict) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("verification_result", verdict.result());
+        json.put("confidence", verdict.confidence());
+        json.put("reason", verdict.reason());
+        return json;
+    }
+
+    /**
+     * 요청 본문을 토큰 단위로 훑어 배치 요청 여부와 이미지 수만 확인합니다.
+     */
+    private RequestShape readRequestShape(InputStream body) throws IOException {
+        boolean batch = false;
+        int imageCount = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.FIELD_NAME) {
+                    continue;
+                }
+                String field = parser.currentName();
+                if ("image_url".equals(field)) {
+                    imageCount++;
+                } else if ("name".equals(field) && parser.nextToken() == JsonToken.VALUE_STRING) {
+                    batch |= "cleanup_verdict_batch".equals(parser.getText());
+                }
+            }
+        }
+        return new RequestShape(batch, imageCount);
+    }
+
+    private Map<String, Object> chatCompletion(String content) {
+        return Map.of(
+                "id", "chatcmpl-mock-" + requestCount.get(),
+                "object", "chat.completion",
+                "model", "mock",
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", "stop")),
+                "usage", Map.of("prompt_tokens", 170, "completion_tokens", 30, "total_tokens", 200));
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private Duration sampleLatency() {
+        long medianMs = medianLatency.toMillis();
+        if (medianMs <= 0) {
+            return Duration.ZERO;
+        }
+        if (latencySigma <= 0) {
+            return medianLatency;
+        }
+        double sample = medianMs * Math.exp(latencySigma * ThreadLocalRandom.current().nextGaussian());
+        return Duration.ofMillis(Math.round(sample));
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record RequestShape(boolean batch, int imageCount) {
+    }
+
+    /**
+     * 스크립트된 판정
+     *
+     * @param result APPROVED 또는 REJECTED
+     * @param confidence 신뢰도
+     * @param reason 판단 근거
+     */
+    public record Verdict(String result, double confidence, String reason) {
+
+        public static Verdict approved(double confidence) {
+            return new Verdict("APPROVED", confidence, "쓰레기가 정리됨 (mock)");
+        }
+
+        public static Verdict rejected(double confidence) {
+            return new Verdict("REJECTED", confidence, "쓰레기가 남아 있음 (mock)");
+        }
+    }
+
+    /**
+     * 서버를 단독 실행합니다. 애플리케이션은 OPENAI_BASE_URL=http://localhost:{port} 로 실행하면 됩니다.
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        MockOpenAiServer mock = start(port)
+                .latency(Duration.ofMillis(args.length > 1 ? Long.parseLong(args[1]) : 800),
+                        args.length > 2 ? Double.parseDouble(args[2]) : 0.4)
+                .errors(args.length > 3 ? Double.parseDouble(args[3]) : 0.0,
+                        args.length > 4 ? Double.parseDouble(args[4]) : 0.0);
+        System.out.println("Mock OpenAI server listening on " + mock.baseUrl());
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.PointCampaignRequestDTO;
+import com.example.hamkae.domain.Marker;
+import com.example.hamkae.domain.Photo;
+import com.example.hamkae.domain.PointCampaign;
+import com.example.hamkae.domain.PointCampaignGrant;
+import com.example.hamkae.domain.User;
+import com.example.hamkae.repository.MarkerRepository;
+import com.example.hamkae.repository.PhotoRepository;
+import com.example.hamkae.repository.PointCampaignGrantRepository;
+import com.example.hamkae.repository.PointCampaignRepository;
+import com.example.hamkae.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 포인트 캠페인 중단 후 재개 테스트
+ * 지급 도중 실행이 죽어 지급 대기 내역이 남은 캠페인을 중단 감지 작업이 이어서 실행해도,
+ * 대상 사용자마다 정확히 한 번만 지급되고 인증 건수는 마커 단위로 세는지 확인합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = {
+        "points.campaign.chunk-size=2",
+        "points.campaign.stale-timeout-seconds=0",
+        "points.campaign.resume-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class PointCampaignResumeTest {
+
+    private static final int POINTS_PER_USER = 100;
+    private static final int POINTS_PER_CLEANUP = 10;
+    private static final long RESUME_TIMEOUT_SECONDS = 30;
+    private static final long POLL_INTERVAL_MS = 50;
+
+    @Autowired
+    private PointCampaignService pointCampaignService;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private PointCampaignRepository campaignRepository;
+
+    @Autowired
+    private PointCampaignGrantRepository grantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MarkerRepository markerRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private PointLedgerBatchWriter pointLedgerBatchWriter;
+
+    @Test
+    void resumedCampaignGrantsEachUserExactlyOnce() throws InterruptedException {
+        String area = "캠페인재개-" + UUID.randomUUID();
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            User user = createUser();
+            userIds.add(user.getId());
+            Marker marker = createMarker(user, area);
+            createApprovedAfterPhoto(marker, user);
+            if (i == 0) {
+                // 같은 마커에 사진을 한 장 더 올려도 인증은 한 건
+                createApprovedAfterPhoto(marker, user);
+            }
+            if (i == 1) {
+                createApprovedAfterPhoto(createMarker(user, area), user);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        PointCampaign campaign = pointCampaignService.createCampaign(PointCampaignRequestDTO.builder()
+                .name("재개 테스트 캠페인")
+                .periodStart(now.minusHours(1))
+                .periodEnd(now.plusHours(1))
+                .addressKeyword(area)
+                .pointsPerUser(POINTS_PER_USER)
+                .pointsPerCleanup(POINTS_PER_CLEANUP)
+                .build());
+
+        // 두 번째 묶음을 지급하는 도중 프로세스가 죽은 것처럼 실행을 중단
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new SimulatedCrash();
+            }
+            return invocation.callRealMethod();
+        }).when(pointLedgerBatchWriter).earnAll(anyList(), anyString());
+
+        String runToken = UUID.randomUUID().toString();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> campaignRepository.claim(campaign.getId(), runToken,
+                LocalDateTime.now(), LocalDateTime.now().minusHours(1)));
+        assertThrows(SimulatedCrash.class, () -> pointCampaignService.run(campaign.getId(), runToken));
+
+        PointCampaign crashed = pointCampaignService.getCampaign(campaign.getId());
+        assertEquals(PointCampaign.CampaignStatus.RUNNING, crashed.getStatus());
+        assertEquals(7, crashed.getSelectedUsers());
+        assertEquals(2, crashed.getGrantedUsers());
+        assertEquals(5, countGrants(campaign.getId(), PointCampaignGrant.GrantStatus.PENDING));
+
+        // 이어서 실행은 커밋 후 백그라운드에서 수행되므로 완료될 때까지 기다림
+        pointCampaignService.resumeStalled();
+        PointCampaign completed = awaitFinished(campaign.getId());
+        assertEquals(PointCampaign.CampaignStatus.COMPLETED, completed.getStatus());
+        assertEquals(7, completed.getGrantedUsers());
+        assertEquals(completed.getSelectedPoints(), completed.getGrantedPoints());
+        assertEquals(7, countGrants(campaign.getId(), PointCampaignGrant.GrantStatus.GRANTED));
+
+        Map<Long, PointCampaignGrant> grants = grantsByUser(campaign.getId());
+        for (int i = 0; i < userIds.size(); i++) {
+            int cleanups = i == 1 ? 2 : 1;
+            Long userId = userIds.get(i);
+            assertEquals(cleanups, grants.get(userId).getCleanupCount());
+            assertEquals(POINTS_PER_USER + POINTS_PER_CLEANUP * cleanups, pointLedgerService.head(userId).getPoints());
+        }
+        assertTrue(calls.get() > 2);
+    }
+
+    private PointCampaign awaitFinished(Long campaignId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(RESUME_TIMEOUT_SECONDS);
+        PointCampaign campaign = pointCampaignService.getCampaign(campaignId);
+        while (campaign.getStatus() == PointCampaign.CampaignStatus.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MS);
+            campaign = pointCampaignService.getCampaign(campaignId);
+        }
+        return campaign;
+    }
+
+    private long countGrants(Long campaignId, PointCampaignGrant.GrantStatus status) {
+        return grantRepository.findAll().stream()
+                .filter(grant -> grant.getCampaignId().equals(campaignId) && grant.getStatus() == status)
+                .count();
+    }
+
+    private Map<Long, PointCampaignGrant> grantsByUser(Long campaignId) {
+        return grantRepository.findAll().stream()
+                .filter(grant -> grant.getCampaignId().equals(campaignId))
+                .collect(Collectors.toMap(PointCampaignGrant::getUserId, grant -> grant));
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .name("캠페인 테스트")
+                .username("campaign-" + UUID.randomUUID())
+                .password("password")
+                .points(0)
+                .build());
+    }
+
+    private Marker createMarker(User user, String address) {
+        return markerRepository.save(Marker.builder()
+                .lat(new BigDecimal("37.58940000"))
+                .lng(new BigDecimal("127.01670000"))
+                .address(address)
+                .reportedBy(user)
+                .build());
+    }
+
+    private void createApprovedAfterPhoto(Marker marker, User user) {
+        photoRepository.save(Photo.builder()
+                .marker(marker)
+                .user(user)
+                .imagePath("/uploads/campaign-test.jpg")
+                .type(Photo.PhotoType.AFTER)
+                .verificationStatus(Photo.VerificationStatus.APPROVED)
+                .verifiedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 실행 중 프로세스 종료를 흉내 내는 오류 (캠페인 실행의 예외 처리로 잡히지 않도록 Error로 던짐)
+     */
+    private static final class SimulatedCrash extends Error {
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.DTO.PointCampaignRequestDTO;
+import com.example.hamkae.domain.Marker;
+import com.example.hamkae.domain.Photo;
+import com.example.hamkae.domain.PointCampaign;
+import com.example.hamkae.domain.PointCampaignGrant;
+import com.example.hamkae.domain.PointHistory;
+import com.example.hamkae.domain.User;
+import com.example.hamkae.repository.MarkerRepository;
+import com.example.hamkae.repository.PhotoRepository;
+import com.example.hamkae.repository.PointCampaignGrantRepository;
+import com.example.hamkae.repository.PointCampaignRepository;
+import com.example.hamkae.repository.PointHistoryRepository;
+import com.example.hamkae.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 포인트 캠페인 대상 선정 테스트
+ * 인증 적립에 대한 추가 지급이 적립 원인 사진 ID가 없는 도입 전 적립 원장도 관련 사진으로 찾아 계산하는지 확인합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PointCampaignSelectionTest {
+
+    @Autowired
+    private PointCampaignService pointCampaignService;
+
+    @Autowired
+    private PointCampaignRepository campaignRepository;
+
+    @Autowired
+    private PointCampaignGrantRepository grantRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MarkerRepository markerRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bonusIncludesLegacyEarnedEntriesWithoutEarnedPhotoId() {
+        String area = "캠페인선정-" + UUID.randomUUID();
+        User user = userRepository.save(User.builder()
+                .name("캠페인 테스트")
+                .username("campaign-" + UUID.randomUUID())
+                .password("password")
+                .points(0)
+                .build());
+        Photo legacyPhoto = createApprovedAfterPhoto(createMarker(user, area), user);
+        Photo currentPhoto = createApprovedAfterPhoto(createMarker(user, area), user);
+
+        // 도입 전 적립: 관련 사진만 있고 적립 원인 사진 ID와 원장 순번이 없음
+        pointHistoryRepository.save(PointHistory.builder()
+                .user(user)
+                .points(200)
+                .type(PointHistory.PointType.EARNED)
+                .description("청소 인증 완료")
+                .relatedPhoto(legacyPhoto)
+                .build());
+        pointHistoryRepository.save(PointHistory.builder()
+                .user(user)
+                .points(100)
+                .type(PointHistory.PointType.EARNED)
+                .description("청소 인증 완료")
+                .relatedPhoto(currentPhoto)
+                .earnedPhotoId(currentPhoto.getId())
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        PointCampaign campaign = pointCampaignService.createCampaign(PointCampaignRequestDTO.builder()
+                .name("추가 지급 테스트 캠페인")
+                .periodStart(now.minusHours(1))
+                .periodEnd(now.plusHours(1))
+                .addressKeyword(area)
+                .pointsPerUser(0)
+                .pointsPerCleanup(0)
+                .bonusPercentOfEarned(50)
+                .build());
+
+        String runToken = UUID.randomUUID().toString();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> campaignRepository.claim(
+                campaign.getId(), runToken, LocalDateTime.now(), LocalDateTime.now().minusHours(1)));
+        pointCampaignService.run(campaign.getId(), runToken);
+
+        PointCampaignGrant grant = grantRepository.findAll().stream()
+                .filter(candidate -> candidate.getCampaignId().equals(campaign.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(user.getId(), grant.getUserId());
+        assertEquals(2, grant.getCleanupCount());
+        // (200 + 100) × 50%
+        assertEquals(150, grant.getPoints());
+    }
+
+    private Marker createMarker(User user, String address) {
+        return markerRepository.save(Marker.builder()
+                .lat(new BigDecimal("37.58940000"))
+                .lng(new BigDecimal("127.01670000"))
+                .address(address)
+                .reportedBy(user)
+                .build());
+    }
+
+    private Photo createApprovedAfterPhoto(Marker marker, User user) {
+        return photoRepository.save(Photo.builder()
+                .marker(marker)
+                .user(user)
+                .imagePath("/uploads/campaign-test.jpg")
+                .type(Photo.PhotoType.AFTER)
+                .verificationStatus(Photo.VerificationStatus.APPROVED)
+                .verifiedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.hamkae.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 청소 인증 포인트 규칙 테스트
+ * 규칙 컴파일 시 잘못된 정의를 거부하는지, 구간 선택/지역 배율/연속 청소 계산이 규칙대로 되는지 확인합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PointRulesTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @Test
+    void confidenceBandAppliesHighestMatchingBandOnly() {
+        PointRules rules = compile(new PointRules.Definition(1000, "0.95=2000,0.8=500", 0, null, null, null));
+
+        assertEquals(1000, rules.evaluate(0.79, null, 0, false, 1).points());
+        assertEquals(1500, rules.evaluate(0.8, null, 0, false, 1).points());
+        assertEquals(1500, rules.evaluate(0.949999, null, 0, false, 1).points());
+        assertEquals(3000, rules.evaluate(0.95, null, 0, false, 1).points());
+        assertEquals(3000, rules.evaluate(1.0, null, 0, false, 1).points());
+        // 신뢰도가 없으면 구간 보너스 없음
+        assertEquals(1000, rules.evaluate(null, null, 0, false, 1).points());
+    }
+
+    @Test
+    void activityAndMarkerAgeBonusesUseThresholds() {
+        PointRules rules = compile(new PointRules.Definition(100, null, 50, "3=300,7=700", null, "72=1000"));
+
+        PointRules.PointAward award = rules.evaluate(null, null, 71, true, 2);
+        assertEquals(150, award.points());
+        assertEquals(50, award.activityBonus());
+        assertEquals(0, award.markerAgeBonus());
+
+        assertEquals(100 + 300 + 1000, rules.evaluate(null, null, 72, false, 6).points());
+        assertEquals(100 + 50 + 700 + 1000, rules.evaluate(null, null, 500, true, 30).points());
+    }
+
+    @Test
+    void districtMultiplierUsesHighestMatchAndTruncates() {
+        PointRules rules = compile(new PointRules.Definition(333, null, 0, null, "성북구=150,안암동=200", null));
+
+        // 333 × 150% = 499.5 -> 499 (소수점 이하 버림)
+        PointRules.PointAward award = rules.evaluate(null, "서울 성북구 정릉동", 0, false, 1);
+        assertEquals(150, award.multiplierPercent());
+        assertEquals(499, award.points());
+
+        // 여러 키워드가 맞으면 가장 높은 배율
+        assertEquals(666, rules.evaluate(null, "서울 성북구 안암동", 0, false, 1).points());
+        // 맞는 키워드가 없거나 주소가 없으면 100%
+        assertEquals(333, rules.evaluate(null, "서울 종로구", 0, false, 1).points());
+        assertEquals(333, rules.evaluate(null, null, 0, false, 1).points());
+    }
+
+    @Test
+    void zeroMultiplierAndOverflowAreBounded() {
+        PointRules zero = compile(new PointRules.Definition(1000, null, 0, null, "제외구=0", null));
+        assertEquals(0, zero.evaluate(null, "제외구", 0, false, 1).points());
+
+        PointRules huge = compile(new PointRules.Definition(Integer.MAX_VALUE, null, 0, null, "강남구=1000", null));
+        assertEquals(Integer.MAX_VALUE, huge.evaluate(null, "강남구", 0, false, 1).points());
+    }
+
+    @Test
+    void duplicateKeysAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, "0.8=100,0.8=200", 0, null, null, null)));
+        // 표기가 달라도 같은 기준값이면 거부
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, "0.8=100,0.80=200", 0, null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, null, 0, null, "성북구=150,성북구=200", null)));
+    }
+
+    @Test
+    void malformedOrOutOfRangeRulesAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(-1, null, 0, null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, "0.8", 0, null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, "abc=100", 0, null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, "1.5=100", 0, null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, "0.8=-100", 0, null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, null, 0, "0=100", null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, null, 0, (PointRules.MAX_STREAK_DAYS + 1) + "=100", null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, null, 0, null, "성북구=1001", null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(new PointRules.Definition(0, null, 0, null, null, "-1=100")));
+
+        // 빈 항목과 공백은 무시
+        PointRules rules = compile(new PointRules.Definition(null, " 0.5 = 10 ,, ", null, "", null, "  "));
+        assertEquals(10, rules.evaluate(0.5, null, 0, true, 1).points());
+    }
+
+    @Test
+    void activityCountsConsecutiveDaysFromStoredState() {
+        PointRules.Activity first = PointRules.Activity.of(null, 0, TODAY);
+        assertTrue(first.firstOfDay());
+        assertEquals(1, first.streakDays());
+
+        PointRules.Activity sameDay = PointRules.Activity.of(TODAY, 4, TODAY);
+        assertFalse(sameDay.firstOfDay());
+        assertEquals(4, sameDay.streakDays());
+
+        PointRules.Activity nextDay = PointRules.Activity.of(TODAY.minusDays(1), 4, TODAY);
+        assertTrue(nextDay.firstOfDay());
+        assertEquals(5, nextDay.streakDays());
+
+        PointRules.Activity broken = PointRules.Activity.of(TODAY.minusDays(2), 4, TODAY);
+        assertTrue(broken.firstOfDay());
+        assertEquals(1, broken.streakDays());
+
+        // 이관 전 사용자처럼 날짜만 있고 일수가 0이어도 오늘을 포함해 센다
+        assertEquals(2, PointRules.Activity.of(TODAY.minusDays(1), 0, TODAY).streakDays());
+        // 서버 시각 차이로 마지막 날짜가 미래여도 오늘 이미 청소한 것으로 본다
+        assertFalse(PointRules.Activity.of(TODAY.plusDays(1), 3, TODAY).firstOfDay());
+    }
+
+    private static PointRules compile(PointRules.Definition definition) {
+        return PointRules.compile(1, definition);
+    }
+}
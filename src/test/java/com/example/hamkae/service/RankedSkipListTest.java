@@ -0,0 +1,129 @@
+package com.example.hamkae.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 순위 스킵 리스트 테스트
+ * 삽입/삭제를 반복해도 span이 올바르게 유지되어 모든 항목의 순위가 정렬 기준과 일치하는지,
+ * 동점 처리와 상위 K개 조회가 올바른지 확인합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class RankedSkipListTest {
+
+    /**
+     * 점수 내림차순, 사용자 ID 오름차순 (스킵 리스트와 같은 정렬 기준)
+     */
+    private static final Comparator<long[]> ORDER = Comparator.<long[]>comparingLong(entry -> -entry[0])
+            .thenComparingLong(entry -> entry[1]);
+
+    @Test
+    void randomInsertAndDeleteKeepSpansConsistent() {
+        Random random = new Random(42);
+        RankedSkipList list = new RankedSkipList();
+        TreeSet<long[]> expected = new TreeSet<>(ORDER);
+
+        for (int step = 0; step < 5000; step++) {
+            long score = random.nextInt(20);
+            long userId = random.nextInt(50);
+            long[] entry = {score, userId};
+            if (expected.contains(entry)) {
+                assertTrue(list.delete(score, userId));
+                expected.remove(entry);
+            } else {
+                list.insert(score, userId);
+                expected.add(entry);
+            }
+
+            if (step % 250 == 0) {
+                assertRanks(expected, list);
+            }
+        }
+        assertRanks(expected, list);
+    }
+
+    @Test
+    void deleteMissingEntryReturnsFalse() {
+        RankedSkipList list = new RankedSkipList();
+        list.insert(100, 1);
+        list.insert(50, 2);
+
+        assertFalse(list.delete(100, 2));
+        assertFalse(list.delete(70, 1));
+        assertEquals(2, list.size());
+        assertEquals(1, list.countBefore(50, 2));
+    }
+
+    @Test
+    void countBeforeWithMinUserIdCountsOnlyHigherScores() {
+        RankedSkipList list = new RankedSkipList();
+        list.insert(300, 5);
+        list.insert(200, 3);
+        list.insert(200, 1);
+        list.insert(200, 2);
+        list.insert(100, 4);
+
+        // 동점자는 모두 같은 순위 (더 높은 점수 수 + 1)
+        assertEquals(0, list.countBefore(300, Long.MIN_VALUE));
+        assertEquals(1, list.countBefore(200, Long.MIN_VALUE));
+        assertEquals(4, list.countBefore(100, Long.MIN_VALUE));
+        // 사용자 ID를 넘기면 동점 안에서는 ID 오름차순으로 셈
+        assertEquals(1, list.countBefore(200, 1));
+        assertEquals(3, list.countBefore(200, 3));
+        // 없는 점수도 들어갈 위치를 반환
+        assertEquals(4, list.countBefore(150, Long.MIN_VALUE));
+        assertEquals(5, list.countBefore(0, Long.MIN_VALUE));
+    }
+
+    @Test
+    void topReturnsEntriesInOrderUpToLimit() {
+        RankedSkipList list = new RankedSkipList();
+        list.insert(10, 7);
+        list.insert(30, 2);
+        list.insert(20, 9);
+        list.insert(30, 1);
+
+        List<long[]> top = list.top(3);
+        assertEquals(3, top.size());
+        assertArrayEquals(new long[]{30, 1}, top.get(0));
+        assertArrayEquals(new long[]{30, 2}, top.get(1));
+        assertArrayEquals(new long[]{20, 9}, top.get(2));
+
+        assertEquals(4, list.top(100).size());
+        assertTrue(list.top(0).isEmpty());
+
+        list.clear();
+        assertEquals(0, list.size());
+        assertTrue(list.top(10).isEmpty());
+        list.insert(5, 1);
+        assertEquals(0, list.countBefore(5, 1));
+    }
+
+    /**
+     * 모든 항목의 순위(앞에 있는 항목 수)와 상위 목록이 기대 정렬과 일치하는지 확인합니다.
+     */
+    private static void assertRanks(TreeSet<long[]> expected, RankedSkipList list) {
+        assertEquals(expected.size(), list.size());
+        List<long[]> top = list.top(Integer.MAX_VALUE);
+        List<long[]> ordered = new ArrayList<>(expected);
+        assertEquals(ordered.size(), top.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            long[] entry = ordered.get(i);
+            assertArrayEquals(entry, top.get(i));
+            assertEquals(i, list.countBefore(entry[0], entry[1]));
+        }
+    }
+}
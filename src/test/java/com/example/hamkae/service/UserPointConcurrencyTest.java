@@ -0,0 +1,199 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.User;
+import com.example.hamkae.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 포인트 잔액 동시 변경 테스트
+ * 한 사용자에게 여러 스레드가 동시에 적립/차감/설정/대량 적립을 요청해도 변경이 유실되거나 잔액이 음수가 되지 않고,
+ * 원장을 다시 적용한 결과가 잔액과 일치하는지 확인합니다.
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserPointConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private PointLedgerBatchWriter pointLedgerBatchWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentAddAndUseDoNotLoseUpdates() throws Exception {
+        int initial = THREADS * OPERATIONS_PER_THREAD * 5;
+        Long userId = createUser(initial);
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger used = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                if ((thread + i) % 2 == 0) {
+                    pointLedgerService.earn(user, 10, "테스트 적립", null);
+                    added.addAndGet(10);
+                } else {
+                    pointLedgerService.spend(user, 5, "테스트 사용");
+                    used.addAndGet(5);
+                }
+            }
+        });
+
+        assertEquals(initial + added.get() - used.get(), currentPoints(userId));
+        assertLedgerConsistent(userId, THREADS * OPERATIONS_PER_THREAD + 1);
+    }
+
+    @Test
+    void concurrentUseNeverOverdraws() throws Exception {
+        Long userId = createUser(100);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                try {
+                    pointLedgerService.spend(user, 10, "테스트 사용");
+                    succeeded.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(10, succeeded.get());
+        assertEquals(THREADS * OPERATIONS_PER_THREAD - 10, rejected.get());
+        assertEquals(0, currentPoints(userId));
+        assertLedgerConsistent(userId, 11);
+    }
+
+    @Test
+    void setPointsDuringConcurrentAddsKeepsLaterAdds() throws Exception {
+        Long userId = createUser(0);
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger pointsBeforeSet = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                if (thread == 0 && i == OPERATIONS_PER_THREAD / 2) {
+                    pointsBeforeSet.set(pointLedgerService.adjustTo(user, 100_000, "테스트 설정"));
+                }
+                pointLedgerService.earn(user, 1, "테스트 적립", null);
+                added.incrementAndGet();
+            }
+        });
+
+        // 설정 직전 잔액만큼의 적립은 덮어써지고, 설정 이후의 적립은 모두 남아야 함
+        assertEquals(100_000 + added.get() - pointsBeforeSet.get(), currentPoints(userId));
+        assertLedgerConsistent(userId, THREADS * OPERATIONS_PER_THREAD + 1);
+    }
+
+    @Test
+    void batchEarnsInterleaveWithSingleEarns() throws Exception {
+        Long first = createUser(100);
+        Long second = createUser(0);
+
+        runConcurrently(thread -> {
+            User user = userRepository.findById(first).orElseThrow();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                if (thread % 2 == 0) {
+                    PointLedgerBatchWriter.BatchResult result = pointLedgerBatchWriter.earnAllInChunks(List.of(
+                            new PointLedgerBatchWriter.PointGrant(second, 2),
+                            new PointLedgerBatchWriter.PointGrant(first, 3),
+                            new PointLedgerBatchWriter.PointGrant(Long.MAX_VALUE, 1)), "테스트 대량 적립");
+                    assertEquals(2, result.appliedGrants());
+                    assertEquals(List.of(Long.MAX_VALUE), result.skippedUserIds());
+                } else {
+                    pointLedgerService.earn(user, 1, "테스트 적립", null);
+                }
+            }
+        });
+
+        int perKind = THREADS / 2 * OPERATIONS_PER_THREAD;
+        assertEquals(100 + perKind * 3 + perKind, currentPoints(first));
+        assertEquals(perKind * 2, currentPoints(second));
+        // 첫 사용자는 원장 도입 전 잔액 100pt가 조정 원장 1건으로 이관됨
+        assertLedgerConsistent(first, perKind * 2L + 1);
+        assertLedgerConsistent(second, perKind);
+    }
+
+    private Long createUser(int points) {
+        String username = "points-" + UUID.randomUUID();
+        User user = userRepository.save(User.builder()
+                .name("동시성 테스트")
+                .username(username)
+                .password("password")
+                .points(points)
+                .build());
+        return user.getId();
+    }
+
+    private int currentPoints(Long userId) {
+        return pointLedgerService.head(userId).getPoints();
+    }
+
+    /**
+     * 원장을 처음부터 다시 적용한 결과가 사용자 행의 잔액/순번과 같은지 확인합니다.
+     */
+    private void assertLedgerConsistent(Long userId, long expectedSequence) {
+        PointLedgerService.LedgerReplay replay = pointLedgerService.rebuild(userId);
+        assertFalse(replay.repaired());
+        assertEquals(expectedSequence, replay.toSequence());
+        assertEquals(currentPoints(userId), replay.balance());
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                Callable<Void> callable = () -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                };
+                futures.add(executor.submit(callable));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
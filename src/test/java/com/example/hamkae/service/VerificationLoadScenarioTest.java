@@ -0,0 +1,209 @@
+package com.example.hamkae.service;
+
+import com.example.hamkae.domain.Marker;
+import com.example.hamkae.domain.Photo;
+import com.example.hamkae.domain.User;
+import com.example.hamkae.mock.MockOpenAiServer;
+import com.example.hamkae.repository.MarkerRepository;
+import com.example.hamkae.repository.PhotoRepository;
+import com.example.hamkae.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * AI 검증 파이프라인 부하 시나리오
+ * 로컬 OpenAI 대체 서버({@link MockOpenAiServer})를 대상으로
+ * PhotoService.uploadCleanupPhotos → PhotoEventListener → AiVerificationTaskService 경로를 초당 N건으로 구동하고,
+ * 업로드 시작부터 AFTER 사진의 검증 상태가 확정될 때까지의 지연을 p50/p99로 보고합니다.
+ *
+ * 기본 빌드에서는 실행되지 않으며 {@code ./gradlew loadTest}로 실행합니다.
+ * 조절 가능한 시스템 프로퍼티: loadtest.rate, loadtest.count, loadtest.median-ms, loadtest.sigma,
+ * loadtest.rate-429, loadtest.rate-5xx
+ *
+ * @author 윤준하
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("load")
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+class VerificationLoadScenarioTest {
+
+    private static final int RATE = Integer.getInteger("loadtest.rate", 10);
+    private static final int COUNT = Integer.getInteger("loadtest.count", 200);
+    private static final long POLL_INTERVAL_MS = 20;
+
+    private static MockOpenAiServer mockServer;
+
+    @Autowired
+    private PhotoService photoService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MarkerRepository markerRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", () -> mockServer().baseUrl());
+        registry.add("openai.api.retry.initial-backoff-ms", () -> "100");
+        registry.add("app.upload.dir", () -> "./build/loadtest-uploads/");
+    }
+
+    private static synchronized MockOpenAiServer mockServer() {
+        if (mockServer == null) {
+            try {
+                mockServer = MockOpenAiServer.start()
+                        .latency(Duration.ofMillis(Long.getLong("loadtest.median-ms", 800)),
+                                Double.parseDouble(System.getProperty("loadtest.sigma", "0.4")))
+                        .errors(Double.parseDouble(System.getProperty("loadtest.rate-429", "0.02")),
+                                Double.parseDouble(System.getProperty("loadtest.rate-5xx", "0.01")));
+            } catch (IOException e) {
+                throw new IllegalStateException("Mock OpenAI 서버를 시작할 수 없습니다.", e);
+            }
+        }
+        return mockServer;
+    }
+
+    @AfterAll
+    static void stopMockServer() {
+        if (mockServer != null) {
+            mockServer.close();
+        }
+    }
+
+    @Test
+    void uploadCleanupPhotosAtFixedRate() throws Exception {
+        List<Fixture> fixtures = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            fixtures.add(createMarkerWithBeforePhoto(i));
+        }
+
+        Map<Long, Long> startedAt = new ConcurrentHashMap<>();
+        List<Long> latenciesMs = Collections.synchronizedList(new ArrayList<>());
+        ScheduledExecutorService driver = Executors.newScheduledThreadPool(4);
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+
+        for (int i = 0; i < fixtures.size(); i++) {
+            Fixture fixture = fixtures.get(i);
+            driver.schedule(() -> {
+                startedAt.put(fixture.markerId(), System.nanoTime());
+                photoService.uploadCleanupPhotos(fixture.markerId(),
+                        new MultipartFile[]{randomJpeg("after-" + fixture.markerId())}, fixture.userId());
+            }, i * periodNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // 검증 상태가 PENDING을 벗어나는 시점을 완료로 간주 (측정 해상도 = POLL_INTERVAL_MS)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(COUNT / RATE + 120);
+        Map<Long, Boolean> done = new ConcurrentHashMap<>();
+        while (done.size() < fixtures.size() && System.nanoTime() < deadline) {
+            for (Map.Entry<Long, Long> entry : startedAt.entrySet()) {
+                if (done.containsKey(entry.getKey())) {
+                    continue;
+                }
+                List<Photo> afterPhotos = photoRepository.findByMarkerIdAndType(entry.getKey(), Photo.PhotoType.AFTER);
+                if (!afterPhotos.isEmpty() && !afterPhotos.get(0).isPending()) {
+                    latenciesMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.getValue()));
+                    done.put(entry.getKey(), true);
+                }
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        driver.shutdownNow();
+
+        List<Long> sorted = new ArrayList<>(latenciesMs);
+        Collections.sort(sorted);
+        System.out.printf("[loadtest] rate=%d/s, count=%d, completed=%d, mockRequests=%d, mockErrors=%d%n",
+                RATE, COUNT, sorted.size(), mockServer.requestCount(), mockServer.errorCount());
+        System.out.printf("[loadtest] end-to-end verification latency p50=%dms, p99=%dms, max=%dms%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1));
+
+        assertEquals(COUNT, sorted.size(), "시간 내에 검증이 끝나지 않은 업로드가 있습니다.");
+    }
+
+    private Fixture createMarkerWithBeforePhoto(int index) throws IOException {
+        User user = userRepository.save(User.builder()
+                .name("부하테스트" + index)
+                .username("loadtest-" + index + "-" + System.nanoTime())
+                .password("password")
+                .build());
+        Marker marker = markerRepository.save(Marker.builder()
+                .lat(BigDecimal.valueOf(37.5 + index * 0.0001))
+                .lng(BigDecimal.valueOf(127.0))
+                .description("부하 테스트 마커 " + index)
+                .reportedBy(user)
+                .build());
+        photoRepository.save(Photo.builder()
+                .marker(marker)
+                .user(user)
+                .imagePath(fileUploadService.uploadImage(randomJpeg("before-" + index)))
+                .type(Photo.PhotoType.BEFORE)
+                .build());
+        return new Fixture(marker.getId(), user.getId());
+    }
+
+    /**
+     * 업로드 품질 검증(해상도, 용량, 밝기)을 통과하고 내용 해시가 매번 달라 캐시에 걸리지 않는 JPEG 이미지를 만듭니다.
+     */
+    private static MockMultipartFile randomJpeg(String name) {
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "jpg", out);
+            return new MockMultipartFile("images", name + ".jpg", "image/jpeg", out.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private record Fixture(Long markerId, Long userId) {
+    }
+}